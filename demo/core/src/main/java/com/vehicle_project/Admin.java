@@ -41,19 +41,58 @@ public class Admin extends User {
         }
 
         try {
-            booking.confirmBooking(this);
+            // Runs under the booking's branch lock only
+            DataManager.getBranches().approve(booking, this);
+            DataManager.audit(this, AuditLog.Action.APPROVE_BOOKING, booking.getBookingId(), 0);
             System.out.println("Booking " + booking.getBookingId() + " has been APPROVED.");
         } catch (Exception e) {
             System.out.println("Approval Failed: " + e.getMessage());
         }
     }
 
+    // 3b. Approve and record the payment as one transaction; unlike approveBooking this throws
+    //     on failure, and a failed payment puts the booking back to PENDING.
+    //     Charges what is still due (null if the booking was paid in full beforehand); the
+    //     charge is keyed by the booking, so approving twice can never charge twice.
+    public Payment approveAndCharge(Booking booking) {
+        return charge(booking, () -> DataManager.getBranches().approve(booking, this));
+    }
+
+    // 3c. As above, but a booking changed since expectedVersion was read is not approved:
+    //     throws WriteResult.ConflictException instead
+    public Payment approveAndCharge(Booking booking, long expectedVersion) {
+        return charge(booking,
+                      () -> DataManager.getBranches().approve(booking, this, expectedVersion).requireApplied());
+    }
+
+    private Payment charge(Booking booking, Runnable approve) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Error: No booking provided to approve.");
+        }
+        PaymentLedger ledger = DataManager.getPaymentLedger();
+        Payment[] recorded = new Payment[1];
+        DataManager.transaction(DataManager.getBranches().shard(booking.getBranch()), tx -> {
+            approve.run();
+            tx.onRollback(booking::undoApproval);
+            Money due = ledger.getBalanceDue(booking);
+            if (due.isPositive()) {
+                recorded[0] = ledger.charge(booking, due, "approve:" + booking.getBookingId()).getPayment();
+            }
+        });
+        // Only once committed; the amount is in cents
+        DataManager.audit(this, AuditLog.Action.APPROVE_BOOKING, booking.getBookingId(),
+                          recorded[0] == null ? 0 : recorded[0].getAmount().getCents());
+        System.out.println("Booking " + booking.getBookingId() + " has been APPROVED.");
+        return recorded[0];
+    }
+
     // 4. Reject booking (optional enhancement)
     public void rejectBooking(Booking booking, String reason) {
         if (booking == null) {
             System.out.println("Error: No booking provided to reject.");
             return;
         }
+        DataManager.audit(this, AuditLog.Action.REJECT_BOOKING, booking.getBookingId(), 0);
         System.out.println("Booking " + booking.getBookingId() + " has been REJECTED. Reason: " + reason);
     }
 
@@ -63,6 +102,7 @@ public class Admin extends User {
             System.out.println("Error: Vehicle cannot be null.");
             return;
         }
+        DataManager.audit(this, AuditLog.Action.ADD_VEHICLE, vehicle.getVehicleId(), vehicle.getQuantity());
         System.out.println("Vehicle added to system: " + vehicle.getVehicleInfo());
     }
 }
\ No newline at end of file
@@ -0,0 +1,613 @@
+package com.vehicle_project;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// Headless JSON API over the rental domain (JDK HttpServer, no JavaFX toolkit needed).
+//   GET  /vehicles[?branch=&available=true]           fleet listing
+//   POST /vehicles/{id}/stock  {adminEmail, quantity[, version]}   add (or remove) units
+//   GET  /quote?vehicleId=&from=&to=                   price for a date range at the rates of those days
+//   POST /bookings  {customerEmail, vehicleId, rentalDate, returnDate}
+//   GET  /bookings/{id}
+//   POST /bookings/{id}/approve  {adminEmail[, version]}  approve and charge what is still due
+//   GET  /bookings/{id}/payments                      charges, refunds and balance of a booking
+//   POST /bookings/{id}/payments  {amount, idempotencyKey}             pay all or part of it
+//   POST /bookings/{id}/refunds   {adminEmail, amount, idempotencyKey}
+//   GET  /payments[?customer=&limit=]
+//   GET  /payments/summary
+//   GET  /audit?from=&to=[&admin=]                     admin actions on those days (to inclusive)
+// Every request runs on its own virtual thread when the JDK has them, else on a cached pool.
+// Reads take no lock: they go through the branch shards or iterate list snapshots. Every write
+// (each mutating endpoint, and the scheduler and waitlist jobs started by main) runs under one
+// ReentrantLock, DOMAIN_LOCK (a monitor would pin the virtual thread while it waits): the server
+// has a single writer, whatever the branch.
+// Payments are recorded once per idempotencyKey: resending a request returns the payment it
+// recorded the first time (200 instead of 201, "duplicate": true).
+// Vehicles and bookings carry a "version". A write that sends the version it read is rejected
+// with 409 (and the current version) if someone else changed the entity in the meantime.
+public class ApiServer {
+
+    public static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_PAYMENT_LIMIT = 100;
+
+    private static final ReentrantLock WRITE_LOCK = new ReentrantLock();
+
+    // Background work (scheduler, waitlist) runs under the same lock as API writes
+    static final Executor DOMAIN_LOCK = task -> {
+        WRITE_LOCK.lock();
+        try {
+            task.run();
+        } finally {
+            WRITE_LOCK.unlock();
+        }
+    };
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY small responses
+        // sit behind the client's delayed ACK for ~40 ms. Must be set before the first server is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final boolean virtualThreads;
+
+    public ApiServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 256);
+        ExecutorService virtual = newVirtualThreadExecutor();
+        virtualThreads = virtual != null;
+        requestExecutor = virtual != null ? virtual : Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-request");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+        server.createContext("/vehicles", exchange -> handle(exchange, this::vehicles));
+        server.createContext("/quote", exchange -> handle(exchange, this::quote));
+        server.createContext("/bookings", exchange -> handle(exchange, this::bookings));
+        server.createContext("/payments", exchange -> handle(exchange, this::payments));
+        server.createContext("/audit", exchange -> handle(exchange, this::audit));
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() on JDKs that have it (looked up so we still build for 11)
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    // ------------------------------------------------------------
+    // Routing and error mapping
+    // ------------------------------------------------------------
+
+    private interface Route {
+        Response apply(Request request);
+    }
+
+    private static final class Request {
+        private final String method;
+        private final String[] path;          // segments after the context, e.g. {"B3", "approve"}
+        private final Map<String, String> query;
+        private final String body;
+
+        private Request(String method, String[] path, Map<String, String> query, String body) {
+            this.method = method;
+            this.path = path;
+            this.query = query;
+            this.body = body;
+        }
+
+        private Map<String, Object> json() {
+            if (body.isEmpty()) {
+                throw new IllegalArgumentException("Request body is required");
+            }
+            return Json.parseObject(body);
+        }
+    }
+
+    private static final class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    private static final class NotFoundException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private NotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        Response response;
+        try {
+            response = route.apply(parseRequest(exchange));
+        } catch (NotFoundException e) {
+            response = error(404, e.getMessage());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            response = error(400, e.getMessage());
+        } catch (SecurityException e) {
+            response = error(403, e.getMessage());
+        } catch (IllegalStateException e) {
+            response = error(409, e.getMessage());
+        } catch (RuntimeException e) {
+            response = error(500, "Internal error: " + e.getMessage());
+        }
+
+        byte[] bytes = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Request parseRequest(HttpExchange exchange) throws IOException {
+        String context = exchange.getHttpContext().getPath();
+        String rest = exchange.getRequestURI().getPath().substring(context.length());
+        String[] path = rest.isEmpty() || rest.equals("/") ? new String[0] : rest.substring(1).split("/");
+
+        Map<String, String> query = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                              URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        return new Request(exchange.getRequestMethod(), path, query, body);
+    }
+
+    private static Response ok(int status, Json.Writer json) {
+        return new Response(status, json.toString());
+    }
+
+    private static Response error(int status, String message) {
+        return new Response(status, new Json.Writer().beginObject().field("error", message).endObject().toString());
+    }
+
+    private static Response conflict(WriteResult result) {
+        return new Response(409, new Json.Writer().beginObject()
+            .field("error", result.getMessage())
+            .field("version", result.getVersion())
+            .endObject().toString());
+    }
+
+    private static Response methodNotAllowed(Request request) {
+        return error(405, "Method " + request.method + " not allowed here");
+    }
+
+    // ------------------------------------------------------------
+    // Endpoints
+    // ------------------------------------------------------------
+
+    private Response vehicles(Request request) {
+        // POST /vehicles/{id}/stock
+        if (request.path.length == 2 && request.path[1].equals("stock")) {
+            if (!request.method.equals("POST")) {
+                return methodNotAllowed(request);
+            }
+            Vehicle vehicle = findVehicle(request.path[0]);
+            Map<String, Object> body = request.json();
+            Admin admin = findAdmin(requiredField(body, "adminEmail"));
+            int quantity = requiredInt(body, "quantity");
+            Long version = optionalVersion(body);
+            WriteResult[] result = new WriteResult[1];
+            DOMAIN_LOCK.execute(() -> {
+                if (version == null) {
+                    vehicle.addQuantity(quantity, admin);
+                } else {
+                    result[0] = vehicle.addQuantity(quantity, admin, version);
+                }
+            });
+            if (result[0] != null && result[0].isConflict()) {
+                return conflict(result[0]);
+            }
+            return ok(200, writeVehicle(new Json.Writer(), vehicle));
+        }
+        if (!request.method.equals("GET") || request.path.length > 0) {
+            return methodNotAllowed(request);
+        }
+        String branch = request.query.get("branch");
+        boolean onlyAvailable = Boolean.parseBoolean(request.query.get("available"));
+        List<Vehicle> vehicles = branch != null
+            ? DataManager.getBranches().shard(branch).findVehicles(v -> !onlyAvailable || v.isAvailable())
+            : DataManager.getBranches().findVehicles(v -> !onlyAvailable || v.isAvailable());
+
+        Json.Writer json = new Json.Writer().beginArray();
+        for (Vehicle vehicle : vehicles) {
+            writeVehicle(json, vehicle);
+        }
+        return ok(200, json.endArray());
+    }
+
+    private Response quote(Request request) {
+        if (!request.method.equals("GET")) {
+            return methodNotAllowed(request);
+        }
+        Vehicle vehicle = findVehicle(required(request.query, "vehicleId"));
+        LocalDate from = LocalDate.parse(required(request.query, "from"));
+        LocalDate to = LocalDate.parse(required(request.query, "to"));
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Return date cannot be before rental date.");
+        }
+        PricingEngine.Quote quote = DataManager.getPricingEngine().quote(vehicle, from, to);
+        return ok(200, new Json.Writer().beginObject()
+            .field("vehicleId", vehicle.getVehicleId())
+            .field("from", from.toString())
+            .field("to", to.toString())
+            .field("days", quote.getDays())
+            .moneyField("pricePerDay", vehicle.getPricePerDay())
+            .moneyField("listTotal", quote.getListTotal())
+            .moneyField("surcharge", quote.getSurcharge())
+            .moneyField("discount", quote.getDiscount())
+            .moneyField("total", quote.getTotal())
+            .field("available", vehicle.isAvailable())
+            .endObject());
+    }
+
+    private Response bookings(Request request) {
+        // POST /bookings
+        if (request.path.length == 0) {
+            if (!request.method.equals("POST")) {
+                return methodNotAllowed(request);
+            }
+            Map<String, Object> body = request.json();
+            Customer customer = findCustomer(requiredField(body, "customerEmail"));
+            Vehicle vehicle = findVehicle(requiredField(body, "vehicleId"));
+            LocalDate rentalDate = LocalDate.parse(requiredField(body, "rentalDate"));
+            LocalDate returnDate = LocalDate.parse(requiredField(body, "returnDate"));
+
+            Booking[] created = new Booking[1];
+            DOMAIN_LOCK.execute(() -> {
+                created[0] = customer.requestVehicle(vehicle, rentalDate, returnDate);
+                DataManager.getBookingList().add(created[0]);
+            });
+            return ok(201, writeBooking(new Json.Writer(), created[0]));
+        }
+
+        Booking booking = DataManager.getBranches().findBooking(request.path[0]);
+        if (booking == null) {
+            throw new NotFoundException("Unknown booking " + request.path[0]);
+        }
+        // GET /bookings/{id}
+        if (request.path.length == 1) {
+            if (!request.method.equals("GET")) {
+                return methodNotAllowed(request);
+            }
+            return ok(200, writeBooking(new Json.Writer(), booking));
+        }
+        // POST /bookings/{id}/approve
+        if (request.path.length == 2 && request.path[1].equals("approve")) {
+            if (!request.method.equals("POST")) {
+                return methodNotAllowed(request);
+            }
+            Map<String, Object> body = request.json();
+            Admin admin = findAdmin(requiredField(body, "adminEmail"));
+            Long version = optionalVersion(body);
+            Payment[] payment = new Payment[1];
+            try {
+                DOMAIN_LOCK.execute(() -> payment[0] = version == null
+                    ? admin.approveAndCharge(booking) : admin.approveAndCharge(booking, version));
+            } catch (WriteResult.ConflictException e) {
+                return conflict(e.getResult());
+            }
+            Json.Writer json = new Json.Writer().beginObject().name("booking");
+            writeBooking(json, booking).name("payment");
+            if (payment[0] == null) {
+                json.value((String) null);   // paid in full before approval
+            } else {
+                writePayment(json, payment[0]);
+            }
+            return ok(200, json.endObject());
+        }
+        // GET|POST /bookings/{id}/payments, POST /bookings/{id}/refunds
+        if (request.path.length == 2 && (request.path[1].equals("payments") || request.path[1].equals("refunds"))) {
+            PaymentLedger ledger = DataManager.getPaymentLedger();
+            boolean refund = request.path[1].equals("refunds");
+            if (request.method.equals("GET") && !refund) {
+                return ok(200, writeLedger(new Json.Writer(), ledger, booking));
+            }
+            if (!request.method.equals("POST")) {
+                return methodNotAllowed(request);
+            }
+            Map<String, Object> body = request.json();
+            Admin admin = refund ? findAdmin(requiredField(body, "adminEmail")) : null;
+            Money amount = requiredAmount(body, "amount");
+            String key = requiredField(body, "idempotencyKey");
+            PaymentLedger.Receipt[] receipt = new PaymentLedger.Receipt[1];
+            DOMAIN_LOCK.execute(() -> receipt[0] = refund
+                ? ledger.refund(booking, amount, key, admin)
+                : ledger.charge(booking, amount, key));
+            Json.Writer json = new Json.Writer().beginObject()
+                .field("duplicate", receipt[0].isDuplicate())
+                .name("payment");
+            writePayment(json, receipt[0].getPayment()).name("ledger");
+            writeLedger(json, ledger, booking);
+            return ok(receipt[0].isDuplicate() ? 200 : 201, json.endObject());
+        }
+        throw new NotFoundException("Unknown path");
+    }
+
+    private Response payments(Request request) {
+        if (!request.method.equals("GET")) {
+            return methodNotAllowed(request);
+        }
+        // GET /payments/summary
+        if (request.path.length == 1 && request.path[0].equals("summary")) {
+            long total = 0;   // cents
+            List<Payment> payments = DataManager.getPaymentList().snapshot();
+            for (Payment payment : payments) {
+                total += payment.getSignedAmount().getCents();
+            }
+            int count = payments.size();
+            return ok(200, new Json.Writer().beginObject()
+                .field("count", count)
+                .moneyField("totalRevenue", Money.ofCents(total))
+                .endObject());
+        }
+        if (request.path.length > 0) {
+            throw new NotFoundException("Unknown path");
+        }
+
+        // GET /payments, newest first
+        String customer = request.query.get("customer");
+        int limit = request.query.containsKey("limit")
+            ? Integer.parseInt(request.query.get("limit")) : DEFAULT_PAYMENT_LIMIT;
+        List<Payment> selected = new ArrayList<>();
+        List<Payment> payments = DataManager.getPaymentList().snapshot();
+        for (int i = payments.size() - 1; i >= 0 && selected.size() < limit; i--) {
+            Payment payment = payments.get(i);
+            if (customer == null || payment.getCustomer().getEmail().equalsIgnoreCase(customer)) {
+                selected.add(payment);
+            }
+        }
+        Json.Writer json = new Json.Writer().beginArray();
+        for (Payment payment : selected) {
+            writePayment(json, payment);
+        }
+        return ok(200, json.endArray());
+    }
+
+    private Response audit(Request request) {
+        if (!request.method.equals("GET")) {
+            return methodNotAllowed(request);
+        }
+        if (request.path.length > 0) {
+            throw new NotFoundException("Unknown path");
+        }
+        AuditLog log = DataManager.getAuditLog();
+        if (log == null) {
+            throw new NotFoundException("Audit log is not enabled");
+        }
+        LocalDate from = LocalDate.parse(required(request.query, "from"));
+        LocalDate to = LocalDate.parse(required(request.query, "to"));
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date.");
+        }
+        String admin = request.query.containsKey("admin") ? findAdmin(request.query.get("admin")).getEmail() : null;
+        ZoneId zone = ZoneId.systemDefault();
+        List<AuditLog.Entry> entries = log.query(admin, from.atStartOfDay(zone).toInstant(),
+                                                 to.plusDays(1).atStartOfDay(zone).toInstant());
+        Json.Writer json = new Json.Writer().beginArray();
+        for (AuditLog.Entry entry : entries) {
+            json.beginObject()
+                .field("time", entry.getTimestamp().toString())
+                .field("adminEmail", entry.getAdminEmail())
+                .field("action", entry.getAction().name())
+                .field("entityId", entry.getEntityId())
+                .field("delta", entry.getDelta())
+                .endObject();
+        }
+        return ok(200, json.endArray());
+    }
+
+    // ------------------------------------------------------------
+    // Lookups and JSON shapes
+    // ------------------------------------------------------------
+
+    private static Vehicle findVehicle(String vehicleId) {
+        Vehicle vehicle = DataManager.getBranches().findVehicle(vehicleId);
+        if (vehicle == null) {
+            throw new NotFoundException("Unknown vehicle " + vehicleId);
+        }
+        return vehicle;
+    }
+
+    private static Customer findCustomer(String email) {
+        for (Customer customer : DataManager.getCustomerList()) {   // iterates a snapshot
+            if (customer.getEmail().equalsIgnoreCase(email)) {
+                return customer;
+            }
+        }
+        throw new NotFoundException("Unknown customer " + email);
+    }
+
+    private static Admin findAdmin(String email) {
+        for (Admin admin : DataManager.getAdminList()) {
+            if (admin.getEmail().equalsIgnoreCase(email)) {
+                return admin;
+            }
+        }
+        throw new SecurityException("Unknown admin " + email);
+    }
+
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing parameter " + name);
+        }
+        return value;
+    }
+
+    private static String requiredField(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (!(value instanceof String) || ((String) value).isBlank()) {
+            throw new IllegalArgumentException("Missing field " + name);
+        }
+        return (String) value;
+    }
+
+    private static int requiredInt(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (!(value instanceof Double) || (Double) value != Math.rint((Double) value)) {
+            throw new IllegalArgumentException("Field " + name + " must be a whole number");
+        }
+        return ((Double) value).intValue();
+    }
+
+    private static Money requiredAmount(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (!(value instanceof Double) || ((Double) value).isInfinite() || !Money.of((Double) value).isPositive()) {
+            throw new IllegalArgumentException("Field " + name + " must be a positive amount");
+        }
+        return Money.of((Double) value);
+    }
+
+    // null when the client did not send one (an unconditional write)
+    private static Long optionalVersion(Map<String, Object> body) {
+        Object value = body.get("version");
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Double) || (Double) value < 0 || (Double) value != Math.rint((Double) value)) {
+            throw new IllegalArgumentException("Field version must be a whole number");
+        }
+        return ((Double) value).longValue();
+    }
+
+    private static Json.Writer writeVehicle(Json.Writer json, Vehicle vehicle) {
+        return json.beginObject()
+            .field("id", vehicle.getVehicleId())
+            .field("type", UtilizationEngine.typeOf(vehicle))
+            .field("subtype", vehicle.getSubtype())
+            .field("branch", vehicle.getBranch())
+            .field("brand", vehicle.getBrand())
+            .field("model", vehicle.getModel())
+            .field("year", vehicle.getYear())
+            .moneyField("pricePerDay", vehicle.getPricePerDay())
+            .field("quantity", vehicle.getQuantity())
+            .field("rented", vehicle.getRentedCount())
+            .field("maintenance", vehicle.getMaintenanceCount())
+            .field("available", vehicle.isAvailable())
+            .field("version", vehicle.getVersion())
+            .endObject();
+    }
+
+    private static Json.Writer writeBooking(Json.Writer json, Booking booking) {
+        Rentable item = booking.getRentedItem();
+        int unit = booking.getUnit();
+        return json.beginObject()
+            .field("id", booking.getBookingId())
+            .field("branch", booking.getBranch())
+            .field("customerEmail", booking.getCustomer().getEmail())
+            .field("vehicleId", item instanceof Vehicle ? ((Vehicle) item).getVehicleId() : null)
+            .field("unit", unit != UnitFleet.NO_UNIT ? ((Vehicle) item).getPlate(unit) : null)
+            .field("rentalDate", booking.getRentalDate().toString())
+            .field("returnDate", booking.getReturnDate().toString())
+            .moneyField("totalCost", booking.getTotalCost())
+            .field("status", booking.getStatus().name())
+            .field("paid", booking.isPaid())
+            .field("statusReason", booking.getStatusReason())
+            .field("version", booking.getVersion())
+            .endObject();
+    }
+
+    private static Json.Writer writePayment(Json.Writer json, Payment payment) {
+        return json.beginObject()
+            .field("id", payment.getPaymentId())
+            .field("bookingId", payment.getBookingId())
+            .field("customerEmail", payment.getCustomer().getEmail())
+            .moneyField("amount", payment.getAmount())
+            .field("kind", payment.getKind().name())
+            .field("date", payment.getPaymentDate().toString())
+            .endObject();
+    }
+
+    private static Json.Writer writeLedger(Json.Writer json, PaymentLedger ledger, Booking booking) {
+        json.beginObject()
+            .field("bookingId", booking.getBookingId())
+            .moneyField("totalCost", booking.getTotalCost())
+            .moneyField("paid", ledger.getPaidAmount(booking.getBookingId()))
+            .moneyField("due", ledger.getBalanceDue(booking))
+            .name("payments").beginArray();
+        for (Payment payment : ledger.getPayments(booking.getBookingId())) {
+            writePayment(json, payment);
+        }
+        return json.endArray().endObject();
+    }
+
+    // Usage: ApiServer [port]   (starts with the sample data, persisted to JdbcRentalRepository.defaultFile(),
+    //                           admin actions recorded under AuditLog.defaultDirectory())
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        DataManager.enablePersistence(JdbcRentalRepository.open(JdbcRentalRepository.defaultFile()));
+        DataManager.enableAuditLog(AuditLog.open(AuditLog.defaultDirectory()));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            DataManager.disablePersistence();
+            DataManager.disableAuditLog();
+        }, "api-shutdown"));
+        DataManager.loadSampleData();
+        DataManager.getBookingScheduler().start(DOMAIN_LOCK);
+        DataManager.getWaitlist().start(DOMAIN_LOCK);
+
+        ApiServer server = new ApiServer(port);
+        server.start();
+        System.out.println("Vehicle rental API listening on http://localhost:" + server.getPort()
+            + (server.usesVirtualThreads() ? " (virtual threads)" : " (thread pool)"));
+    }
+}
@@ -0,0 +1,391 @@
+package com.vehicle_project;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Append-only binary log of admin actions, written into memory-mapped segment files.
+// Every record is RECORD_SIZE bytes, so record n lives at a known offset of a known segment:
+//   0  timestamp   long   epoch milliseconds, never decreasing
+//   8  admin       int    ordinal of the admin's email in admins.txt
+//   12 action      byte   Action code (0 marks the unwritten tail of a segment)
+//   13 id length   byte
+//   14 (reserved)  short
+//   16 delta       long   see Action
+//   24 entity id   UTF-8, at most MAX_ENTITY_ID_BYTES (longer ids are cut between characters)
+// A segment holds SEGMENT_RECORDS records; when it is full the next file is started.
+// A sparse index (first timestamp of every INDEX_INTERVAL records) lives in memory and is
+// rebuilt on open from those records alone, so a time range query binary-searches the index
+// and only reads the records of the segments that cover the range.
+public class AuditLog implements AutoCloseable {
+
+    public static final int RECORD_SIZE = 64;
+    public static final int SEGMENT_RECORDS = 1 << 16;     // 4 MiB per segment
+    public static final int INDEX_INTERVAL = 256;
+    public static final int MAX_ENTITY_ID_BYTES = RECORD_SIZE - 24;
+    private static final String ADMINS_FILE = "admins.txt";
+
+    public enum Action {
+        ADD_QUANTITY(1),       // delta: units added (negative when removed)
+        APPROVE_BOOKING(2),    // delta: amount charged in cents, 0 when nothing was charged
+        REJECT_BOOKING(3),     // delta: 0
+        ADD_VEHICLE(4),        // delta: initial quantity
+        REFUND_PAYMENT(5);     // delta: amount refunded in cents, negative
+
+        private final byte code;
+
+        Action(int code) {
+            this.code = (byte) code;
+        }
+
+        private static Action of(byte code) {
+            for (Action action : values()) {
+                if (action.code == code) {
+                    return action;
+                }
+            }
+            throw new IllegalStateException("Unknown audit action code " + code);
+        }
+    }
+
+    // One decoded record
+    public static final class Entry {
+        private final long sequence;
+        private final Instant timestamp;
+        private final String adminEmail;
+        private final Action action;
+        private final String entityId;
+        private final long delta;
+
+        private Entry(long sequence, Instant timestamp, String adminEmail, Action action, String entityId, long delta) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.adminEmail = adminEmail;
+            this.action = action;
+            this.entityId = entityId;
+            this.delta = delta;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        public String getAdminEmail() {
+            return adminEmail;
+        }
+
+        public Action getAction() {
+            return action;
+        }
+
+        public String getEntityId() {
+            return entityId;
+        }
+
+        public long getDelta() {
+            return delta;
+        }
+
+        @Override
+        public String toString() {
+            return timestamp + " " + adminEmail + " " + action + " " + entityId + (delta != 0 ? " " + delta : "");
+        }
+    }
+
+    private final Path directory;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final List<String> admins = new ArrayList<>();          // ordinal -> email
+    private final Map<String, Integer> adminOrdinals = new HashMap<>();
+    private long[] indexTimes = new long[64];   // indexTimes[i] = timestamp of record i * INDEX_INTERVAL
+    private int indexSize;
+    private long count;
+    private long lastTimestamp;
+    private long lastScanned;                   // records read by the last query
+    private boolean closed;
+
+    private AuditLog(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        Path adminsFile = directory.resolve(ADMINS_FILE);
+        if (Files.exists(adminsFile)) {
+            for (String email : Files.readAllLines(adminsFile, StandardCharsets.UTF_8)) {
+                if (!email.isEmpty()) {
+                    adminOrdinals.put(email, admins.size());
+                    admins.add(email);
+                }
+            }
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = new ArrayList<>();
+            listing.filter(path -> path.getFileName().toString().matches("audit-\\d{6}\\.seg"))
+                   .sorted()
+                   .forEach(files::add);
+        }
+        for (int i = 0; i < files.size(); i++) {
+            if (!files.get(i).equals(segmentFile(i))) {
+                throw new IllegalStateException("Audit segment " + segmentFile(i).getFileName() + " is missing");
+            }
+            segments.add(map(files.get(i)));
+        }
+        if (!segments.isEmpty()) {
+            count = (long) (segments.size() - 1) * SEGMENT_RECORDS + usedRecords(segments.get(segments.size() - 1));
+        }
+        for (long sequence = 0; sequence < count; sequence += INDEX_INTERVAL) {
+            addIndexEntry(timestampAt(sequence));
+        }
+        if (count > 0) {
+            lastTimestamp = timestampAt(count - 1);
+        }
+    }
+
+    public static AuditLog open(Path directory) {
+        try {
+            return new AuditLog(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open audit log in " + directory, e);
+        }
+    }
+
+    // data/audit under the working directory unless -Drental.audit=<dir> says otherwise
+    public static Path defaultDirectory() {
+        return Paths.get(System.getProperty("rental.audit", "data/audit"));
+    }
+
+    // ------------------------------------------------------------
+    // Writing
+    // ------------------------------------------------------------
+
+    public void record(User admin, Action action, String entityId, long delta) {
+        append(Instant.now(), admin.getEmail(), action, entityId, delta);
+    }
+
+    // Timestamps never go backwards in the log: an earlier one is recorded as the last one seen
+    public synchronized void append(Instant at, String adminEmail, Action action, String entityId, long delta) {
+        if (closed) {
+            throw new IllegalStateException("Audit log is closed");
+        }
+        if (adminEmail == null || action == null || entityId == null) {
+            throw new IllegalArgumentException("Admin, action and entity cannot be null");
+        }
+        long timestamp = Math.max(at.toEpochMilli(), lastTimestamp);
+        byte[] id = entityId.getBytes(StandardCharsets.UTF_8);
+        int idLength = cutLength(id, MAX_ENTITY_ID_BYTES);
+
+        MappedByteBuffer segment = segmentForAppend();
+        int offset = (int) (count % SEGMENT_RECORDS) * RECORD_SIZE;
+        segment.putLong(offset, timestamp);
+        segment.putInt(offset + 8, adminOrdinal(adminEmail));
+        segment.put(offset + 13, (byte) idLength);
+        segment.putLong(offset + 16, delta);
+        for (int i = 0; i < idLength; i++) {
+            segment.put(offset + 24 + i, id[i]);
+        }
+        segment.put(offset + 12, action.code);   // last: a record counts once its action is set
+
+        if (count % INDEX_INTERVAL == 0) {
+            addIndexEntry(timestamp);
+        }
+        lastTimestamp = timestamp;
+        count++;
+    }
+
+    private MappedByteBuffer segmentForAppend() {
+        int index = (int) (count / SEGMENT_RECORDS);
+        if (index == segments.size()) {
+            if (index > 0) {
+                segments.get(index - 1).force();   // sealed: make sure it is on disk
+            }
+            try {
+                segments.add(map(segmentFile(index)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start audit segment " + index, e);
+            }
+        }
+        return segments.get(index);
+    }
+
+    private int adminOrdinal(String email) {
+        Integer ordinal = adminOrdinals.get(email);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        try {
+            Files.write(directory.resolve(ADMINS_FILE), (email + "\n").getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not register admin " + email + " in the audit log", e);
+        }
+        adminOrdinals.put(email, admins.size());
+        admins.add(email);
+        return admins.size() - 1;
+    }
+
+    private void addIndexEntry(long timestamp) {
+        if (indexSize == indexTimes.length) {
+            indexTimes = Arrays.copyOf(indexTimes, indexSize * 2);
+        }
+        indexTimes[indexSize++] = timestamp;
+    }
+
+    // Write everything appended so far through to the segment files
+    public synchronized void flush() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        segments.clear();   // the mappings go away once collected
+    }
+
+    // ------------------------------------------------------------
+    // Queries
+    // ------------------------------------------------------------
+
+    // Everything recorded in [from, to), oldest first
+    public List<Entry> query(Instant from, Instant to) {
+        return query(null, from, to);
+    }
+
+    // Everything adminEmail did in [from, to) (null for every admin), oldest first
+    public synchronized List<Entry> query(String adminEmail, Instant from, Instant to) {
+        List<Entry> result = new ArrayList<>();
+        lastScanned = 0;
+        Integer admin = null;
+        if (adminEmail != null) {
+            admin = adminOrdinals.get(adminEmail);
+            if (admin == null) {
+                return result;   // never did anything
+            }
+        }
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        for (long sequence = firstAtOrAfter(fromMillis); sequence < count; sequence++) {
+            MappedByteBuffer segment = segments.get((int) (sequence / SEGMENT_RECORDS));
+            int offset = (int) (sequence % SEGMENT_RECORDS) * RECORD_SIZE;
+            lastScanned++;
+            long timestamp = segment.getLong(offset);
+            if (timestamp >= toMillis) {
+                break;
+            }
+            if (timestamp < fromMillis || (admin != null && segment.getInt(offset + 8) != admin)) {
+                continue;
+            }
+            result.add(decode(sequence, segment, offset));
+        }
+        return result;
+    }
+
+    // First record of the index block that can hold timestamps >= millis
+    private long firstAtOrAfter(long millis) {
+        int low = 0;
+        int high = indexSize;   // first index entry with time >= millis
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (indexTimes[mid] < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return (long) Math.max(0, low - 1) * INDEX_INTERVAL;   // the block before may still end inside the range
+    }
+
+    private Entry decode(long sequence, ByteBuffer segment, int offset) {
+        int idLength = segment.get(offset + 13);
+        byte[] id = new byte[idLength];
+        for (int i = 0; i < idLength; i++) {
+            id[i] = segment.get(offset + 24 + i);
+        }
+        return new Entry(sequence, Instant.ofEpochMilli(segment.getLong(offset)), admins.get(segment.getInt(offset + 8)),
+                         Action.of(segment.get(offset + 12)), new String(id, StandardCharsets.UTF_8),
+                         segment.getLong(offset + 16));
+    }
+
+    public synchronized long size() {
+        return count;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    // Records the last query had to read, to compare with size()
+    public synchronized long getLastScanned() {
+        return lastScanned;
+    }
+
+    // ------------------------------------------------------------
+    // Segment files
+    // ------------------------------------------------------------
+
+    private Path segmentFile(int index) {
+        return directory.resolve(String.format("audit-%06d.seg", index));
+    }
+
+    private long timestampAt(long sequence) {
+        return segments.get((int) (sequence / SEGMENT_RECORDS)).getLong((int) (sequence % SEGMENT_RECORDS) * RECORD_SIZE);
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            // Mapping past the end grows the file; the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) SEGMENT_RECORDS * RECORD_SIZE);
+        }
+    }
+
+    // Bytes of utf8 to keep within max: never ends inside a multi-byte character, so a cut id
+    // still decodes to its leading characters
+    private static int cutLength(byte[] utf8, int max) {
+        if (utf8.length <= max) {
+            return utf8.length;
+        }
+        int length = max;
+        while (length > 0 && (utf8[length] & 0xC0) == 0x80) {   // the first byte dropped continues a character
+            length--;
+        }
+        return length;
+    }
+
+    // Records are written in order, so the written part is a prefix: binary search for its end
+    private static int usedRecords(ByteBuffer segment) {
+        int low = 0;
+        int high = SEGMENT_RECORDS;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (segment.get(mid * RECORD_SIZE + 12) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
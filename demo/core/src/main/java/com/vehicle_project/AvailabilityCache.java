@@ -0,0 +1,310 @@
+package com.vehicle_project;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Bounded LRU cache for "how many units of this vehicle are free on [from, to)" and
+// "which vehicles of this type are free on [from, to)".
+// Entries hold the busiest day of the range (peak occupancy), which only bookings change.
+// Stock is applied when reading: free = fleet size - peak. That matters because renting and
+// returning go through setQuantity too, and should not throw away the whole calendar.
+// - A booking approved, cancelled or returned drops only the entries of its vehicle, its type
+//   and "all types" whose range overlaps the days it gave or took.
+// - A stock change (addQuantity/setQuantity, rent, return) bumps a per-type stock version;
+//   type entries then re-filter their cached peaks against current stock on the next read.
+// - Vehicles added to or removed from the fleet drop the entries of their type.
+public class AvailabilityCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final String ALL_TYPES = "*";
+
+    private static final class Key {
+        private final String scope;   // "V:" + vehicle id, or "T:" + type name / "T:*"
+        private final long fromDay;
+        private final long toDay;     // exclusive
+
+        private Key(String scope, long fromDay, long toDay) {
+            this.scope = scope;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return fromDay == key.fromDay && toDay == key.toDay && scope.equals(key.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return (scope.hashCode() * 31 + Long.hashCode(fromDay)) * 31 + Long.hashCode(toDay);
+        }
+    }
+
+    // Peaks of every vehicle of a type, plus the vehicles they leave free at stockVersion
+    private static final class TypeEntry {
+        private final Vehicle[] vehicles;
+        private final int[] peaks;
+        private List<Vehicle> available;
+        private long stockVersion;
+
+        private TypeEntry(Vehicle[] vehicles, int[] peaks) {
+            this.vehicles = vehicles;
+            this.peaks = peaks;
+        }
+    }
+
+    private final UtilizationEngine engine;
+    private final List<Vehicle> vehicles;
+    private final int maxEntries;
+    private final LinkedHashMap<Key, Object> entries;         // Integer peak or TypeEntry, guarded by this
+    private final Map<String, Set<Key>> keysByScope = new HashMap<>();
+    private final Map<String, Long> stockVersions = new HashMap<>();
+    private long generation;   // bumped by every invalidation; a result computed across one is not stored
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public AvailabilityCache(UtilizationEngine engine, ChangeList<Vehicle> vehicles, int maxEntries) {
+        if (engine == null || vehicles == null) {
+            throw new IllegalArgumentException("Engine and vehicle list cannot be null");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        this.engine = engine;
+        this.vehicles = vehicles;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                if (size() <= AvailabilityCache.this.maxEntries) {
+                    return false;
+                }
+                unindex(eldest.getKey());
+                evictions++;
+                return true;
+            }
+        };
+
+        engine.addOccupancyListener((vehicle, from, to) -> {
+            invalidate(vehicle, from, to);
+            stockChanged(vehicle);   // active rentals count towards the fleet size
+        });
+        Vehicle.addChangeListener(this::stockChanged);
+        vehicles.addListener(edits -> {
+            for (ChangeList.Edit<Vehicle> edit : edits) {
+                edit.getRemoved().forEach(this::fleetChanged);
+                edit.getAdded().forEach(this::fleetChanged);
+            }
+        });
+    }
+
+    // Units of vehicle free on every day of [from, to) (a same-day range counts as one day)
+    public int getFreeUnits(Vehicle vehicle, LocalDate from, LocalDate to) {
+        Key key = key("V:" + vehicle.getVehicleId(), from, to);
+        Integer peak;
+        long seen;
+        synchronized (this) {
+            peak = (Integer) entries.get(key);
+            if (peak != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+            seen = generation;
+        }
+        if (peak == null) {
+            peak = engine.getPeakOccupancy(vehicle, from, to);
+            store(key, peak, seen);
+        }
+        return Math.max(0, engine.getCapacity(vehicle) - peak);
+    }
+
+    // Vehicles of type (a class name such as "Car", or null for every type) with at least one
+    // unit free on every day of [from, to), in fleet order
+    public List<Vehicle> findAvailable(String type, LocalDate from, LocalDate to) {
+        String typeName = type == null ? ALL_TYPES : type;
+        Key key = key("T:" + typeName, from, to);
+        TypeEntry entry;
+        long seen;
+        long stockVersion;
+        synchronized (this) {
+            entry = (TypeEntry) entries.get(key);
+            stockVersion = stockVersion(typeName);
+            if (entry != null) {
+                hits++;
+                if (entry.available != null && entry.stockVersion == stockVersion) {
+                    return entry.available;
+                }
+            } else {
+                misses++;
+            }
+            seen = generation;
+        }
+        if (entry == null) {
+            entry = computeEntry(type, from, to);
+        }
+
+        // Stock changed since the list was built (or it never was): re-filter the cached peaks
+        int[] capacities = new int[entry.vehicles.length];
+        engine.getCapacities(entry.vehicles, capacities);
+        List<Vehicle> available = new ArrayList<>();
+        for (int i = 0; i < entry.vehicles.length; i++) {
+            if (capacities[i] > entry.peaks[i]) {
+                available.add(entry.vehicles[i]);
+            }
+        }
+        available = Collections.unmodifiableList(available);
+        synchronized (this) {
+            entry.available = available;
+            entry.stockVersion = stockVersion;
+        }
+        store(key, entry, seen);
+        return available;
+    }
+
+    private TypeEntry computeEntry(String type, LocalDate from, LocalDate to) {
+        List<Vehicle> matching = new ArrayList<>();
+        for (Vehicle vehicle : vehicles) {
+            if (type == null || UtilizationEngine.typeOf(vehicle).equals(type)) {
+                matching.add(vehicle);
+            }
+        }
+        Vehicle[] fleet = matching.toArray(new Vehicle[0]);
+        int[] peaks = new int[fleet.length];
+        for (int i = 0; i < fleet.length; i++) {
+            peaks[i] = engine.getPeakOccupancy(fleet[i], from, to);
+        }
+        return new TypeEntry(fleet, peaks);
+    }
+
+    // Computed outside the lock (the engine has its own); skipped if anything was invalidated meanwhile
+    private synchronized void store(Key key, Object value, long seen) {
+        if (generation != seen) {
+            return;
+        }
+        if (entries.put(key, value) == null) {
+            keysByScope.computeIfAbsent(key.scope, scope -> new HashSet<>()).add(key);
+        }
+    }
+
+    // Drop the entries of vehicle, its type and "all types" whose range overlaps [from, to)
+    public synchronized void invalidate(Vehicle vehicle, LocalDate from, LocalDate to) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        generation++;
+        for (String scope : scopesOf(vehicle)) {
+            Set<Key> keys = keysByScope.get(scope);
+            if (keys == null) {
+                continue;
+            }
+            List<Key> overlapping = new ArrayList<>();
+            for (Key key : keys) {
+                if (key.fromDay < toDay && fromDay < key.toDay) {
+                    overlapping.add(key);
+                }
+            }
+            for (Key key : overlapping) {
+                remove(key);
+            }
+        }
+    }
+
+    // Drop every entry of vehicle, its type and "all types"
+    public synchronized void invalidateVehicle(Vehicle vehicle) {
+        generation++;
+        for (String scope : scopesOf(vehicle)) {
+            Set<Key> keys = keysByScope.get(scope);
+            if (keys != null) {
+                for (Key key : new ArrayList<>(keys)) {
+                    remove(key);
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+        keysByScope.clear();
+    }
+
+    private synchronized void stockChanged(Vehicle vehicle) {
+        generation++;
+        stockVersions.merge(UtilizationEngine.typeOf(vehicle), 1L, Long::sum);
+        stockVersions.merge(ALL_TYPES, 1L, Long::sum);
+    }
+
+    private void fleetChanged(Vehicle vehicle) {
+        invalidateVehicle(vehicle);
+    }
+
+    private long stockVersion(String typeName) {
+        return stockVersions.getOrDefault(typeName, 0L);
+    }
+
+    private void remove(Key key) {
+        entries.remove(key);
+        unindex(key);
+        invalidations++;
+    }
+
+    private void unindex(Key key) {
+        Set<Key> keys = keysByScope.get(key.scope);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByScope.remove(key.scope);
+            }
+        }
+    }
+
+    private static String[] scopesOf(Vehicle vehicle) {
+        return new String[] {"V:" + vehicle.getVehicleId(), "T:" + UtilizationEngine.typeOf(vehicle), "T:" + ALL_TYPES};
+    }
+
+    private static Key key(String scope, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date.");
+        }
+        long fromDay = from.toEpochDay();
+        return new Key(scope, fromDay, Math.max(to.toEpochDay(), fromDay + 1));
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    // Entries dropped because a booking or the fleet changed under them
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,14 @@
+package com.vehicle_project;
+
+// A vehicle of the "Bike" type (see VehicleType)
+public class Bike extends Vehicle {
+
+    public Bike(String vehicleId, String brand, String model, int year, double pricePerDay, int quantity, String bikeType) {
+        super(VehicleType.get("Bike"), vehicleId, brand, model, year, pricePerDay, quantity, bikeType);
+    }
+
+    // e.g., Sport, Cruiser, Touring
+    public String getBikeType() {
+        return getSubtype();
+    }
+}
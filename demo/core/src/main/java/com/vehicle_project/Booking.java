@@ -0,0 +1,368 @@
+package com.vehicle_project;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class Booking {
+    private String bookingId;
+    private Customer customer;
+    private Rentable rentedItem; // Using the Interface type!
+    private LocalDate rentalDate;
+    private LocalDate returnDate;
+    private Money totalCost;
+    private volatile boolean isPaid;          // volatile: read without locking, written under this
+    private volatile BookingStatus status;
+    private volatile String statusReason;
+    private volatile long version;            // bumped by every write; see WriteResult
+    private final Instant createdAt = Instant.now();
+    private final String branch;   // branch of the rented vehicle
+    private final int ordinal;     // the number in the booking id
+    private int unit = UnitFleet.NO_UNIT;   // unit of the vehicle held while approved
+    private boolean paidBeforeApproval;      // given back if the approval is undone
+    // Told synchronously whenever status or paid changes (the ui keeps its cell properties in step)
+    private static final List<Consumer<? super Booking>> changeListeners = new CopyOnWriteArrayList<>();
+    public static int bookingCounter = 0; 
+
+
+
+    public enum BookingStatus {
+        PENDING,
+        APPROVED,
+        REJECTED,
+        COMPLETED,
+        CANCELLED
+    }
+    
+
+    // A new request, priced as quoted right now
+    public Booking(Customer customer, Rentable rentedItem, LocalDate rentalDate, LocalDate returnDate) {
+        this(customer, rentedItem, rentalDate, returnDate, null, false);
+    }
+
+    // A booking restored from history keeps the cost it was booked at; today's rates do not apply to it
+    public Booking(Customer customer, Rentable rentedItem, LocalDate rentalDate, LocalDate returnDate,
+                   Money totalCost) {
+        this(customer, rentedItem, rentalDate, returnDate, requireCost(totalCost), true);
+    }
+
+    private Booking(Customer customer, Rentable rentedItem, LocalDate rentalDate, LocalDate returnDate,
+                    Money totalCost, boolean restored) {
+        
+        // 1. Validate Customer
+        if (customer == null) {
+            throw new IllegalArgumentException("Error: Customer cannot be null.");
+        }
+
+        // 2. Validate Item
+        if (rentedItem == null) {
+            throw new IllegalArgumentException("Error: Rented item cannot be null.");
+        }
+
+        // 3. Validate Dates exist
+        if (rentalDate == null || returnDate == null) {
+            throw new IllegalArgumentException("Error: Dates cannot be null.");
+        }
+
+        // 4. Validate Date Logic (Time Travel Check)
+        if (returnDate.isBefore(rentalDate)) {
+            throw new IllegalArgumentException("Error: Return date cannot be before rental date.");
+        }
+        this.ordinal = bookingCounter;
+        this.bookingId = "B" + ordinal;
+        this.customer = customer;
+        this.rentedItem = rentedItem;
+        this.rentalDate = rentalDate;
+        this.returnDate = returnDate;
+        this.branch = rentedItem instanceof Vehicle ? ((Vehicle) rentedItem).getBranch() : Vehicle.DEFAULT_BRANCH;
+        this.isPaid = false;
+        this.status = BookingStatus.PENDING;
+        if (restored) {
+            this.totalCost = totalCost;
+        } else {
+            calculateTotalCost();
+        }
+        bookingCounter++;
+    }
+
+    private static Money requireCost(Money totalCost) {
+        if (totalCost == null || totalCost.isNegative()) {
+            throw new IllegalArgumentException("Error: Total cost cannot be null or negative.");
+        }
+        return totalCost;
+    }
+
+     private void calculateTotalCost() {
+        if (rentedItem instanceof Vehicle) {
+            // Vehicles are priced per day from utilization and demand, as quoted right now
+            this.totalCost = DataManager.getPricingEngine().quote((Vehicle) rentedItem, rentalDate, returnDate).getTotal();
+            return;
+        }
+        long days = java.time.temporal.ChronoUnit.DAYS.between(rentalDate, returnDate);
+        this.totalCost = rentedItem.getRentalPrice((int) days);
+    }
+
+    public String getBookingId() {
+        return bookingId;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public Rentable getRentedItem() {
+        return rentedItem;
+    }
+
+    public LocalDate getRentalDate() {
+        return rentalDate;
+    }   
+
+    public LocalDate getReturnDate() {
+        return returnDate;
+    }
+
+    public String getBranch() {
+        return branch;
+    }
+
+    // B12 -> 12; rented units record which booking holds them by this
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    // Index of the vehicle unit this booking holds (see Vehicle.getPlate), or UnitFleet.NO_UNIT
+    public synchronized int getUnit() {
+        return unit;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Money getTotalCost() {
+        return totalCost;
+    }
+
+    public boolean isPaid() {
+        return isPaid;
+    }
+
+    public synchronized void makePayment() {
+        setPaid(true);
+    }
+
+    // PaymentLedger keeps this in step with the payments it records
+    synchronized void updatePaid(boolean paid) {
+        if (isPaid != paid) {
+            setPaid(paid);
+        }
+    }
+
+    public static void addChangeListener(Consumer<? super Booking> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        changeListeners.add(listener);
+    }
+
+    public static void removeChangeListener(Consumer<? super Booking> listener) {
+        changeListeners.remove(listener);
+    }
+
+    public String getDetails() {
+        return "Booking ID: " + bookingId + "\n" +
+               "Customer: " + customer.getName() + "\n" +
+               "Vehicle: " + rentedItem.getDescription() + "\n" +
+               "Total Cost: " + totalCost;
+    }
+
+    // Incremented by every change to status or payment.
+    // Reads never lock: read the version, then the fields, and pass the version back with the write.
+    public long getVersion() {
+        return version;
+    }
+
+    // Versioned status changes: only applied if nobody wrote since expectedVersion was read.
+    // The usual checks still throw (wrong role, wrong status, no stock).
+
+    public synchronized WriteResult confirmBooking(Admin admin, long expectedVersion) {
+        if (version != expectedVersion) {
+            return WriteResult.conflict(bookingId, expectedVersion, version);
+        }
+        confirmBooking(admin);
+        return WriteResult.applied(bookingId, version);
+    }
+
+    public synchronized WriteResult cancelBooking(String reason, long expectedVersion) {
+        if (version != expectedVersion) {
+            return WriteResult.conflict(bookingId, expectedVersion, version);
+        }
+        cancelBooking(reason);
+        return WriteResult.applied(bookingId, version);
+    }
+
+    public synchronized WriteResult completeBooking(String reason, long expectedVersion) {
+        if (version != expectedVersion) {
+            return WriteResult.conflict(bookingId, expectedVersion, version);
+        }
+        completeBooking(reason);
+        return WriteResult.applied(bookingId, version);
+    }
+
+    public synchronized void confirmBooking(Admin admin) {
+        // Check 1: Only Admin can confirm
+        if (admin == null) {
+            throw new SecurityException("Only Admin can approve bookings.");
+        }
+
+        // Check 2: Must be Admin role
+       if (!admin.hasRole(User.UserRole.ADMIN)) {
+           throw new SecurityException("User does not have Admin privileges!");
+       }
+
+        // Check 3: Booking must be pending
+        if (status != BookingStatus.PENDING) {
+            throw new IllegalStateException("Booking is not in pending state. Current status: " + status);
+        }
+
+        // Check 4: Take a unit; the vehicle checks its stock under its own lock, so two approvals
+        // racing for the last unit cannot both get one
+        int days = (int) java.time.temporal.ChronoUnit.DAYS.between(rentalDate, returnDate);
+        if (rentedItem instanceof Vehicle) {
+            int taken = ((Vehicle) rentedItem).rent(customer, days, ordinal);
+            if (taken == UnitFleet.NO_UNIT) {
+                throw new IllegalStateException("Vehicle is no longer available.");
+            }
+            unit = taken;
+        } else {
+            if (!rentedItem.isAvailable()) {
+                throw new IllegalStateException("Vehicle is no longer available.");
+            }
+            rentedItem.rent(customer, days, admin);
+        }
+
+        // Approve the booking only once it holds a unit
+        paidBeforeApproval = isPaid;
+        setStatus(BookingStatus.APPROVED);
+        setPaid(true);
+        DataManager.getUtilizationEngine().onApproved(this);
+        DataManager.getBookingScheduler().track(this);
+        DataManager.getEventBus().publish(new DomainEvent.BookingApproved(this));
+    }
+
+    public synchronized void cancelBooking(String reason) {
+        // Only open bookings can be cancelled
+        if (status != BookingStatus.PENDING && status != BookingStatus.APPROVED) {
+            throw new IllegalStateException("Booking cannot be cancelled. Current status: " + status);
+        }
+
+        // An approved booking already took a unit out of stock, so give it back
+        if (status == BookingStatus.APPROVED) {
+            giveBack();
+            DataManager.getUtilizationEngine().onCancelled(this);
+        }
+        DataManager.getBookingScheduler().untrack(this);
+        BookingStatus oldStatus = status;
+        this.statusReason = reason;
+        setStatus(BookingStatus.CANCELLED);
+        DataManager.getEventBus().publish(new DomainEvent.BookingStatusChanged(this, oldStatus));
+    }
+
+    // Puts an approval back to PENDING (used when a transaction around the approval fails)
+    synchronized void undoApproval() {
+        if (status != BookingStatus.APPROVED) {
+            throw new IllegalStateException("Booking is not approved. Current status: " + status);
+        }
+        giveBack();
+        DataManager.getUtilizationEngine().onCancelled(this);
+        DataManager.getBookingScheduler().trackPending(this);
+        setStatus(BookingStatus.PENDING);
+        setPaid(paidBeforeApproval);   // a booking paid up front stays paid
+        DataManager.getEventBus().publish(new DomainEvent.BookingStatusChanged(this, BookingStatus.APPROVED));
+    }
+
+    public void completeBooking() {
+        completeBooking(null);
+    }
+
+    public synchronized void completeBooking(String reason) {
+        // Only approved (rented out) bookings can be completed
+        if (status != BookingStatus.APPROVED) {
+            throw new IllegalStateException("Only approved bookings can be completed. Current status: " + status);
+        }
+
+        giveBack();
+        DataManager.getUtilizationEngine().onReturned(this, LocalDate.now());
+        DataManager.getBookingScheduler().untrack(this);
+        this.statusReason = reason;
+        setStatus(BookingStatus.COMPLETED);
+        DataManager.getEventBus().publish(new DomainEvent.BookingStatusChanged(this, BookingStatus.APPROVED));
+    }
+
+    // The unit this booking holds goes back by index; other rentables have no units
+    private void giveBack() {
+        if (rentedItem instanceof Vehicle) {
+            if (unit == UnitFleet.NO_UNIT) {
+                throw new IllegalStateException("Booking " + bookingId + " holds no unit to return");
+            }
+            ((Vehicle) rentedItem).returnUnit(unit);
+            unit = UnitFleet.NO_UNIT;
+        } else {
+            rentedItem.returnItem();
+        }
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    // Single write paths so change listeners always hear about it (callers hold this)
+    private void setStatus(BookingStatus status) {
+        this.status = status;
+        version++;
+        fireChanged();
+    }
+
+    private void setPaid(boolean paid) {
+        this.isPaid = paid;
+        version++;
+        fireChanged();
+    }
+
+    private void fireChanged() {
+        for (Consumer<? super Booking> listener : changeListeners) {
+            listener.accept(this);
+        }
+    }
+
+    public String getStatusReason() {
+        return statusReason;
+    }
+
+    // Used when loading historical bookings: sets the recorded state without taking stock. An
+    // approved one gets its rented unit from restoreUnit once the booking is actually kept.
+    synchronized void restoreStatus(BookingStatus status, boolean paid) {
+        if (status == null) {
+            throw new IllegalArgumentException("Error: Status cannot be null.");
+        }
+        setStatus(status);
+        setPaid(paid);
+    }
+
+    // A restored approved booking is given a rented unit of its own, so completing or
+    // cancelling it later hands back that unit like any other approval
+    synchronized void restoreUnit() {
+        if (status == BookingStatus.APPROVED && unit == UnitFleet.NO_UNIT && rentedItem instanceof Vehicle) {
+            unit = ((Vehicle) rentedItem).restoreRentedUnit(ordinal);
+        }
+    }
+
+
+    
+}
+
+
+
@@ -0,0 +1,230 @@
+package com.vehicle_project;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Keeps open bookings on a TimingWheel:
+//   - PENDING requests expire (CANCELLED with a reason) after the pending TTL, or once their
+//     rental date has passed, whichever comes first
+//   - APPROVED bookings are flagged overdue (BookingOverdue event) when the end of their
+//     return date has passed, and completed automatically after the grace period,
+//     which returns the unit to stock
+// Each booking has at most one pending deadline, so tracking, untracking and firing are O(1).
+// Deadline handling runs on the handler executor given to start() (the FX thread in the app).
+public class BookingScheduler {
+
+    public static final Duration DEFAULT_TICK = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_GRACE_PERIOD = Duration.ofDays(1);
+    public static final Duration DEFAULT_PENDING_TTL = Duration.ofHours(24);
+    private static final int WHEEL_SIZE = 1024;
+
+    private enum Kind { EXPIRE, OVERDUE, AUTO_COMPLETE }
+
+    private static final class Deadline {
+        private final Booking booking;
+        private final Kind kind;
+        private final String reason;
+
+        private Deadline(Booking booking, Kind kind, String reason) {
+            this.booking = booking;
+            this.kind = kind;
+            this.reason = reason;
+        }
+    }
+
+    private final Clock clock;
+    private final Duration gracePeriod;
+    private Duration pendingTtl;
+    private String pendingTtlReason;
+    private final TimingWheel<Deadline> wheel;
+    private final Map<Booking, TimingWheel.Timeout<Deadline>> timeouts = new IdentityHashMap<>();
+    private final Set<Booking> overdue = new LinkedHashSet<>();
+    private long autoCompletedCount;
+    private long expiredCount;
+    private ScheduledExecutorService ticker;
+    private Executor handlerExecutor;
+
+    public BookingScheduler() {
+        this(Clock.systemDefaultZone(), DEFAULT_TICK, DEFAULT_GRACE_PERIOD, DEFAULT_PENDING_TTL);
+    }
+
+    public BookingScheduler(Clock clock, Duration tick, Duration gracePeriod, Duration pendingTtl) {
+        if (clock == null || tick == null || gracePeriod == null || gracePeriod.isNegative()) {
+            throw new IllegalArgumentException("Clock, tick and a non-negative grace period are required");
+        }
+        this.clock = clock;
+        this.gracePeriod = gracePeriod;
+        setPendingTtl(pendingTtl);
+        this.wheel = new TimingWheel<>(tick.toMillis(), WHEEL_SIZE, clock.millis());
+    }
+
+    // Advance the wheel once per tick; deadlines are handled through handlerExecutor
+    public synchronized void start(Executor handlerExecutor) {
+        if (ticker != null) {
+            throw new IllegalStateException("Scheduler already started");
+        }
+        this.handlerExecutor = handlerExecutor;
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tick = wheel.getTickMillis();
+        ticker.scheduleAtFixedRate(this::advance, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    // Applies to requests tracked from now on
+    public synchronized void setPendingTtl(Duration pendingTtl) {
+        if (pendingTtl == null || pendingTtl.isNegative() || pendingTtl.isZero()) {
+            throw new IllegalArgumentException("Pending TTL must be positive");
+        }
+        this.pendingTtl = pendingTtl;
+        this.pendingTtlReason = "Expired: not reviewed within " + pendingTtl.toHours() + " hours";
+    }
+
+    public synchronized Duration getPendingTtl() {
+        return pendingTtl;
+    }
+
+    // Called when a request is created (or goes back to PENDING)
+    public synchronized void trackPending(Booking booking) {
+        cancelTimeout(booking);
+        overdue.remove(booking);
+        long ttlDeadline = booking.getCreatedAt().toEpochMilli() + pendingTtl.toMillis();
+        long rentalDeadline = endOfDayMillis(booking.getRentalDate());
+        if (rentalDeadline < ttlDeadline) {
+            schedule(booking, Kind.EXPIRE, rentalDeadline, "Expired: rental date passed without a decision");
+        } else {
+            schedule(booking, Kind.EXPIRE, ttlDeadline, pendingTtlReason);
+        }
+    }
+
+    // Called when a booking is approved (or loaded as approved)
+    public synchronized void track(Booking booking) {
+        cancelTimeout(booking);
+        overdue.remove(booking);
+        schedule(booking, Kind.OVERDUE, endOfDayMillis(booking.getReturnDate()), null);
+    }
+
+    // Called whenever a booking is closed
+    public synchronized void untrack(Booking booking) {
+        cancelTimeout(booking);
+        overdue.remove(booking);
+    }
+
+    // Fire every deadline that has passed; normally driven by the ticker
+    public void advance() {
+        List<Deadline> fired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(clock.millis(), fired::add);
+            for (Deadline deadline : fired) {
+                timeouts.remove(deadline.booking);
+            }
+        }
+        if (fired.isEmpty()) {
+            return;
+        }
+        Executor executor;
+        synchronized (this) {
+            executor = handlerExecutor;
+        }
+        if (executor == null) {
+            fired.forEach(this::handle);
+        } else {
+            executor.execute(() -> fired.forEach(this::handle));
+        }
+    }
+
+    // The booking's version is read before its status and the change is only applied at that
+    // version, so a booking decided after the check (an approval racing an expiry) is left alone
+    private void handle(Deadline deadline) {
+        Booking booking = deadline.booking;
+        long version = booking.getVersion();
+        Booking.BookingStatus expected = deadline.kind == Kind.EXPIRE
+            ? Booking.BookingStatus.PENDING : Booking.BookingStatus.APPROVED;
+        synchronized (this) {
+            if (booking.getStatus() != expected || timeouts.containsKey(booking)) {
+                return;   // decided or re-tracked since this deadline fired
+            }
+        }
+        switch (deadline.kind) {
+            case EXPIRE:
+                if (booking.cancelBooking(deadline.reason, version).isApplied()) {
+                    synchronized (this) {
+                        expiredCount++;
+                    }
+                }
+                break;
+            case OVERDUE:
+                synchronized (this) {
+                    overdue.add(booking);
+                    schedule(booking, Kind.AUTO_COMPLETE,
+                             endOfDayMillis(booking.getReturnDate()) + gracePeriod.toMillis(), null);
+                }
+                DataManager.getEventBus().publish(new DomainEvent.BookingOverdue(booking));
+                break;
+            default:
+                if (booking.completeBooking("Returned automatically after the grace period", version).isApplied()) {
+                    synchronized (this) {
+                        autoCompletedCount++;
+                    }
+                }
+        }
+    }
+
+    // Overdue rentals, oldest first
+    public synchronized List<Booking> getOverdueBookings() {
+        return new ArrayList<>(overdue);
+    }
+
+    public synchronized boolean isOverdue(Booking booking) {
+        return overdue.contains(booking);
+    }
+
+    public synchronized int getTrackedCount() {
+        return timeouts.size();
+    }
+
+    public synchronized long getAutoCompletedCount() {
+        return autoCompletedCount;
+    }
+
+    // Pending requests cancelled because nobody decided in time
+    public synchronized long getExpiredCount() {
+        return expiredCount;
+    }
+
+    // Dates are inclusive: a rental is due back (and a request must be decided) by the end of the day
+    private long endOfDayMillis(LocalDate date) {
+        return date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private void schedule(Booking booking, Kind kind, long deadlineMillis, String reason) {
+        timeouts.put(booking, wheel.schedule(new Deadline(booking, kind, reason), deadlineMillis));
+    }
+
+    private void cancelTimeout(Booking booking) {
+        TimingWheel.Timeout<Deadline> timeout = timeouts.remove(booking);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.vehicle_project;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+// Vehicles and bookings of one rental location, behind their own read/write lock.
+// Reads of one branch never wait for another branch's index updates. The shard is an index:
+// the bookings, payments and engine state an approval changes are shared by all branches.
+public class BranchShard {
+
+    private final String branch;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Vehicle> vehiclesById = new LinkedHashMap<>();
+    private final Map<String, Booking> bookingsById = new LinkedHashMap<>();
+    private final Map<Customer, List<Booking>> bookingsByCustomer = new HashMap<>();
+
+    BranchShard(String branch) {
+        this.branch = branch;
+    }
+
+    public String getBranch() {
+        return branch;
+    }
+
+    // Bulk updates take the write lock once for the whole run
+    void addVehicles(List<? extends Vehicle> vehicles) {
+        lock.writeLock().lock();
+        try {
+            for (Vehicle vehicle : vehicles) {
+                vehiclesById.put(vehicle.getVehicleId(), vehicle);
+                vehicle.setShard(this);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeVehicles(List<? extends Vehicle> vehicles) {
+        lock.writeLock().lock();
+        try {
+            for (Vehicle vehicle : vehicles) {
+                if (vehiclesById.remove(vehicle.getVehicleId(), vehicle)) {
+                    vehicle.setShard(null);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void addBookings(List<? extends Booking> bookings) {
+        lock.writeLock().lock();
+        try {
+            for (Booking booking : bookings) {
+                bookingsById.put(booking.getBookingId(), booking);
+                bookingsByCustomer.computeIfAbsent(booking.getCustomer(), c -> new ArrayList<>()).add(booking);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeBookings(List<? extends Booking> bookings) {
+        lock.writeLock().lock();
+        try {
+            for (Booking booking : bookings) {
+                if (bookingsById.remove(booking.getBookingId(), booking)) {
+                    List<Booking> ofCustomer = bookingsByCustomer.get(booking.getCustomer());
+                    ofCustomer.remove(booking);
+                    if (ofCustomer.isEmpty()) {
+                        bookingsByCustomer.remove(booking.getCustomer());
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Approving checks and takes stock of a vehicle in this branch, so it holds the write lock:
+    // two admins cannot both hand out the last unit
+    public void approve(Booking booking, Admin admin) {
+        lock.writeLock().lock();
+        try {
+            booking.confirmBooking(admin);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public WriteResult approve(Booking booking, Admin admin, long expectedVersion) {
+        lock.writeLock().lock();
+        try {
+            return booking.confirmBooking(admin, expectedVersion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Vehicle findVehicle(String vehicleId) {
+        lock.readLock().lock();
+        try {
+            return vehiclesById.get(vehicleId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Booking findBooking(String bookingId) {
+        lock.readLock().lock();
+        try {
+            return bookingsById.get(bookingId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Booking> bookingsOf(Customer customer) {
+        lock.readLock().lock();
+        try {
+            List<Booking> ofCustomer = bookingsByCustomer.get(customer);
+            return ofCustomer == null ? new ArrayList<>() : new ArrayList<>(ofCustomer);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Vehicle> findVehicles(Predicate<? super Vehicle> filter) {
+        lock.readLock().lock();
+        try {
+            List<Vehicle> result = new ArrayList<>();
+            for (Vehicle vehicle : vehiclesById.values()) {
+                if (filter.test(vehicle)) {
+                    result.add(vehicle);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Booking> findBookings(Predicate<? super Booking> filter) {
+        lock.readLock().lock();
+        try {
+            List<Booking> result = new ArrayList<>();
+            for (Booking booking : bookingsById.values()) {
+                if (filter.test(booking)) {
+                    result.add(booking);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getVehicleCount() {
+        lock.readLock().lock();
+        try {
+            return vehiclesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getBookingCount() {
+        lock.readLock().lock();
+        try {
+            return bookingsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
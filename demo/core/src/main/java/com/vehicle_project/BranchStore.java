@@ -0,0 +1,175 @@
+package com.vehicle_project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Read index of vehicles and bookings by rental location, one BranchShard per branch, fed by
+// the DataManager list listeners. Lookups by id go through an id -> branch map to one shard;
+// queries over all branches are scattered to the shards in parallel and the partial results
+// gathered in branch order.
+// The shards only index reads. An approval still changes the shared lists, engines, scheduler
+// and event bus, so approvals in different branches do not run in parallel.
+public class BranchStore {
+
+    private final Map<String, BranchShard> shards = new ConcurrentHashMap<>();
+    private final Map<String, String> vehicleBranches = new ConcurrentHashMap<>();   // vehicle id -> branch
+    private final Map<String, String> bookingBranches = new ConcurrentHashMap<>();   // booking id -> branch
+    private final ExecutorService gatherPool;
+
+    public BranchStore() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BranchStore(int queryThreads) {
+        if (queryThreads <= 0) {
+            throw new IllegalArgumentException("Need at least one query thread");
+        }
+        gatherPool = Executors.newFixedThreadPool(queryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "branch-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public BranchShard shard(String branch) {
+        if (branch == null || branch.isBlank()) {
+            throw new IllegalArgumentException("Branch cannot be null or empty");
+        }
+        return shards.computeIfAbsent(branch, BranchShard::new);
+    }
+
+    public List<String> getBranches() {
+        return new ArrayList<>(new TreeSet<>(shards.keySet()));
+    }
+
+    // The shard first, then the id: an id that can be found is in its shard
+    void addVehicles(List<? extends Vehicle> vehicles) {
+        this.<Vehicle>forEachBranchRun(vehicles, Vehicle::getBranch, BranchShard::addVehicles);
+        for (Vehicle vehicle : vehicles) {
+            vehicleBranches.put(vehicle.getVehicleId(), vehicle.getBranch());
+        }
+    }
+
+    void removeVehicles(List<? extends Vehicle> vehicles) {
+        for (Vehicle vehicle : vehicles) {
+            vehicleBranches.remove(vehicle.getVehicleId(), vehicle.getBranch());
+        }
+        this.<Vehicle>forEachBranchRun(vehicles, Vehicle::getBranch, BranchShard::removeVehicles);
+    }
+
+    void addBookings(List<? extends Booking> bookings) {
+        this.<Booking>forEachBranchRun(bookings, Booking::getBranch, BranchShard::addBookings);
+        for (Booking booking : bookings) {
+            bookingBranches.put(booking.getBookingId(), booking.getBranch());
+        }
+    }
+
+    void removeBookings(List<? extends Booking> bookings) {
+        for (Booking booking : bookings) {
+            bookingBranches.remove(booking.getBookingId(), booking.getBranch());
+        }
+        this.<Booking>forEachBranchRun(bookings, Booking::getBranch, BranchShard::removeBookings);
+    }
+
+    // Hand each run of consecutive same-branch items to its shard in one call
+    private <T> void forEachBranchRun(List<? extends T> items, Function<T, String> branchOf,
+                                      BiConsumer<BranchShard, List<? extends T>> action) {
+        int start = 0;
+        while (start < items.size()) {
+            String branch = branchOf.apply(items.get(start));
+            int end = start + 1;
+            while (end < items.size() && branch.equals(branchOf.apply(items.get(end)))) {
+                end++;
+            }
+            action.accept(shard(branch), items.subList(start, end));
+            start = end;
+        }
+    }
+
+    // 1. Single-branch operations
+
+    public void approve(Booking booking, Admin admin) {
+        shard(booking.getBranch()).approve(booking, admin);
+    }
+
+    // Conflict instead of approval if the booking changed since expectedVersion was read
+    public WriteResult approve(Booking booking, Admin admin, long expectedVersion) {
+        return shard(booking.getBranch()).approve(booking, admin, expectedVersion);
+    }
+
+    public Vehicle findVehicle(String branch, String vehicleId) {
+        return shard(branch).findVehicle(vehicleId);
+    }
+
+    // 2. Cross-branch queries (scatter/gather)
+
+    // Run query on every shard in parallel; results come back in branch order
+    public <R> List<R> scatter(Function<BranchShard, R> query) {
+        List<BranchShard> targets = new ArrayList<>();
+        for (String branch : getBranches()) {
+            targets.add(shards.get(branch));
+        }
+        List<R> results = new ArrayList<>(targets.size());
+        if (targets.size() <= 1) {
+            for (BranchShard shard : targets) {
+                results.add(query.apply(shard));
+            }
+            return results;
+        }
+        List<CompletableFuture<R>> pending = new ArrayList<>(targets.size());
+        for (BranchShard shard : targets) {
+            pending.add(CompletableFuture.supplyAsync(() -> query.apply(shard), gatherPool));
+        }
+        for (CompletableFuture<R> future : pending) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    // 3. Lookups by id: one map read, then the one shard that has it
+
+    public Vehicle findVehicle(String vehicleId) {
+        String branch = vehicleBranches.get(vehicleId);
+        BranchShard shard = branch == null ? null : shards.get(branch);
+        return shard == null ? null : shard.findVehicle(vehicleId);
+    }
+
+    public Booking findBooking(String bookingId) {
+        String branch = bookingBranches.get(bookingId);
+        BranchShard shard = branch == null ? null : shards.get(branch);
+        return shard == null ? null : shard.findBooking(bookingId);
+    }
+
+    public List<Vehicle> findVehicles(Predicate<? super Vehicle> filter) {
+        return flatten(scatter(shard -> shard.findVehicles(filter)));
+    }
+
+    public List<Booking> findBookings(Predicate<? super Booking> filter) {
+        return flatten(scatter(shard -> shard.findBookings(filter)));
+    }
+
+    public List<Booking> bookingsOf(Customer customer) {
+        return flatten(scatter(shard -> shard.bookingsOf(customer)));
+    }
+
+    private static <T> List<T> flatten(List<List<T>> parts) {
+        int size = 0;
+        for (List<T> part : parts) {
+            size += part.size();
+        }
+        List<T> all = new ArrayList<>(size);
+        for (List<T> part : parts) {
+            all.addAll(part);
+        }
+        return all;
+    }
+}
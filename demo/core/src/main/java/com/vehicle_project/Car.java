@@ -0,0 +1,14 @@
+package com.vehicle_project;
+
+// A vehicle of the "Car" type (see VehicleType)
+public class Car extends Vehicle {
+
+    public Car(String vehicleId, String brand, String model, int year, double pricePerDay, int quantity, String carType) {
+        super(VehicleType.get("Car"), vehicleId, brand, model, year, pricePerDay, quantity, carType);
+    }
+
+    // e.g., Sedan, SUV, Coupe
+    public String getCarType() {
+        return getSubtype();
+    }
+}
@@ -0,0 +1,416 @@
+package com.vehicle_project;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Thread-safe list that reports every change as a sequence of index edits.
+// This is the core's replacement for ObservableList: listeners (the branch shards, the
+// JavaFX mirrors in the ui module) replay the edits to stay in step without the core
+// depending on any toolkit.
+//
+// Reads take a read lock, writes a write lock. Iteration and streams work on a snapshot,
+// so they never throw ConcurrentModificationException while another thread writes.
+// Listeners run on the writing thread while the write lock is held, so they see changes
+// in exactly the order they were made; they must not write back to the same list.
+public class ChangeList<E> extends AbstractList<E> implements RandomAccess {
+
+    // One step of a change: at index from, removed was taken out and added put in its place
+    public static final class Edit<E> {
+        private final int from;
+        private final List<E> removed;
+        private final List<E> added;
+
+        private Edit(int from, List<E> removed, List<E> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public List<E> getRemoved() {
+            return removed;
+        }
+
+        public List<E> getAdded() {
+            return added;
+        }
+    }
+
+    public interface Listener<E> {
+        // edits apply in order, each to the list as left by the previous one
+        void onChanged(List<Edit<E>> edits);
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Listener<? super E>> listeners = new CopyOnWriteArrayList<>();
+    private ArrayList<E> elements = new ArrayList<>();
+
+    public void addListener(Listener<? super E> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener<? super E> listener) {
+        listeners.remove(listener);
+    }
+
+    // Register listener and hand it the current contents as one insertion, atomically,
+    // so it misses nothing in between
+    public void addListenerAndReplay(Listener<? super E> listener) {
+        lock.writeLock().lock();
+        try {
+            addListener(listener);
+            if (!elements.isEmpty()) {
+                listener.onChanged(Collections.singletonList(
+                    new Edit<>(0, Collections.emptyList(), new ArrayList<>(elements))));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ------------------------------------------------------------
+    // Reads
+    // ------------------------------------------------------------
+
+    @Override
+    public E get(int index) {
+        lock.readLock().lock();
+        try {
+            return elements.get(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return elements.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        lock.readLock().lock();
+        try {
+            return elements.indexOf(o);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        lock.readLock().lock();
+        try {
+            return elements.lastIndexOf(o);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    // Copy of the current contents
+    public List<E> snapshot() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(elements);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // reader sees a snapshot no listener has yet to hear about: with the read lock held, no
+    // change can land between the copy and whatever reader reads from the list's listeners
+    public <R> R read(Function<? super List<E>, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(new ArrayList<>(elements));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        lock.readLock().lock();
+        try {
+            return elements.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        lock.readLock().lock();
+        try {
+            return elements.toArray(a);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return Collections.unmodifiableList(snapshot()).iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return snapshot().spliterator();
+    }
+
+    // ------------------------------------------------------------
+    // Writes
+    // ------------------------------------------------------------
+
+    @Override
+    public boolean add(E element) {
+        lock.writeLock().lock();
+        try {
+            int index = elements.size();
+            elements.add(element);
+            modCount++;
+            fire(index, Collections.emptyList(), Collections.singletonList(element));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        lock.writeLock().lock();
+        try {
+            elements.add(index, element);
+            modCount++;
+            fire(index, Collections.emptyList(), Collections.singletonList(element));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public E set(int index, E element) {
+        lock.writeLock().lock();
+        try {
+            E old = elements.set(index, element);
+            fire(index, Collections.singletonList(old), Collections.singletonList(element));
+            return old;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        lock.writeLock().lock();
+        try {
+            E old = elements.remove(index);
+            modCount++;
+            fire(index, Collections.singletonList(old), Collections.emptyList());
+            return old;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.writeLock().lock();
+        try {
+            int index = elements.indexOf(o);
+            if (index < 0) {
+                return false;
+            }
+            remove(index);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        lock.writeLock().lock();
+        try {
+            return addAll(elements.size(), c);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Copied element by element: the varargs array itself is never handed on, so it is safe
+    @SafeVarargs
+    public final boolean addAll(E... items) {
+        List<E> added = new ArrayList<>(items.length);
+        for (E item : items) {
+            added.add(item);
+        }
+        return addAll(added);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        List<E> added = new ArrayList<>(c);
+        if (added.isEmpty()) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            elements.addAll(index, added);
+            modCount++;
+            fire(index, Collections.emptyList(), Collections.unmodifiableList(added));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            removeRange(0, elements.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            List<E> removed = new ArrayList<>(range);
+            range.clear();
+            modCount++;
+            fire(fromIndex, Collections.unmodifiableList(removed), Collections.emptyList());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeMatching(c::contains, Collections.emptyList());
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeMatching(e -> !c.contains(e), Collections.emptyList());
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeMatching(filter, Collections.emptyList());
+    }
+
+    // Run action holding the write locks of all lists, taken in the order given (callers that
+    // lock several lists must agree on it): a reader of any of them sees every change the action
+    // makes or none. The locks are reentrant, so the action writes to the lists as usual.
+    static void writeLocked(List<? extends ChangeList<?>> lists, Runnable action) {
+        int locked = 0;
+        try {
+            for (ChangeList<?> list : lists) {
+                list.lock.writeLock().lock();
+                locked++;
+            }
+            action.run();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                ChangeList<?> list = lists.get(i);
+                list.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Remove removals and append additions under one lock, reported as one change
+    public void applyBatch(Collection<? extends E> removals, Collection<? extends E> additions) {
+        if (removals.isEmpty() && additions.isEmpty()) {
+            return;
+        }
+        removeMatching(removals::contains, new ArrayList<>(additions));
+    }
+
+    // One pass over the list: runs of matching elements become one edit each
+    private boolean removeMatching(Predicate<? super E> filter, List<E> thenAdd) {
+        lock.writeLock().lock();
+        try {
+            ArrayList<E> kept = new ArrayList<>(elements.size() + thenAdd.size());
+            List<Edit<E>> edits = new ArrayList<>();
+            int i = 0;
+            while (i < elements.size()) {
+                if (!filter.test(elements.get(i))) {
+                    kept.add(elements.get(i++));
+                    continue;
+                }
+                int start = i;
+                while (i < elements.size() && filter.test(elements.get(i))) {
+                    i++;
+                }
+                // Indices are relative to the list with the earlier runs already removed
+                edits.add(new Edit<>(kept.size(), Collections.unmodifiableList(new ArrayList<>(elements.subList(start, i))),
+                                     Collections.emptyList()));
+            }
+            if (!thenAdd.isEmpty()) {
+                edits.add(new Edit<>(kept.size(), Collections.emptyList(), Collections.unmodifiableList(thenAdd)));
+                kept.addAll(thenAdd);
+            }
+            if (edits.isEmpty()) {
+                return false;
+            }
+            elements = kept;
+            modCount++;
+            fire(edits);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void fire(int from, List<E> removed, List<E> added) {
+        if (!listeners.isEmpty()) {
+            fire(Collections.singletonList(new Edit<>(from, removed, added)));
+        }
+    }
+
+    private void fire(List<Edit<E>> edits) {
+        for (Listener<? super E> listener : listeners) {
+            notify(listener, edits);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> void notify(Listener<? super E> listener, List<Edit<E>> edits) {
+        // Edits are read-only, so a listener of a supertype can safely view them as its own
+        ((Listener<E>) listener).onChanged(edits);
+    }
+}
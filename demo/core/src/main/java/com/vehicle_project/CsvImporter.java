@@ -0,0 +1,315 @@
+package com.vehicle_project;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// Bulk CSV import for onboarding a branch.
+// Every row goes through the normal Vehicle/Customer/Booking constructors, so it is
+// validated exactly like the add-vehicle form. Bad rows are recorded in the report and
+// skipped; good rows are handed to DataManager in large addAll batches so each batch is
+// one list change instead of one per row.
+// Rows count as imported (and imported bookings are tracked) inside the batch, once the
+// executor has added it; the import returns after every batch has been applied, so it must not
+// be called on the executor's own thread.
+//
+// Expected columns (first line is a header and is skipped):
+//   vehicles:  type,vehicleId,brand,model,year,pricePerDay,quantity,subtype[,branch]
+//   customers: name,email
+//   bookings:  customerEmail,vehicleId,rentalDate,returnDate[,status[,paid[,totalCost]]]
+// Imported bookings are history: they keep the totalCost recorded for them (the vehicle's list
+// price for the stay when the column is missing) and are never quoted at today's rates.
+public class CsvImporter {
+
+    public static final int DEFAULT_BATCH_SIZE = 50_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final Executor batchExecutor;
+    private final int batchSize;
+
+    // Batches are inserted directly on the calling thread
+    public CsvImporter() {
+        this(Runnable::run, DEFAULT_BATCH_SIZE);
+    }
+
+    // Batches are inserted through the given executor (e.g. Platform::runLater when parsing off the FX thread)
+    public CsvImporter(Executor batchExecutor, int batchSize) {
+        if (batchExecutor == null) {
+            throw new IllegalArgumentException("Batch executor cannot be null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        this.batchExecutor = batchExecutor;
+        this.batchSize = batchSize;
+    }
+
+    public ImportReport importVehicles(Path file) throws IOException {
+        Set<String> knownIds = new HashSet<>();
+        for (Vehicle vehicle : DataManager.getVehicleList()) {
+            knownIds.add(vehicle.getVehicleId());
+        }
+
+        ImportReport report = new ImportReport(file);
+        List<Vehicle> batch = new ArrayList<>(batchSize);
+        try (CsvReader reader = new CsvReader(file)) {
+            skipHeader(reader);
+            while (reader.next()) {
+                report.rowsRead++;
+                try {
+                    Vehicle vehicle = Vehicle.create(
+                        reader.getString(0),
+                        reader.getString(1),
+                        reader.getString(2),
+                        reader.getString(3),
+                        reader.getInt(4),
+                        reader.getDouble(5),
+                        reader.getInt(6),
+                        reader.getString(7));
+                    if (reader.getFieldCount() > 8 && !reader.isBlank(8)) {
+                        vehicle.setBranch(reader.getString(8));
+                    }
+                    if (!knownIds.add(vehicle.getVehicleId())) {
+                        throw new IllegalArgumentException("Duplicate vehicle ID " + vehicle.getVehicleId());
+                    }
+                    batch.add(vehicle);
+                } catch (RuntimeException e) {
+                    report.addError(reader.getLineNumber(), e.getMessage());
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    batch = flush(batch, DataManager.getVehicleList(), report);
+                }
+            }
+        }
+        flush(batch, DataManager.getVehicleList(), report);
+        return report.finish();
+    }
+
+    public ImportReport importCustomers(Path file) throws IOException {
+        Set<Customer> known = new HashSet<>(DataManager.getCustomerList());
+
+        ImportReport report = new ImportReport(file);
+        List<Customer> batch = new ArrayList<>(batchSize);
+        try (CsvReader reader = new CsvReader(file)) {
+            skipHeader(reader);
+            while (reader.next()) {
+                report.rowsRead++;
+                try {
+                    if (reader.isBlank(0) || reader.isBlank(1)) {
+                        throw new IllegalArgumentException("Name and email are required");
+                    }
+                    Customer customer = new Customer(reader.getString(0), reader.getString(1));
+                    if (!known.add(customer)) {
+                        throw new IllegalArgumentException("Duplicate customer email " + customer.getEmail());
+                    }
+                    batch.add(customer);
+                } catch (RuntimeException e) {
+                    report.addError(reader.getLineNumber(), e.getMessage());
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    batch = flush(batch, DataManager.getCustomerList(), report);
+                }
+            }
+        }
+        flush(batch, DataManager.getCustomerList(), report);
+        return report.finish();
+    }
+
+    // Customers and vehicles referenced by the bookings must already be loaded
+    public ImportReport importBookings(Path file) throws IOException {
+        Map<String, Customer> customers = new HashMap<>();
+        for (Customer customer : DataManager.getCustomerList()) {
+            customers.put(customer.getEmail().toLowerCase(), customer);
+        }
+        Map<String, Vehicle> vehicles = new HashMap<>();
+        for (Vehicle vehicle : DataManager.getVehicleList()) {
+            vehicles.put(vehicle.getVehicleId(), vehicle);
+        }
+
+        ImportReport report = new ImportReport(file);
+        List<Booking> batch = new ArrayList<>(batchSize);
+        try (CsvReader reader = new CsvReader(file)) {
+            skipHeader(reader);
+            while (reader.next()) {
+                report.rowsRead++;
+                try {
+                    Customer customer = customers.get(reader.getString(0).toLowerCase());
+                    if (customer == null) {
+                        throw new IllegalArgumentException("Unknown customer " + reader.getString(0));
+                    }
+                    Vehicle vehicle = vehicles.get(reader.getString(1));
+                    if (vehicle == null) {
+                        throw new IllegalArgumentException("Unknown vehicle " + reader.getString(1));
+                    }
+                    LocalDate rentalDate = reader.getDate(2);
+                    LocalDate returnDate = reader.getDate(3);
+                    Money totalCost = reader.getFieldCount() > 6 && !reader.isBlank(6)
+                        ? Money.parse(reader.getString(6))
+                        : vehicle.getRentalPrice((int) Math.max(0, ChronoUnit.DAYS.between(rentalDate, returnDate)));
+                    Booking booking = new Booking(customer, vehicle, rentalDate, returnDate, totalCost);
+                    if (reader.getFieldCount() > 4 && !reader.isBlank(4)) {
+                        Booking.BookingStatus status = Booking.BookingStatus.valueOf(reader.getString(4).toUpperCase());
+                        boolean paid = reader.getFieldCount() > 5 && Boolean.parseBoolean(reader.getString(5));
+                        booking.restoreStatus(status, paid);
+                    }
+                    batch.add(booking);
+                } catch (RuntimeException e) {
+                    report.addError(reader.getLineNumber(), e.getMessage());
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    batch = flush(batch, DataManager.getBookingList(), report, CsvImporter::track);
+                }
+            }
+        }
+        flush(batch, DataManager.getBookingList(), report, CsvImporter::track);
+        return report.finish();
+    }
+
+    // Imported vehicle quantities are what is on the lot, so open rentals only need to be
+    // registered as occupancy (and for return tracking), not taken out of stock again. Their
+    // units are restored here, once the list took the batch, so a rejected row holds none.
+    private static void track(List<Booking> added) {
+        for (Booking booking : added) {
+            if (booking.getStatus() == Booking.BookingStatus.APPROVED) {
+                booking.restoreUnit();
+                DataManager.getUtilizationEngine().onApproved(booking);
+                DataManager.getBookingScheduler().track(booking);
+            } else if (booking.getStatus() == Booking.BookingStatus.PENDING) {
+                DataManager.getBookingScheduler().trackPending(booking);
+            }
+        }
+    }
+
+    private static void skipHeader(CsvReader reader) throws IOException {
+        reader.next();
+    }
+
+    private <T> List<T> flush(List<T> batch, List<? super T> target, ImportReport report) {
+        return flush(batch, target, report, added -> { });
+    }
+
+    // afterAdd runs in the batch, right after target took it
+    private <T> List<T> flush(List<T> batch, List<? super T> target, ImportReport report,
+                              Consumer<List<T>> afterAdd) {
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        List<T> full = batch;
+        report.batchSubmitted();
+        batchExecutor.execute(() -> {
+            try {
+                target.addAll(full);
+                afterAdd.accept(full);
+                report.batchApplied(full.size(), null);
+            } catch (RuntimeException e) {
+                report.batchApplied(full.size(), e);
+                throw e;
+            }
+        });
+        return new ArrayList<>(batchSize);
+    }
+
+    public static class ImportReport {
+        private final Path file;
+        private final long startNanos = System.nanoTime();
+        private long elapsedNanos;
+        private long rowsRead;
+        private long rowsImported;   // guarded by this, like the fields below: batches count on the executor
+        private long errorCount;
+        private int pendingBatches;
+        private final List<String> errors = new ArrayList<>();
+
+        ImportReport(Path file) {
+            this.file = file;
+        }
+
+        synchronized void addError(long line, String message) {
+            errorCount++;
+            addMessage("Line " + line + ": " + message);
+        }
+
+        synchronized void batchSubmitted() {
+            pendingBatches++;
+        }
+
+        // failure: why the list did not take the batch (its rows are rejected), or null
+        synchronized void batchApplied(int rows, RuntimeException failure) {
+            if (failure == null) {
+                rowsImported += rows;
+            } else {
+                errorCount += rows;
+                addMessage("Batch of " + rows + " rows not added: " + failure.getMessage());
+            }
+            pendingBatches--;
+            notifyAll();
+        }
+
+        private void addMessage(String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(message);
+            }
+        }
+
+        // Once every batch handed to the executor has been applied
+        synchronized ImportReport finish() {
+            while (pendingBatches > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;   // report what was applied so far
+                }
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+            return this;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public long getRowsRead() {
+            return rowsRead;
+        }
+
+        public synchronized long getRowsImported() {
+            return rowsImported;
+        }
+
+        public synchronized long getErrorCount() {
+            return errorCount;
+        }
+
+        // First errors only; getErrorCount() has the full count
+        public synchronized List<String> getErrors() {
+            return Collections.unmodifiableList(new ArrayList<>(errors));
+        }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : rowsRead * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "Imported " + rowsImported + " of " + rowsRead + " rows from " + file.getFileName()
+                + " (" + errorCount + " rejected) in " + getElapsedMillis() + " ms";
+        }
+    }
+}
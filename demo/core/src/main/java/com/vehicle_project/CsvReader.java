@@ -0,0 +1,329 @@
+package com.vehicle_project;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+// Streaming CSV reader over a FileChannel.
+// Bytes are decoded (UTF-8) straight into one reusable char buffer and each record is
+// described by field offsets, so reading a row allocates nothing until a caller asks
+// for a String. Numbers and dates are parsed directly from the buffer.
+public class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private int pushedBack = -1;
+    private boolean endOfInput;
+
+    private char[] chars = new char[256];
+    private int length;
+    private int[] fieldStart = new int[16];
+    private int[] fieldEnd = new int[16];
+    private boolean[] fieldQuoted = new boolean[16];
+    private int fieldCount;
+    private long lineNumber = 1;
+    private long recordLine;
+
+    public CsvReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.flip();
+    }
+
+    // Advance to the next record. Blank lines are skipped; returns false at end of file.
+    public boolean next() throws IOException {
+        length = 0;
+        fieldCount = 0;
+        recordLine = lineNumber;
+        boolean inQuotes = false;
+        boolean quoted = false;
+        boolean started = false;
+        int start = 0;
+
+        while (true) {
+            int b = read();
+            if (b < 0) {
+                if (!started) {
+                    return false;
+                }
+                endField(start, quoted);
+                return true;
+            }
+
+            if (inQuotes) {
+                if (b == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        append('"');
+                    } else {
+                        inQuotes = false;
+                        pushedBack = following;
+                    }
+                } else {
+                    if (b == '\n') {
+                        lineNumber++;
+                    }
+                    decode(b);
+                }
+                continue;
+            }
+
+            switch (b) {
+                case ',':
+                    started = true;
+                    endField(start, quoted);
+                    start = length;
+                    quoted = false;
+                    break;
+                case '\n':
+                    lineNumber++;
+                    if (!started) {
+                        recordLine = lineNumber;
+                        break;   // blank line
+                    }
+                    endField(start, quoted);
+                    return true;
+                case '\r':
+                    break;
+                case '"':
+                    started = true;
+                    if (length == start) {
+                        inQuotes = true;
+                        quoted = true;
+                    } else {
+                        append('"');
+                    }
+                    break;
+                default:
+                    started = true;
+                    decode(b);
+            }
+        }
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    // Line on which the current record started (1-based)
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    public boolean isBlank(int field) {
+        return trimmedStart(field) >= trimmedEnd(field);
+    }
+
+    public String getString(int field) {
+        int start = trimmedStart(field);
+        return new String(chars, start, trimmedEnd(field) - start);
+    }
+
+    public int getInt(int field) {
+        long value = getLong(field);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of range: " + getString(field));
+        }
+        return (int) value;
+    }
+
+    public long getLong(int field) {
+        int pos = trimmedStart(field);
+        int end = trimmedEnd(field);
+        boolean negative = pos < end && chars[pos] == '-';
+        if (negative || (pos < end && chars[pos] == '+')) {
+            pos++;
+        }
+        if (pos >= end || end - pos > 18) {
+            throw new NumberFormatException("Not a valid number: " + getString(field));
+        }
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = chars[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a valid number: " + getString(field));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    // Fast path for plain decimals like "49.99"; anything fancier goes through Double.parseDouble
+    public double getDouble(int field) {
+        int pos = trimmedStart(field);
+        int end = trimmedEnd(field);
+        boolean negative = pos < end && chars[pos] == '-';
+        if (negative || (pos < end && chars[pos] == '+')) {
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; pos < end; pos++) {
+            char c = chars[pos];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                digits = -1;
+                break;
+            }
+        }
+        if (digits <= 0 || digits > 15) {
+            return Double.parseDouble(getString(field));
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    // ISO yyyy-MM-dd
+    public LocalDate getDate(int field) {
+        int pos = trimmedStart(field);
+        if (trimmedEnd(field) - pos != 10 || chars[pos + 4] != '-' || chars[pos + 7] != '-') {
+            throw new IllegalArgumentException("Invalid date (expected yyyy-MM-dd): " + getString(field));
+        }
+        int year = digits(pos, 4, field);
+        int month = digits(pos + 5, 2, field);
+        int day = digits(pos + 8, 2, field);
+        return LocalDate.of(year, month, day);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int digits(int pos, int count, int field) {
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid date (expected yyyy-MM-dd): " + getString(field));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private int trimmedStart(int field) {
+        checkField(field);
+        int pos = fieldStart[field];
+        if (!fieldQuoted[field]) {
+            while (pos < fieldEnd[field] && chars[pos] <= ' ') {
+                pos++;
+            }
+        }
+        return pos;
+    }
+
+    private int trimmedEnd(int field) {
+        checkField(field);
+        int end = fieldEnd[field];
+        if (!fieldQuoted[field]) {
+            while (end > fieldStart[field] && chars[end - 1] <= ' ') {
+                end--;
+            }
+        }
+        return end;
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field >= fieldCount) {
+            throw new IllegalArgumentException("Missing column " + (field + 1) + " (row has " + fieldCount + ")");
+        }
+    }
+
+    private void endField(int start, boolean quoted) {
+        if (fieldCount == fieldStart.length) {
+            fieldStart = java.util.Arrays.copyOf(fieldStart, fieldCount * 2);
+            fieldEnd = java.util.Arrays.copyOf(fieldEnd, fieldCount * 2);
+            fieldQuoted = java.util.Arrays.copyOf(fieldQuoted, fieldCount * 2);
+        }
+        fieldStart[fieldCount] = start;
+        fieldEnd[fieldCount] = length;
+        fieldQuoted[fieldCount] = quoted;
+        fieldCount++;
+    }
+
+    private void append(char c) {
+        if (length == chars.length) {
+            chars = java.util.Arrays.copyOf(chars, length * 2);
+        }
+        chars[length++] = c;
+    }
+
+    // Minimal UTF-8 decoder; malformed sequences become U+FFFD
+    private void decode(int b) throws IOException {
+        if (b < 0x80) {
+            append((char) b);
+            return;
+        }
+        int extra;
+        int codePoint;
+        if ((b & 0xE0) == 0xC0) {
+            extra = 1;
+            codePoint = b & 0x1F;
+        } else if ((b & 0xF0) == 0xE0) {
+            extra = 2;
+            codePoint = b & 0x0F;
+        } else if ((b & 0xF8) == 0xF0) {
+            extra = 3;
+            codePoint = b & 0x07;
+        } else {
+            append('\uFFFD');
+            return;
+        }
+        for (int i = 0; i < extra; i++) {
+            int next = read();
+            if (next < 0 || (next & 0xC0) != 0x80) {
+                pushedBack = next;
+                append('\uFFFD');
+                return;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        if (codePoint >= 0x10000) {
+            append(Character.highSurrogate(codePoint));
+            append(Character.lowSurrogate(codePoint));
+        } else {
+            append((char) codePoint);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack >= 0) {
+            int b = pushedBack;
+            pushedBack = -1;
+            return b;
+        }
+        if (!buffer.hasRemaining()) {
+            if (endOfInput) {
+                return -1;
+            }
+            buffer.clear();
+            int n;
+            do {
+                n = channel.read(buffer);
+            } while (n == 0);
+            buffer.flip();
+            if (n < 0) {
+                endOfInput = true;
+                return -1;
+            }
+        }
+        return buffer.get() & 0xFF;
+    }
+}
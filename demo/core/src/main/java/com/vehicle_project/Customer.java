@@ -3,12 +3,30 @@ package com.vehicle_project;
 import java.time.LocalDate;
 public class Customer extends User {
 
+    // Loyalty tier; higher tiers go first on a vehicle's waitlist
+    public enum Tier { STANDARD, SILVER, GOLD }
+
+    private Tier tier = Tier.STANDARD;
+
     public Customer(String name, String email) {
         super(name, email, UserRole.CUSTOMER);
     }
 
+    public Tier getTier() {
+        return tier;
+    }
+
+    public void setTier(Tier tier) {
+        if (tier == null) {
+            throw new IllegalArgumentException("Tier cannot be null");
+        }
+        this.tier = tier;
+    }
+
     public Booking requestVehicle(Rentable vehicle, LocalDate rentalDate, LocalDate returnDate) {
         Booking request = new Booking(this, vehicle, rentalDate, returnDate);
+        DataManager.getBookingScheduler().trackPending(request);
+        DataManager.getEventBus().publish(new DomainEvent.BookingRequested(request));
         System.out.println("Request submitted by " + getName() + " for " + vehicle.getDescription());
         return request;
     }
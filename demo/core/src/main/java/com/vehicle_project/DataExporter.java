@@ -0,0 +1,390 @@
+package com.vehicle_project;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Exports bookings and payments to CSV or newline-delimited JSON.
+// Callers take a snapshot of the rows first: their values are copied then, so the export
+// can run on any thread while the bookings and payments keep changing. Rows are encoded by
+// hand into a large direct buffer that is written to a FileChannel, so there is no per-row
+// String.format or intermediate String.
+public class DataExporter {
+
+    public enum Format { CSV, NDJSON }
+
+    public interface ProgressListener {
+        void onProgress(long done, long total);
+    }
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int PROGRESS_INTERVAL = 10_000;
+
+    private static final String[] BOOKING_FIELDS = {
+        "bookingId", "customerName", "customerEmail", "vehicle", "rentalDate", "returnDate", "totalCost", "status", "paid"
+    };
+    private static final String[] PAYMENT_FIELDS = {
+        "paymentId", "bookingId", "customerName", "customerEmail", "amount", "paymentDate"
+    };
+
+    // One booking as it stood when the snapshot was taken
+    public static final class BookingRow {
+        private final String bookingId;
+        private final String customerName;
+        private final String customerEmail;
+        private final String vehicle;
+        private final LocalDate rentalDate;
+        private final LocalDate returnDate;
+        private final Money totalCost;
+        private final Booking.BookingStatus status;
+        private final boolean paid;
+
+        // Under the booking's lock, so status and paid are from the same moment
+        private BookingRow(Booking booking) {
+            synchronized (booking) {
+                bookingId = booking.getBookingId();
+                customerName = booking.getCustomer().getName();
+                customerEmail = booking.getCustomer().getEmail();
+                vehicle = booking.getRentedItem().getDescription();
+                rentalDate = booking.getRentalDate();
+                returnDate = booking.getReturnDate();
+                totalCost = booking.getTotalCost();
+                status = booking.getStatus();
+                paid = booking.isPaid();
+            }
+        }
+    }
+
+    // One payment as it stood when the snapshot was taken
+    public static final class PaymentRow {
+        private final String paymentId;
+        private final String bookingId;
+        private final String customerName;
+        private final String customerEmail;
+        private final Money amount;   // signed: negative for a refund
+        private final LocalDate paymentDate;
+
+        private PaymentRow(Payment payment) {
+            paymentId = payment.getPaymentId();
+            bookingId = payment.getBookingId();
+            customerName = payment.getCustomer().getName();
+            customerEmail = payment.getCustomer().getEmail();
+            amount = payment.getSignedAmount();
+            paymentDate = payment.getPaymentDate();
+        }
+    }
+
+    // 1. Snapshots: copy the values of the rows in range (null bounds mean open-ended), in date
+    // order. The index hands over just that range, not the whole history.
+    public static List<BookingRow> snapshotBookings(DateIndex<Booking> bookings, LocalDate from, LocalDate to) {
+        List<BookingRow> snapshot = new ArrayList<>();
+        for (Booking booking : bookings.between(from, to)) {
+            snapshot.add(new BookingRow(booking));
+        }
+        return snapshot;
+    }
+
+    public static List<PaymentRow> snapshotPayments(DateIndex<Payment> payments, LocalDate from, LocalDate to) {
+        List<PaymentRow> snapshot = new ArrayList<>();
+        for (Payment payment : payments.between(from, to)) {
+            snapshot.add(new PaymentRow(payment));
+        }
+        return snapshot;
+    }
+
+    // 2. Export a snapshot; returns the number of rows written
+    public long exportBookings(List<BookingRow> snapshot, Path file, Format format, ProgressListener progress)
+            throws IOException {
+        try (ChannelWriter out = new ChannelWriter(file)) {
+            if (format == Format.CSV) {
+                out.header(BOOKING_FIELDS);
+            }
+            long done = 0;
+            for (BookingRow booking : snapshot) {
+                out.beginRow(format);
+                out.text(format, BOOKING_FIELDS[0], booking.bookingId);
+                out.text(format, BOOKING_FIELDS[1], booking.customerName);
+                out.text(format, BOOKING_FIELDS[2], booking.customerEmail);
+                out.text(format, BOOKING_FIELDS[3], booking.vehicle);
+                out.date(format, BOOKING_FIELDS[4], booking.rentalDate);
+                out.date(format, BOOKING_FIELDS[5], booking.returnDate);
+                out.amount(format, BOOKING_FIELDS[6], booking.totalCost);
+                out.text(format, BOOKING_FIELDS[7], booking.status.name());
+                out.bool(format, BOOKING_FIELDS[8], booking.paid);
+                out.endRow(format);
+                report(progress, ++done, snapshot.size());
+            }
+            return done;
+        }
+    }
+
+    public long exportPayments(List<PaymentRow> snapshot, Path file, Format format, ProgressListener progress)
+            throws IOException {
+        try (ChannelWriter out = new ChannelWriter(file)) {
+            if (format == Format.CSV) {
+                out.header(PAYMENT_FIELDS);
+            }
+            long done = 0;
+            for (PaymentRow payment : snapshot) {
+                out.beginRow(format);
+                out.text(format, PAYMENT_FIELDS[0], payment.paymentId);
+                out.text(format, PAYMENT_FIELDS[1], payment.bookingId);
+                out.text(format, PAYMENT_FIELDS[2], payment.customerName);
+                out.text(format, PAYMENT_FIELDS[3], payment.customerEmail);
+                out.amount(format, PAYMENT_FIELDS[4], payment.amount);
+                out.date(format, PAYMENT_FIELDS[5], payment.paymentDate);
+                out.endRow(format);
+                report(progress, ++done, snapshot.size());
+            }
+            return done;
+        }
+    }
+
+    private static void report(ProgressListener progress, long done, long total) {
+        if (progress != null && (done % PROGRESS_INTERVAL == 0 || done == total)) {
+            progress.onProgress(done, total);
+        }
+    }
+
+    // Encodes fields straight into a direct buffer and drains it to the channel when full
+    private static final class ChannelWriter implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private boolean firstField;
+
+        ChannelWriter(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                       StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void header(String[] fields) throws IOException {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    put(',');
+                }
+                ascii(fields[i]);
+            }
+            put('\n');
+        }
+
+        void beginRow(Format format) throws IOException {
+            firstField = true;
+            if (format == Format.NDJSON) {
+                put('{');
+            }
+        }
+
+        void endRow(Format format) throws IOException {
+            if (format == Format.NDJSON) {
+                put('}');
+            }
+            put('\n');
+        }
+
+        void text(Format format, String name, String value) throws IOException {
+            separator(format, name);
+            if (format == Format.NDJSON) {
+                jsonString(value);
+            } else {
+                csvString(value);
+            }
+        }
+
+        void date(Format format, String name, LocalDate date) throws IOException {
+            separator(format, name);
+            if (format == Format.NDJSON) {
+                put('"');
+            }
+            digits(date.getYear(), 4);
+            put('-');
+            digits(date.getMonthValue(), 2);
+            put('-');
+            digits(date.getDayOfMonth(), 2);
+            if (format == Format.NDJSON) {
+                put('"');
+            }
+        }
+
+        // Two decimal places
+        void amount(Format format, String name, Money value) throws IOException {
+            separator(format, name);
+            long cents = value.getCents();
+            if (cents < 0) {
+                put('-');
+                cents = -cents;
+            }
+            number(cents / 100);
+            put('.');
+            digits((int) (cents % 100), 2);
+        }
+
+        void bool(Format format, String name, boolean value) throws IOException {
+            separator(format, name);
+            ascii(value ? "true" : "false");
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void separator(Format format, String name) throws IOException {
+            if (!firstField) {
+                put(',');
+            }
+            firstField = false;
+            if (format == Format.NDJSON) {
+                put('"');
+                ascii(name);
+                put('"');
+                put(':');
+            }
+        }
+
+        private void csvString(String value) throws IOException {
+            boolean needsQuotes = false;
+            for (int i = 0; i < value.length() && !needsQuotes; i++) {
+                char c = value.charAt(i);
+                needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!needsQuotes) {
+                utf8(value);
+                return;
+            }
+            put('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    put('"');
+                }
+                utf8(c, value, i);
+                if (Character.isHighSurrogate(c)) {
+                    i++;
+                }
+            }
+            put('"');
+        }
+
+        private void jsonString(String value) throws IOException {
+            put('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"':
+                        put('\\');
+                        put('"');
+                        break;
+                    case '\\':
+                        put('\\');
+                        put('\\');
+                        break;
+                    case '\n':
+                        put('\\');
+                        put('n');
+                        break;
+                    case '\r':
+                        put('\\');
+                        put('r');
+                        break;
+                    case '\t':
+                        put('\\');
+                        put('t');
+                        break;
+                    default:
+                        if (c < 0x20) {
+                            ascii("\\u00");
+                            put(Character.forDigit(c >> 4, 16));
+                            put(Character.forDigit(c & 0xF, 16));
+                        } else {
+                            utf8(c, value, i);
+                            if (Character.isHighSurrogate(c)) {
+                                i++;
+                            }
+                        }
+                }
+            }
+            put('"');
+        }
+
+        private void utf8(String value) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                utf8(c, value, i);
+                if (Character.isHighSurrogate(c)) {
+                    i++;
+                }
+            }
+        }
+
+        private void utf8(char c, String value, int index) throws IOException {
+            if (c < 0x80) {
+                put(c);
+            } else if (c < 0x800) {
+                put((char) (0xC0 | (c >> 6)));
+                put((char) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && index + 1 < value.length()) {
+                int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+                put((char) (0xF0 | (codePoint >> 18)));
+                put((char) (0x80 | ((codePoint >> 12) & 0x3F)));
+                put((char) (0x80 | ((codePoint >> 6) & 0x3F)));
+                put((char) (0x80 | (codePoint & 0x3F)));
+            } else {
+                put((char) (0xE0 | (c >> 12)));
+                put((char) (0x80 | ((c >> 6) & 0x3F)));
+                put((char) (0x80 | (c & 0x3F)));
+            }
+        }
+
+        private void ascii(String value) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                put(value.charAt(i));
+            }
+        }
+
+        private void number(long value) throws IOException {
+            if (value >= 10) {
+                number(value / 10);
+            }
+            put((char) ('0' + value % 10));
+        }
+
+        private void digits(int value, int width) throws IOException {
+            for (int divisor = pow10(width - 1); divisor > 0; divisor /= 10) {
+                put((char) ('0' + (value / divisor) % 10));
+            }
+        }
+
+        private static int pow10(int exponent) {
+            int result = 1;
+            for (int i = 0; i < exponent; i++) {
+                result *= 10;
+            }
+            return result;
+        }
+
+        private void put(char b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.vehicle_project;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Shared state of the rental domain. Plain thread-safe lists; anything that needs to follow
+// them (branch shards, the JavaFX tables in the ui module) listens to their ChangeList edits.
+public class DataManager {
+    private static ChangeList<Vehicle> vehicleList = new ChangeList<>();
+    private static ChangeList<Booking> bookingList = new ChangeList<>();
+    private static ChangeList<Customer> customerList = new ChangeList<>();
+    private static ChangeList<Admin> adminList = new ChangeList<>();
+    private static ChangeList<Payment> paymentList = new ChangeList<>();
+    private static UtilizationEngine utilizationEngine = new UtilizationEngine(vehicleList);
+    private static DomainEventBus eventBus = new DomainEventBus();
+    private static BookingScheduler bookingScheduler = new BookingScheduler();
+    private static Waitlist waitlist = new Waitlist();
+    private static BranchStore branches = new BranchStore();
+    private static AvailabilityCache availabilityCache =
+        new AvailabilityCache(utilizationEngine, vehicleList, AvailabilityCache.DEFAULT_MAX_ENTRIES);
+    private static PricingEngine pricingEngine = new PricingEngine(utilizationEngine, bookingList);
+    private static PaymentLedger paymentLedger = new PaymentLedger(paymentList);
+    private static DateIndex<Booking> bookingDates = new DateIndex<>(bookingList, Booking::getRentalDate);
+    private static DateIndex<Payment> paymentDates = new DateIndex<>(paymentList, Payment::getPaymentDate);
+    private static RevenueLeaderboards leaderboards =
+        new RevenueLeaderboards(bookingList, paymentList, RevenueLeaderboards.DEFAULT_SIZE);
+    private static final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
+    private static RentalRepository repository;
+    private static WriteBehindQueue persistence;
+    private static final List<Runnable> persistenceListeners = new ArrayList<>();   // unregister actions
+    private static volatile AuditLog auditLog;
+
+    // Every path that changes the lists (views, importer, transactions) also keeps the
+    // branch shards in step
+    static {
+        vehicleList.addListener(edits -> {
+            for (ChangeList.Edit<Vehicle> edit : edits) {
+                branches.removeVehicles(edit.getRemoved());
+                branches.addVehicles(edit.getAdded());
+            }
+        });
+        bookingList.addListener(edits -> {
+            for (ChangeList.Edit<Booking> edit : edits) {
+                branches.removeBookings(edit.getRemoved());
+                branches.addBookings(edit.getAdded());
+            }
+        });
+    }
+
+    public static ChangeList<Vehicle> getVehicleList() {
+        return vehicleList;
+    }
+
+    public static ChangeList<Booking> getBookingList() {
+        return bookingList;
+    }
+
+    public static ChangeList<Customer> getCustomerList() {
+        return customerList;
+    }
+
+    public static ChangeList<Admin> getAdminList() {
+        return adminList;
+    }
+
+    public static ChangeList<Payment> getPaymentList() {
+        return paymentList;
+    }
+
+    public static UtilizationEngine getUtilizationEngine() {
+        return utilizationEngine;
+    }
+
+    public static DomainEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public static BookingScheduler getBookingScheduler() {
+        return bookingScheduler;
+    }
+
+    public static Waitlist getWaitlist() {
+        return waitlist;
+    }
+
+    // "Which vehicles are free for these dates", cached and kept in step with bookings and stock
+    public static AvailabilityCache getAvailabilityCache() {
+        return availabilityCache;
+    }
+
+    // Daily rates from utilization and demand; quotes for booking date ranges
+    public static PricingEngine getPricingEngine() {
+        return pricingEngine;
+    }
+
+    public static PaymentLedger getPaymentLedger() {
+        return paymentLedger;
+    }
+
+    public static RevenueLeaderboards getLeaderboards() {
+        return leaderboards;
+    }
+
+    // Bookings by rental date and payments by payment date, for date-range reads such as exports
+    public static DateIndex<Booking> getBookingDates() {
+        return bookingDates;
+    }
+
+    public static DateIndex<Payment> getPaymentDates() {
+        return paymentDates;
+    }
+
+    // Per-branch shards of the vehicle and booking lists
+    public static BranchStore getBranches() {
+        return branches;
+    }
+
+    // Mirror vehicles, customers, bookings and payments into repository from now on.
+    // The repository is cleared, then what is already loaded is written: it holds this
+    // session's data only (ids restart at B0 and P1 every session, so rows kept from an
+    // earlier one would be overwritten or mixed in). Every later change (list edits, price and
+    // stock changes, booking status and payment) goes through a write-behind queue, so the
+    // thread making the change never waits for the database.
+    public static synchronized WriteBehindQueue enablePersistence(RentalRepository repository) {
+        if (persistence != null) {
+            throw new IllegalStateException("Persistence is already enabled");
+        }
+        repository.clear();
+        WriteBehindQueue queue = new WriteBehindQueue(repository);
+        queue.start();
+        persistTo(vehicleList, queue::saveVehicle, queue::deleteVehicle);
+        persistTo(customerList, queue::saveCustomer, customer -> { });   // customers are never deleted
+        persistTo(bookingList, queue::saveBooking, queue::deleteBooking);
+        persistTo(paymentList, queue::savePayment, queue::deletePayment);
+
+        Consumer<Vehicle> vehicleChanged = queue::saveVehicle;
+        Consumer<Booking> bookingChanged = queue::saveBooking;
+        Vehicle.addChangeListener(vehicleChanged);
+        Booking.addChangeListener(bookingChanged);
+        persistenceListeners.add(() -> Vehicle.removeChangeListener(vehicleChanged));
+        persistenceListeners.add(() -> Booking.removeChangeListener(bookingChanged));
+
+        DataManager.repository = repository;
+        persistence = queue;
+        return queue;
+    }
+
+    private static <T> void persistTo(ChangeList<T> list, Consumer<T> save, Consumer<T> delete) {
+        ChangeList.Listener<T> listener = edits -> {
+            for (ChangeList.Edit<T> edit : edits) {
+                edit.getRemoved().forEach(delete);
+                edit.getAdded().forEach(save);
+            }
+        };
+        list.addListenerAndReplay(listener);
+        persistenceListeners.add(() -> list.removeListener(listener));
+    }
+
+    // Write out what is still queued, stop listening and close the repository
+    public static synchronized void disablePersistence() {
+        if (persistence == null) {
+            return;
+        }
+        for (Runnable unregister : persistenceListeners) {
+            unregister.run();
+        }
+        persistenceListeners.clear();
+        try {
+            persistence.stop();   // throws if the database kept failing; close it all the same
+        } finally {
+            repository.close();
+            persistence = null;
+            repository = null;
+        }
+    }
+
+    // null unless enablePersistence was called
+    public static synchronized RentalRepository getRepository() {
+        return repository;
+    }
+
+    public static synchronized WriteBehindQueue getPersistence() {
+        return persistence;
+    }
+
+    // Record admin actions in log from now on
+    public static synchronized void enableAuditLog(AuditLog log) {
+        if (auditLog != null) {
+            throw new IllegalStateException("Audit log is already enabled");
+        }
+        auditLog = log;
+    }
+
+    // Stop recording and close the log
+    public static synchronized void disableAuditLog() {
+        if (auditLog == null) {
+            return;
+        }
+        auditLog.close();
+        auditLog = null;
+    }
+
+    // null unless enableAuditLog was called
+    public static AuditLog getAuditLog() {
+        return auditLog;
+    }
+
+    // No-op while the audit log is disabled
+    static void audit(User admin, AuditLog.Action action, String entityId, long delta) {
+        AuditLog log = auditLog;
+        if (log != null) {
+            log.record(admin, action, entityId, delta);
+        }
+    }
+
+    // Demo fleet, users and one pending booking (used by the desktop app and the API server)
+    public static void loadSampleData() {
+        // Create sample vehicles
+        Car car1 = new Car("C001", "Toyota", "Camry", 2023, 50.0, 3, "Sedan");
+        Car car2 = new Car("C002", "Honda", "Accord", 2022, 45.0, 2, "Sedan");
+        Car car3 = new Car("C003", "Ford", "Explorer", 2023, 75.0, 1, "SUV");
+        Van van1 = new Van("V001", "Mercedes", "Sprinter", 2023, 85.0, 2, "Cargo Van");
+        Bike bike1 = new Bike("B001", "Yamaha", "MT-07", 2023, 30.0, 5, "Sport");
+        car3.setBranch("Airport");
+        van1.setBranch("Airport");
+        
+        DataManager.getVehicleList().addAll(car1, car2, car3, van1, bike1);
+        
+        // Create sample users
+        Customer sampleCustomer = new Customer("John Doe", "john@email.com");
+        Customer sampleCustomer2 = new Customer("Jane Smith", "jane@email.com");
+        Admin sampleAdmin = new Admin("Admin User", "admin@email.com");
+        
+        DataManager.getCustomerList().addAll(sampleCustomer, sampleCustomer2);
+        DataManager.getAdminList().add(sampleAdmin);
+        
+        // Create sample booking, at the list price it was made for
+        Booking booking1 = new Booking(sampleCustomer, car1, 
+                                      LocalDate.now(), LocalDate.now().plusDays(3), car1.getRentalPrice(3));
+        DataManager.getBookingList().add(booking1);
+        DataManager.getBookingScheduler().trackPending(booking1);
+    }
+    
+    // Run a batch of changes to vehicles, bookings and payments as one unit.
+    // Nothing touches the lists until the body returns; then the changes are applied with the
+    // vehicle, booking and payment lists all write-locked, so readers see all of them or none,
+    // and each list fires a single change event. If the body or the commit throws, the changes
+    // are dropped (undone on the lists the commit already changed), registered rollback actions
+    // run (newest first) and the exception is rethrown.
+    // A transaction started inside another one simply joins it.
+    public static void transaction(Consumer<Transaction> body) {
+        transaction(DataManager.class, body);
+    }
+
+    // As above, but only exclusive with transactions on the same scope (a branch's approvals
+    // use its BranchShard). The commit still goes through the shared lists, so this only
+    // keeps one branch's approvals off the other transactions' monitor.
+    public static void transaction(Object scope, Consumer<Transaction> body) {
+        if (scope == null) {
+            throw new IllegalArgumentException("Transaction scope cannot be null");
+        }
+        Transaction outer = currentTransaction.get();
+        if (outer != null) {
+            body.accept(outer);
+            return;
+        }
+
+        synchronized (scope) {
+            Transaction tx = new Transaction();
+            currentTransaction.set(tx);
+            try {
+                try {
+                    body.accept(tx);
+                } finally {
+                    currentTransaction.remove();   // listeners run by the commit start their own
+                }
+                tx.commit();
+            } catch (RuntimeException | Error e) {
+                tx.rollback(e);
+                throw e;
+            }
+        }
+    }
+
+    public static class Transaction {
+        private final Set<Vehicle> vehicleAdds = new LinkedHashSet<>();
+        private final Set<Vehicle> vehicleRemoves = new LinkedHashSet<>();
+        private final Set<Booking> bookingAdds = new LinkedHashSet<>();
+        private final Set<Booking> bookingRemoves = new LinkedHashSet<>();
+        private final Set<Payment> paymentAdds = new LinkedHashSet<>();
+        private final Set<Payment> paymentRemoves = new LinkedHashSet<>();
+        private final Deque<Runnable> rollbackActions = new ArrayDeque<>();
+
+        private Transaction() {
+        }
+
+        public void addVehicle(Vehicle vehicle) {
+            stage(vehicle, vehicleAdds, vehicleRemoves, "Vehicle");
+        }
+
+        public void removeVehicle(Vehicle vehicle) {
+            unstage(vehicle, vehicleAdds, vehicleRemoves, "Vehicle");
+        }
+
+        public void addBooking(Booking booking) {
+            stage(booking, bookingAdds, bookingRemoves, "Booking");
+        }
+
+        public void removeBooking(Booking booking) {
+            unstage(booking, bookingAdds, bookingRemoves, "Booking");
+        }
+
+        public void addPayment(Payment payment) {
+            stage(payment, paymentAdds, paymentRemoves, "Payment");
+        }
+
+        public void removePayment(Payment payment) {
+            unstage(payment, paymentAdds, paymentRemoves, "Payment");
+        }
+
+        // Undo a side effect made inside the body (e.g. an approval) if the transaction fails
+        public void onRollback(Runnable action) {
+            if (action == null) {
+                throw new IllegalArgumentException("Rollback action cannot be null");
+            }
+            rollbackActions.push(action);
+        }
+
+        private static <T> void stage(T item, Set<T> adds, Set<T> removes, String kind) {
+            if (item == null) {
+                throw new IllegalArgumentException(kind + " cannot be null");
+            }
+            if (!removes.remove(item)) {
+                adds.add(item);
+            }
+        }
+
+        private static <T> void unstage(T item, Set<T> adds, Set<T> removes, String kind) {
+            if (item == null) {
+                throw new IllegalArgumentException(kind + " cannot be null");
+            }
+            if (!adds.remove(item)) {
+                removes.add(item);
+            }
+        }
+
+        private void commit() {
+            ChangeList.writeLocked(Arrays.asList(vehicleList, bookingList, paymentList), () -> {
+                Deque<Runnable> undo = new ArrayDeque<>();
+                try {
+                    apply(vehicleList, vehicleRemoves, vehicleAdds, undo);
+                    apply(bookingList, bookingRemoves, bookingAdds, undo);
+                    apply(paymentList, paymentRemoves, paymentAdds, undo);
+                } catch (RuntimeException | Error e) {
+                    while (!undo.isEmpty()) {
+                        try {
+                            undo.pop().run();
+                        } catch (RuntimeException suppressed) {
+                            e.addSuppressed(suppressed);
+                        }
+                    }
+                    throw e;
+                }
+            });
+            for (Payment payment : paymentAdds) {
+                eventBus.publish(new DomainEvent.PaymentRecorded(payment));
+            }
+        }
+
+        // The undo is registered first: a listener can throw after the list already changed.
+        // It takes the additions back out and puts back the removals that are gone (at the end).
+        private static <T> void apply(ChangeList<T> list, Set<T> removes, Set<T> adds, Deque<Runnable> undo) {
+            undo.push(() -> {
+                List<T> gone = new ArrayList<>();
+                for (T item : removes) {
+                    if (!list.contains(item)) {
+                        gone.add(item);
+                    }
+                }
+                list.applyBatch(adds, gone);
+            });
+            list.applyBatch(removes, adds);
+        }
+
+        private void rollback(Throwable cause) {
+            while (!rollbackActions.isEmpty()) {
+                try {
+                    rollbackActions.pop().run();
+                } catch (RuntimeException e) {
+                    cause.addSuppressed(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.vehicle_project;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+// Rows of a ChangeList ordered by a date that never changes once the row exists (a booking's
+// rental date, a payment's date), so a date range is read without walking the whole history.
+// Follows the list's edits like the branch shards do.
+public class DateIndex<E> {
+
+    private final Function<? super E, LocalDate> dateOf;
+    private final TreeMap<LocalDate, List<E>> byDate = new TreeMap<>();   // guarded by this
+    private int size;
+
+    public DateIndex(ChangeList<E> list, Function<? super E, LocalDate> dateOf) {
+        if (list == null || dateOf == null) {
+            throw new IllegalArgumentException("List and date cannot be null");
+        }
+        this.dateOf = dateOf;
+        list.addListenerAndReplay(edits -> {
+            synchronized (this) {
+                for (ChangeList.Edit<E> edit : edits) {
+                    edit.getRemoved().forEach(this::remove);
+                    edit.getAdded().forEach(this::add);
+                }
+            }
+        });
+    }
+
+    // Rows dated within [from, to] (null bounds are open-ended), earliest first; rows of the
+    // same day in the order they were added
+    public synchronized List<E> between(LocalDate from, LocalDate to) {
+        NavigableMap<LocalDate, List<E>> range = byDate;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, true);
+        }
+        List<E> rows = new ArrayList<>();
+        for (List<E> day : range.values()) {
+            rows.addAll(day);
+        }
+        return rows;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // Caller holds this
+    private void add(E row) {
+        byDate.computeIfAbsent(dateOf.apply(row), date -> new ArrayList<>()).add(row);
+        size++;
+    }
+
+    // Caller holds this; by identity, as the list holds that very row
+    private void remove(E row) {
+        LocalDate date = dateOf.apply(row);
+        List<E> day = byDate.get(date);
+        if (day == null) {
+            return;
+        }
+        for (Iterator<E> it = day.iterator(); it.hasNext(); ) {
+            if (it.next() == row) {
+                it.remove();
+                size--;
+                break;
+            }
+        }
+        if (day.isEmpty()) {
+            byDate.remove(date);
+        }
+    }
+}
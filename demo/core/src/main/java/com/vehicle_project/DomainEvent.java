@@ -0,0 +1,114 @@
+package com.vehicle_project;
+
+// Events published on the DomainEventBus whenever bookings, payments or stock change
+public abstract class DomainEvent {
+
+    private final long timestamp = System.currentTimeMillis();
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    // A customer asked for a vehicle (booking is PENDING)
+    public static class BookingRequested extends DomainEvent {
+        private final Booking booking;
+
+        public BookingRequested(Booking booking) {
+            this.booking = booking;
+        }
+
+        public Booking getBooking() {
+            return booking;
+        }
+    }
+
+    // An admin approved a booking
+    public static class BookingApproved extends DomainEvent {
+        private final Booking booking;
+
+        public BookingApproved(Booking booking) {
+            this.booking = booking;
+        }
+
+        public Booking getBooking() {
+            return booking;
+        }
+    }
+
+    // An approved booking is past its return date and the vehicle has not come back
+    public static class BookingOverdue extends DomainEvent {
+        private final Booking booking;
+
+        public BookingOverdue(Booking booking) {
+            this.booking = booking;
+        }
+
+        public Booking getBooking() {
+            return booking;
+        }
+    }
+
+    // A waiting customer got a returned unit; booking is the request made on their behalf
+    public static class WaitlistPromoted extends DomainEvent {
+        private final Booking booking;
+
+        public WaitlistPromoted(Booking booking) {
+            this.booking = booking;
+        }
+
+        public Booking getBooking() {
+            return booking;
+        }
+    }
+
+    // Any other status change (cancelled, completed, rolled back, ...)
+    public static class BookingStatusChanged extends DomainEvent {
+        private final Booking booking;
+        private final Booking.BookingStatus oldStatus;
+
+        public BookingStatusChanged(Booking booking, Booking.BookingStatus oldStatus) {
+            this.booking = booking;
+            this.oldStatus = oldStatus;
+        }
+
+        public Booking getBooking() {
+            return booking;
+        }
+
+        public Booking.BookingStatus getOldStatus() {
+            return oldStatus;
+        }
+    }
+
+    // A payment was added to the payment list
+    public static class PaymentRecorded extends DomainEvent {
+        private final Payment payment;
+
+        public PaymentRecorded(Payment payment) {
+            this.payment = payment;
+        }
+
+        public Payment getPayment() {
+            return payment;
+        }
+    }
+
+    // A vehicle's available quantity changed by delta (rent, return, restock)
+    public static class InventoryChanged extends DomainEvent {
+        private final Vehicle vehicle;
+        private final int delta;
+
+        public InventoryChanged(Vehicle vehicle, int delta) {
+            this.vehicle = vehicle;
+            this.delta = delta;
+        }
+
+        public Vehicle getVehicle() {
+            return vehicle;
+        }
+
+        public int getDelta() {
+            return delta;
+        }
+    }
+}
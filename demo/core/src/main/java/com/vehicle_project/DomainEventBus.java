@@ -0,0 +1,216 @@
+package com.vehicle_project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Typed publish/subscribe for DomainEvents, backed by a preallocated ring buffer.
+//
+// Publishing claims the next sequence number with one atomic increment and writes the
+// event into its slot; it never waits for subscribers. Every subscriber has its own
+// cursor and consumer thread, drains whatever is available in one batch and hands the
+// batch to its delivery executor (e.g. Platform::runLater). A subscriber that falls a
+// whole ring behind skips ahead and counts the events it missed instead of slowing
+// publishers down. A batch whose handler throws is counted on its subscription too
+// (getFailedCount, getLastFailure) and the subscriber carries on.
+public class DomainEventBus {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final int MAX_BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+
+    private final int mask;
+    private final AtomicReferenceArray<DomainEvent> slots;
+    private final AtomicLongArray published;     // sequence last written into each slot
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public DomainEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DomainEventBus(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    public void publish(DomainEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        long sequence = nextSequence.getAndIncrement();
+        int index = (int) (sequence & mask);
+        // Seqlock order: mark the slot unpublished before overwriting it, so a reader that sees
+        // the new event cannot also see the old sequence
+        published.set(index, -1);
+        slots.set(index, event);
+        published.set(index, sequence);
+        for (Subscription subscription : subscriptions) {
+            subscription.wake();
+        }
+    }
+
+    public long getPublishedCount() {
+        return nextSequence.get();
+    }
+
+    // Receive batches of events of the given type (subclasses included), delivered through executor
+    public <T extends DomainEvent> Subscription subscribe(String name, Class<T> type, Executor executor,
+                                                          Consumer<List<T>> batchHandler) {
+        if (type == null || executor == null || batchHandler == null) {
+            throw new IllegalArgumentException("Type, executor and handler are required");
+        }
+        Subscription subscription = new Subscription(name, type, executor, batchHandler, nextSequence.get());
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        return subscription;
+    }
+
+    // Same as above, one call per event
+    public <T extends DomainEvent> Subscription subscribeEach(String name, Class<T> type, Executor executor,
+                                                              Consumer<T> handler) {
+        return subscribe(name, type, executor, batch -> batch.forEach(handler));
+    }
+
+    public class Subscription implements AutoCloseable {
+        private final String name;
+        private final Class<? extends DomainEvent> type;
+        private final Executor executor;
+        private final Consumer<List<DomainEvent>> handler;
+        private final Thread thread;
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile RuntimeException lastFailure;
+        private volatile boolean parked;
+        private volatile boolean closed;
+        private long cursor;
+
+        @SuppressWarnings("unchecked")
+        private <T extends DomainEvent> Subscription(String name, Class<T> type, Executor executor,
+                                                     Consumer<List<T>> handler, long start) {
+            this.name = name;
+            this.type = type;
+            this.executor = executor;
+            this.handler = (Consumer<List<DomainEvent>>) (Consumer<?>) handler;
+            this.cursor = start;
+            this.thread = new Thread(this::run, "event-bus-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        // Events this subscriber missed because it fell a full ring behind
+        public long getDroppedCount() {
+            return dropped.get();
+        }
+
+        // Batches that were not handled: the handler threw, or the executor refused the delivery
+        public long getFailedCount() {
+            return failed.get();
+        }
+
+        // Why the most recent failed batch failed, or null if none has
+        public RuntimeException getLastFailure() {
+            return lastFailure;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+            LockSupport.unpark(thread);
+        }
+
+        private void wake() {
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void run() {
+            while (!closed) {
+                List<DomainEvent> batch = drain();
+                if (batch == null) {
+                    parked = true;
+                    // Re-check after announcing we are about to park, so a publish cannot slip between
+                    if (!hasNext()) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    parked = false;
+                    continue;
+                }
+                if (!batch.isEmpty()) {
+                    List<DomainEvent> delivery = batch;
+                    try {
+                        executor.execute(() -> deliver(delivery));
+                    } catch (RuntimeException e) {
+                        failed(e);
+                    }
+                }
+            }
+        }
+
+        // A failing handler costs its batch only; the subscriber goes on with the next one
+        private void deliver(List<DomainEvent> batch) {
+            try {
+                handler.accept(batch);
+            } catch (RuntimeException e) {
+                failed(e);
+            }
+        }
+
+        private void failed(RuntimeException e) {
+            lastFailure = e;
+            failed.incrementAndGet();
+        }
+
+        private boolean hasNext() {
+            return published.get((int) (cursor & mask)) >= cursor;
+        }
+
+        // Returns null when nothing is available, otherwise the matching events (possibly none)
+        private List<DomainEvent> drain() {
+            List<DomainEvent> batch = null;
+            while (batch == null || batch.size() < MAX_BATCH) {
+                int index = (int) (cursor & mask);
+                long sequence = published.get(index);
+                if (sequence < cursor) {
+                    break;   // not published yet
+                }
+                DomainEvent event = slots.get(index);
+                // Once a sequence a ring ahead has been claimed the slot may hold its event, even
+                // while published still says cursor (two publishers lapping the same slot)
+                if (sequence > cursor || published.get(index) != cursor || nextSequence.get() - cursor > mask) {
+                    // Lapped by publishers: skip to the oldest event still in the ring
+                    long oldest = Math.max(cursor + 1, nextSequence.get() - mask);
+                    dropped.addAndGet(oldest - cursor);
+                    cursor = oldest;
+                    continue;
+                }
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                }
+                if (type.isInstance(event)) {
+                    batch.add(event);
+                }
+                cursor++;
+            }
+            return batch;
+        }
+    }
+}
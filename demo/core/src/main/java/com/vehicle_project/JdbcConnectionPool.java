@@ -0,0 +1,188 @@
+package com.vehicle_project;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Small fixed pool of JDBC connections, each with its own prepared-statement cache.
+// Work borrows a connection, runs, and hands it back; there is no borrowing by hand, so a
+// connection can never leak. A connection that fails is replaced before it is returned.
+public class JdbcConnectionPool implements AutoCloseable {
+
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+    private static final long BORROW_TIMEOUT_SECONDS = 30;
+
+    @FunctionalInterface
+    public interface SqlWork<R> {
+        R run(PooledConnection connection) throws SQLException;
+    }
+
+    // A connection plus the statements already prepared on it, least recently used first
+    public final class PooledConnection {
+        private Connection connection;
+        private final Map<String, PreparedStatement> statements;
+
+        private PooledConnection() throws SQLException {
+            connection = DriverManager.getConnection(url);
+            statements = new LinkedHashMap<>(statementCacheSize * 2, 0.75f, true);
+        }
+
+        public Connection getConnection() {
+            return connection;
+        }
+
+        // Prepared once per connection and reused; parameters are cleared on every hand-out
+        public PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement != null) {
+                statementHits.incrementAndGet();
+                statement.clearParameters();
+                return statement;
+            }
+            statementMisses.incrementAndGet();
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+            if (statements.size() > statementCacheSize) {
+                Map.Entry<String, PreparedStatement> eldest = statements.entrySet().iterator().next();
+                statements.remove(eldest.getKey());
+                eldest.getValue().close();
+            }
+            return statement;
+        }
+
+        private void close() {
+            statements.clear();   // closing the connection closes its statements
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // already broken; nothing left to release
+            }
+        }
+    }
+
+    private final String url;
+    private final int statementCacheSize;
+    private final BlockingQueue<PooledConnection> idle;
+    private final AtomicLong statementHits = new AtomicLong();
+    private final AtomicLong statementMisses = new AtomicLong();
+    private volatile boolean closed;
+
+    public JdbcConnectionPool(String url, int size) throws SQLException {
+        this(url, size, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    public JdbcConnectionPool(String url, int size, int statementCacheSize) throws SQLException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pool needs at least one connection");
+        }
+        if (statementCacheSize <= 0) {
+            throw new IllegalArgumentException("Statement cache size must be greater than 0");
+        }
+        this.url = url;
+        this.statementCacheSize = statementCacheSize;
+        this.idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            idle.add(new PooledConnection());
+        }
+    }
+
+    public <R> R withConnection(SqlWork<R> work) throws SQLException {
+        PooledConnection pooled = borrow();
+        boolean healthy = true;
+        try {
+            return work.run(pooled);
+        } catch (SQLException | RuntimeException e) {
+            healthy = recover(pooled);
+            throw e;
+        } finally {
+            giveBack(pooled, healthy);
+        }
+    }
+
+    // Run work as one transaction: committed if it returns, rolled back if it throws
+    public <R> R inTransaction(SqlWork<R> work) throws SQLException {
+        return withConnection(pooled -> {
+            Connection connection = pooled.getConnection();
+            connection.setAutoCommit(false);
+            try {
+                R result = work.run(pooled);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();   // before auto-commit is switched back on, which would commit
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        });
+    }
+
+    public long getStatementHits() {
+        return statementHits.get();
+    }
+
+    public long getStatementMisses() {
+        return statementMisses.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledConnection pooled;
+        while ((pooled = idle.poll()) != null) {
+            pooled.close();
+        }
+    }
+
+    private PooledConnection borrow() throws SQLException {
+        if (closed) {
+            throw new IllegalStateException("Connection pool is closed");
+        }
+        try {
+            PooledConnection pooled = idle.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (pooled == null) {
+                throw new SQLException("No database connection free after " + BORROW_TIMEOUT_SECONDS + " seconds");
+            }
+            return pooled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    // Roll back whatever the failed work left open; false if the connection is no longer usable
+    private boolean recover(PooledConnection pooled) {
+        try {
+            Connection connection = pooled.getConnection();
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            return connection.isValid(1);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void giveBack(PooledConnection pooled, boolean healthy) {
+        if (closed) {
+            pooled.close();
+            return;
+        }
+        if (!healthy) {
+            pooled.close();
+            try {
+                pooled.connection = DriverManager.getConnection(url);
+            } catch (SQLException e) {
+                // Keep the dead connection in the pool; the next borrower fails and retries the reconnect
+            }
+        }
+        idle.add(pooled);
+    }
+}
@@ -0,0 +1,306 @@
+package com.vehicle_project;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// RentalRepository on an embedded, file-based H2 database (no server process).
+// Writes are MERGE upserts sent with JDBC batching, BATCH_SIZE rows per round trip, and a
+// whole call is one transaction. Statements come from the pool's per-connection cache.
+// The columns that queries filter on are indexed.
+public class JdbcRentalRepository implements RentalRepository {
+
+    public static final int DEFAULT_POOL_SIZE = 4;
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS vehicles ("
+            + " id VARCHAR(64) PRIMARY KEY, type VARCHAR(64) NOT NULL, branch VARCHAR(64) NOT NULL,"
+            + " brand VARCHAR(64) NOT NULL, model VARCHAR(64) NOT NULL, model_year INT NOT NULL,"
+            + " price_per_day DECIMAL(19, 2) NOT NULL, quantity INT NOT NULL, subtype VARCHAR(64) NOT NULL)",
+        // Databases created before types came from configuration
+        "ALTER TABLE vehicles ALTER COLUMN type SET DATA TYPE VARCHAR(64)",
+        "ALTER TABLE vehicles ADD COLUMN IF NOT EXISTS subtype VARCHAR(64) DEFAULT '' NOT NULL",
+        "CREATE TABLE IF NOT EXISTS customers ("
+            + " email VARCHAR(254) PRIMARY KEY, name VARCHAR(128) NOT NULL, tier VARCHAR(16) NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS bookings ("
+            + " id VARCHAR(64) PRIMARY KEY, customer_email VARCHAR(254) NOT NULL, vehicle_id VARCHAR(64),"
+            + " branch VARCHAR(64) NOT NULL, rental_date DATE NOT NULL, return_date DATE NOT NULL,"
+            + " total_cost DECIMAL(19, 2) NOT NULL, status VARCHAR(16) NOT NULL, paid BOOLEAN NOT NULL,"
+            + " created_at TIMESTAMP NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS payments ("
+            + " id VARCHAR(64) PRIMARY KEY, booking_id VARCHAR(64) NOT NULL, customer_email VARCHAR(254) NOT NULL,"
+            + " amount DECIMAL(19, 2) NOT NULL, payment_date DATE NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS bookings_customer ON bookings (customer_email)",
+        "CREATE INDEX IF NOT EXISTS bookings_vehicle ON bookings (vehicle_id)",
+        "CREATE INDEX IF NOT EXISTS bookings_status ON bookings (status)",
+        "CREATE INDEX IF NOT EXISTS bookings_dates ON bookings (rental_date, return_date)",
+        "CREATE INDEX IF NOT EXISTS payments_booking ON payments (booking_id)",
+        "CREATE INDEX IF NOT EXISTS payments_customer ON payments (customer_email)",
+        "CREATE INDEX IF NOT EXISTS payments_date ON payments (payment_date)"
+    };
+
+    private static final String MERGE_VEHICLE = "MERGE INTO vehicles"
+        + " (id, type, branch, brand, model, model_year, price_per_day, quantity, subtype) KEY (id)"
+        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String MERGE_CUSTOMER = "MERGE INTO customers (email, name, tier) KEY (email) VALUES (?, ?, ?)";
+    private static final String MERGE_BOOKING = "MERGE INTO bookings"
+        + " (id, customer_email, vehicle_id, branch, rental_date, return_date, total_cost, status, paid, created_at)"
+        + " KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String MERGE_PAYMENT = "MERGE INTO payments"
+        + " (id, booking_id, customer_email, amount, payment_date) KEY (id) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String BOOKING_COLUMNS =
+        "SELECT id, customer_email, vehicle_id, branch, rental_date, return_date, total_cost, status, paid FROM bookings";
+
+    private final JdbcConnectionPool pool;
+
+    public JdbcRentalRepository(String jdbcUrl, int poolSize) {
+        try {
+            pool = new JdbcConnectionPool(jdbcUrl, poolSize);
+            pool.withConnection(pooled -> {
+                try (Statement statement = pooled.getConnection().createStatement()) {
+                    for (String ddl : SCHEMA) {
+                        statement.execute(ddl);
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not open database " + jdbcUrl + ": " + e.getMessage(), e);
+        }
+    }
+
+    // data/rental(.mv.db) under the working directory unless -Drental.db=<path> says otherwise
+    public static Path defaultFile() {
+        return Paths.get(System.getProperty("rental.db", "data/rental"));
+    }
+
+    // Database files live next to file (file.mv.db)
+    public static JdbcRentalRepository open(Path file) {
+        return new JdbcRentalRepository("jdbc:h2:file:" + file.toAbsolutePath(), DEFAULT_POOL_SIZE);
+    }
+
+    public JdbcConnectionPool getPool() {
+        return pool;
+    }
+
+    // ------------------------------------------------------------
+    // Writes
+    // ------------------------------------------------------------
+
+    private interface Binder<T> {
+        void bind(PreparedStatement statement, T item) throws SQLException;
+    }
+
+    @Override
+    public void saveVehicles(Collection<? extends Vehicle> vehicles) {
+        writeBatch(MERGE_VEHICLE, vehicles, (statement, vehicle) -> {
+            statement.setString(1, vehicle.getVehicleId());
+            statement.setString(2, UtilizationEngine.typeOf(vehicle));
+            statement.setString(3, vehicle.getBranch());
+            statement.setString(4, vehicle.getBrand());
+            statement.setString(5, vehicle.getModel());
+            statement.setInt(6, vehicle.getYear());
+            statement.setBigDecimal(7, decimal(vehicle.getPricePerDay()));
+            statement.setInt(8, vehicle.getQuantity());
+            statement.setString(9, vehicle.getSubtype());
+        });
+    }
+
+    @Override
+    public void saveCustomers(Collection<? extends Customer> customers) {
+        writeBatch(MERGE_CUSTOMER, customers, (statement, customer) -> {
+            statement.setString(1, customer.getEmail());
+            statement.setString(2, customer.getName());
+            statement.setString(3, customer.getTier().name());
+        });
+    }
+
+    @Override
+    public void saveBookings(Collection<? extends Booking> bookings) {
+        writeBatch(MERGE_BOOKING, bookings, (statement, booking) -> {
+            Rentable item = booking.getRentedItem();
+            statement.setString(1, booking.getBookingId());
+            statement.setString(2, booking.getCustomer().getEmail());
+            statement.setString(3, item instanceof Vehicle ? ((Vehicle) item).getVehicleId() : null);
+            statement.setString(4, booking.getBranch());
+            statement.setDate(5, Date.valueOf(booking.getRentalDate()));
+            statement.setDate(6, Date.valueOf(booking.getReturnDate()));
+            statement.setBigDecimal(7, decimal(booking.getTotalCost()));
+            statement.setString(8, booking.getStatus().name());
+            statement.setBoolean(9, booking.isPaid());
+            statement.setTimestamp(10, Timestamp.from(booking.getCreatedAt()));
+        });
+    }
+
+    @Override
+    public void savePayments(Collection<? extends Payment> payments) {
+        writeBatch(MERGE_PAYMENT, payments, (statement, payment) -> {
+            statement.setString(1, payment.getPaymentId());
+            statement.setString(2, payment.getBookingId());
+            statement.setString(3, payment.getCustomer().getEmail());
+            statement.setBigDecimal(4, decimal(payment.getSignedAmount()));   // refunds are negative, so SUM(amount) is revenue
+            statement.setDate(5, Date.valueOf(payment.getPaymentDate()));
+        });
+    }
+
+    @Override
+    public void deleteVehicles(Collection<String> vehicleIds) {
+        writeBatch("DELETE FROM vehicles WHERE id = ?", vehicleIds, (statement, id) -> statement.setString(1, id));
+    }
+
+    @Override
+    public void deleteBookings(Collection<String> bookingIds) {
+        writeBatch("DELETE FROM bookings WHERE id = ?", bookingIds, (statement, id) -> statement.setString(1, id));
+    }
+
+    @Override
+    public void deletePayments(Collection<String> paymentIds) {
+        writeBatch("DELETE FROM payments WHERE id = ?", paymentIds, (statement, id) -> statement.setString(1, id));
+    }
+
+    @Override
+    public void clear() {
+        try {
+            pool.inTransaction(pooled -> {
+                try (Statement statement = pooled.getConnection().createStatement()) {
+                    // Children before parents
+                    for (String table : new String[] {"payments", "bookings", "customers", "vehicles"}) {
+                        statement.executeUpdate("DELETE FROM " + table);
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database clear failed: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> void writeBatch(String sql, Collection<? extends T> items, Binder<? super T> binder) {
+        if (items.isEmpty()) {
+            return;
+        }
+        try {
+            pool.inTransaction(pooled -> {
+                PreparedStatement statement = pooled.prepare(sql);
+                int pending = 0;
+                for (T item : items) {
+                    binder.bind(statement, item);
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database write failed: " + e.getMessage(), e);
+        }
+    }
+
+    // ------------------------------------------------------------
+    // Queries
+    // ------------------------------------------------------------
+
+    @Override
+    public List<BookingRow> findBookingsByStatus(Booking.BookingStatus status) {
+        return queryBookings(BOOKING_COLUMNS + " WHERE status = ?", status.name());
+    }
+
+    @Override
+    public List<BookingRow> findBookingsByCustomer(String customerEmail) {
+        return queryBookings(BOOKING_COLUMNS + " WHERE customer_email = ?", customerEmail);
+    }
+
+    @Override
+    public List<BookingRow> findBookingsByVehicle(String vehicleId) {
+        return queryBookings(BOOKING_COLUMNS + " WHERE vehicle_id = ?", vehicleId);
+    }
+
+    @Override
+    public List<BookingRow> findBookingsOverlapping(LocalDate from, LocalDate to) {
+        return queryBookings(BOOKING_COLUMNS + " WHERE rental_date <= ? AND return_date >= ?",
+                             Date.valueOf(to), Date.valueOf(from));
+    }
+
+    @Override
+    public Money sumPayments(LocalDate from, LocalDate to) {
+        return query("SELECT COALESCE(SUM(amount), 0) FROM payments WHERE payment_date BETWEEN ? AND ?",
+                     result -> result.next() ? money(result.getBigDecimal(1)) : Money.ZERO, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Override
+    public int countBookings() {
+        return query("SELECT COUNT(*) FROM bookings", result -> result.next() ? result.getInt(1) : 0);
+    }
+
+    private interface RowReader<R> {
+        R read(ResultSet result) throws SQLException;
+    }
+
+    private List<BookingRow> queryBookings(String sql, Object... parameters) {
+        return query(sql, result -> {
+            List<BookingRow> rows = new ArrayList<>();
+            while (result.next()) {
+                rows.add(new BookingRow(
+                    result.getString(1),
+                    result.getString(2),
+                    result.getString(3),
+                    result.getString(4),
+                    result.getDate(5).toLocalDate(),
+                    result.getDate(6).toLocalDate(),
+                    money(result.getBigDecimal(7)),
+                    Booking.BookingStatus.valueOf(result.getString(8)),
+                    result.getBoolean(9)));
+            }
+            return rows;
+        }, parameters);
+    }
+
+    private <R> R query(String sql, RowReader<R> reader, Object... parameters) {
+        try {
+            return pool.withConnection(pooled -> {
+                PreparedStatement statement = pooled.prepare(sql);
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet result = statement.executeQuery()) {
+                    return reader.read(result);
+                }
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database query failed: " + e.getMessage(), e);
+        }
+    }
+
+    // Amounts are DECIMAL(19, 2) columns, so sums in SQL are exact too
+    private static BigDecimal decimal(Money amount) {
+        return BigDecimal.valueOf(amount.getCents(), 2);
+    }
+
+    // Rounded in case the column is still DOUBLE (databases created before amounts were decimal)
+    private static Money money(BigDecimal amount) {
+        return Money.ofCents(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
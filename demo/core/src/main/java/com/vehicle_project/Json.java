@@ -0,0 +1,343 @@
+package com.vehicle_project;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Small JSON codec for the HTTP API.
+// Parsing gives Map (objects, in field order), List, String, Double, Boolean or null.
+// Writing goes through Writer, which appends straight into one StringBuilder.
+public final class Json {
+
+    private Json() {
+    }
+
+    // 1. Parsing
+
+    public static Object parse(String text) {
+        Parser parser = new Parser(text);
+        parser.skipWhitespace();
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.pos != text.length()) {
+            throw parser.error("Unexpected trailing characters");
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> parseObject(String text) {
+        Object value = parse(text);
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    private static final class Parser {
+        private final String text;
+        private int pos;
+
+        private Parser(String text) {
+            this.text = text;
+        }
+
+        private Object readValue() {
+            if (pos >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            char c = text.charAt(pos);
+            switch (c) {
+                case '{':
+                    return readObject();
+                case '[':
+                    return readArray();
+                case '"':
+                    return readString();
+                case 't':
+                    expectWord("true");
+                    return Boolean.TRUE;
+                case 'f':
+                    expectWord("false");
+                    return Boolean.FALSE;
+                case 'n':
+                    expectWord("null");
+                    return null;
+                default:
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        return readNumber();
+                    }
+                    throw error("Unexpected character '" + c + "'");
+            }
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            pos++;
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') {
+                    throw error("Expected a field name");
+                }
+                String name = readString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                object.put(name, readValue());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect('}');
+                    return object;
+                }
+            }
+        }
+
+        private List<Object> readArray() {
+            List<Object> array = new ArrayList<>();
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return array;
+            }
+            while (true) {
+                skipWhitespace();
+                array.add(readValue());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect(']');
+                    return array;
+                }
+            }
+        }
+
+        private String readString() {
+            pos++;   // opening quote
+            int start = pos;
+            // Fast path: no escapes
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c == '"') {
+                    return text.substring(start, pos++);
+                }
+                if (c == '\\') {
+                    break;
+                }
+                pos++;
+            }
+            StringBuilder value = new StringBuilder(text.substring(start, pos));
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (pos >= text.length()) {
+                    break;
+                }
+                char escape = text.charAt(pos++);
+                switch (escape) {
+                    case 'n': value.append('\n'); break;
+                    case 't': value.append('\t'); break;
+                    case 'r': value.append('\r'); break;
+                    case 'b': value.append('\b'); break;
+                    case 'f': value.append('\f'); break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw error("Bad unicode escape");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default:
+                        value.append(escape);   // \" \\ \/
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private Double readNumber() {
+            int start = pos;
+            while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            try {
+                return Double.valueOf(text.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("Bad number");
+            }
+        }
+
+        private void expectWord(String word) {
+            if (!text.startsWith(word, pos)) {
+                throw error("Expected " + word);
+            }
+            pos += word.length();
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("Expected '" + c + "'");
+            }
+            pos++;
+        }
+
+        private char peek() {
+            return pos < text.length() ? text.charAt(pos) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid JSON at " + pos + ": " + message);
+        }
+    }
+
+    // 2. Writing
+
+    public static final class Writer {
+        private final StringBuilder out = new StringBuilder(256);
+        private boolean needComma;
+
+        public Writer beginObject() {
+            comma();
+            out.append('{');
+            needComma = false;
+            return this;
+        }
+
+        public Writer endObject() {
+            out.append('}');
+            needComma = true;
+            return this;
+        }
+
+        public Writer beginArray() {
+            comma();
+            out.append('[');
+            needComma = false;
+            return this;
+        }
+
+        public Writer endArray() {
+            out.append(']');
+            needComma = true;
+            return this;
+        }
+
+        // Field name; the value follows with one of the value methods or begin*()
+        public Writer name(String name) {
+            comma();
+            string(name);
+            out.append(':');
+            needComma = false;
+            return this;
+        }
+
+        public Writer value(String value) {
+            comma();
+            if (value == null) {
+                out.append("null");
+            } else {
+                string(value);
+            }
+            needComma = true;
+            return this;
+        }
+
+        public Writer value(long value) {
+            comma();
+            out.append(value);
+            needComma = true;
+            return this;
+        }
+
+        public Writer value(double value) {
+            comma();
+            out.append(value);
+            needComma = true;
+            return this;
+        }
+
+        public Writer value(boolean value) {
+            comma();
+            out.append(value);
+            needComma = true;
+            return this;
+        }
+
+        // Money as a plain number with two decimals, e.g. 150.5 -> 150.50
+        public Writer money(Money amount) {
+            comma();
+            Money.appendPlain(out, amount.getCents());
+            needComma = true;
+            return this;
+        }
+
+        public Writer field(String name, String value) {
+            return name(name).value(value);
+        }
+
+        public Writer field(String name, long value) {
+            return name(name).value(value);
+        }
+
+        public Writer field(String name, boolean value) {
+            return name(name).value(value);
+        }
+
+        public Writer moneyField(String name, Money amount) {
+            return name(name).money(amount);
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+
+        private void comma() {
+            if (needComma) {
+                out.append(',');
+            }
+        }
+
+        private void string(String value) {
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"': out.append("\\\""); break;
+                    case '\\': out.append("\\\\"); break;
+                    case '\n': out.append("\\n"); break;
+                    case '\r': out.append("\\r"); break;
+                    case '\t': out.append("\\t"); break;
+                    default:
+                        if (c < 0x20) {
+                            out.append("\\u00");
+                            out.append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                        } else {
+                            out.append(c);
+                        }
+                }
+            }
+            out.append('"');
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.vehicle_project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// The K largest running totals (e.g. revenue per customer), kept up to date one amount at a time.
+// Totals of every id live in a hash map. The heap holds the exact top M ids (K <= M <= 2K) as a
+// min-heap with its own position index: the weakest of them is at the root, an id's slot is
+// found in O(1), and every id outside ranks below every id inside.
+// - An amount added to an id inside moves it down the heap: O(log K).
+// - An id outside that now beats the root joins (or replaces the root when full): O(log K).
+// - An amount taken off an id inside (a refund) is fine while it still beats the root. If it
+//   becomes the root, an id outside might beat it now, so it leaves the heap. Only when fewer
+//   than K are left is the heap refilled from all totals, O(n log n): once per K such refunds.
+// Ties rank by id, so the order is the same however the totals were reached.
+public class Leaderboard {
+
+    public static final class Standing {
+        private final String id;
+        private final String label;
+        private final Money total;
+
+        private Standing(String id, String label, Money total) {
+            this.id = id;
+            this.label = label;
+            this.total = total;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        // Display name (customer name, vehicle description); the id if none was given
+        public String getLabel() {
+            return label;
+        }
+
+        public Money getTotal() {
+            return total;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Standing)) {
+                return false;
+            }
+            Standing standing = (Standing) other;
+            return id.equals(standing.id) && total.equals(standing.total);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode() * 31 + total.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return label + " " + total;
+        }
+    }
+
+    private final int capacity;
+    private final Map<String, Long> totals = new HashMap<>();   // cents
+    private final Map<String, String> labels = new HashMap<>();
+    private final String[] heap;
+    private final Map<String, Integer> positions = new HashMap<>();
+    private int size;
+    private long rebuilds;
+
+    public Leaderboard(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Leaderboard size must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.heap = new String[capacity * 2];   // the slack absorbs refunds
+    }
+
+    // Add amount (negative to take it off) to id's total; label names id on the board
+    public synchronized void add(String id, String label, Money amount) {
+        if (id == null || amount == null) {
+            throw new IllegalArgumentException("Id and amount cannot be null");
+        }
+        long delta = amount.getCents();
+        long total = totals.merge(id, delta, Long::sum);
+        if (label != null) {
+            labels.put(id, label);
+        }
+
+        Integer position = positions.get(id);
+        boolean othersOutside = totals.size() - (position == null ? 1 : 0) > size;
+        if (position != null) {
+            if (delta >= 0) {
+                siftDown(position);
+            } else {
+                siftUp(position);
+                if (othersOutside && heap[0].equals(id)) {
+                    removeRoot();
+                    if (size < capacity) {
+                        rebuild();
+                    }
+                }
+            }
+        } else if (!othersOutside && size < heap.length) {
+            insert(id);   // every id still fits
+        } else if (size > 0 && ranksAbove(id, total, heap[0])) {
+            if (size == heap.length) {
+                removeRoot();
+            }
+            insert(id);
+        }
+    }
+
+    // Best first
+    public synchronized List<Standing> top() {
+        List<Standing> standings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            standings.add(standing(heap[i]));
+        }
+        standings.sort(BEST_FIRST);
+        return standings.size() > capacity ? new ArrayList<>(standings.subList(0, capacity)) : standings;
+    }
+
+    // The same answer computed the slow way, by sorting every total
+    public synchronized List<Standing> recompute() {
+        return exact(totals, labels, capacity);
+    }
+
+    // Top k of totals (cents per id) by a full sort, for checking a streaming board
+    public static List<Standing> exact(Map<String, Long> totals, Map<String, String> labels, int k) {
+        List<Standing> standings = new ArrayList<>(totals.size());
+        for (Map.Entry<String, Long> entry : totals.entrySet()) {
+            String label = labels.get(entry.getKey());
+            standings.add(new Standing(entry.getKey(), label != null ? label : entry.getKey(),
+                                       Money.ofCents(entry.getValue())));
+        }
+        standings.sort(BEST_FIRST);
+        return standings.size() > k ? new ArrayList<>(standings.subList(0, k)) : standings;
+    }
+
+    public synchronized void clear() {
+        totals.clear();
+        labels.clear();
+        positions.clear();
+        Arrays.fill(heap, null);
+        size = 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Times refunds left fewer than K exact ids and the heap was refilled from all totals
+    public synchronized long getRebuildCount() {
+        return rebuilds;
+    }
+
+    private static final Comparator<Standing> BEST_FIRST = (a, b) -> {
+        int byTotal = b.total.compareTo(a.total);
+        return byTotal != 0 ? byTotal : a.id.compareTo(b.id);
+    };
+
+    private Standing standing(String id) {
+        String label = labels.get(id);
+        return new Standing(id, label != null ? label : id, Money.ofCents(totals.get(id)));
+    }
+
+    private boolean ranksAbove(String id, long total, String other) {
+        long otherTotal = totals.get(other);
+        return total > otherTotal || (total == otherTotal && id.compareTo(other) < 0);
+    }
+
+    private boolean ranksAbove(String id, String other) {
+        return ranksAbove(id, totals.get(id), other);
+    }
+
+    // Towards the root while weaker than the parent
+    private void siftUp(int position) {
+        String id = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksAbove(heap[parent], id)) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(id, position);
+    }
+
+    // Away from the root while stronger than the weaker child
+    private void siftDown(int position) {
+        String id = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && ranksAbove(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(id, heap[child])) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(id, position);
+    }
+
+    private void insert(String id) {
+        heap[size] = id;
+        positions.put(id, size);
+        siftUp(size++);
+    }
+
+    private void removeRoot() {
+        positions.remove(heap[0]);
+        heap[0] = heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            positions.put(heap[0], 0);
+            siftDown(0);
+        }
+    }
+
+    private void move(String id, int position) {
+        heap[position] = id;
+        positions.put(id, position);
+    }
+
+    private void rebuild() {
+        rebuilds++;
+        List<Standing> best = exact(totals, Collections.emptyMap(), heap.length);
+        positions.clear();
+        Arrays.fill(heap, null);
+        size = 0;
+        for (Standing standing : best) {
+            insert(standing.id);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.vehicle_project;
+
+// An amount of dollars held as a whole number of cents.
+// Sums of any length are exact, where a double drifts once enough amounts that have no exact
+// binary form (0.10, 19.99) are added up. Immutable; arithmetic overflowing a long throws
+// ArithmeticException. Code that adds up many amounts can sum getCents() into a long and
+// wrap the result once, so the loop allocates nothing.
+// Rounding: of(double) and times(double) round to the nearest cent, halves away from zero.
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    // Nearest cent to amount (e.g. a price typed into a form)
+    public static Money of(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new IllegalArgumentException("Amount must be a finite number");
+        }
+        return ofCents(roundToCents(amount * 100));
+    }
+
+    // "12", "12.5", "-3.07", "$1,234.50"; more than two decimals is rejected, not rounded
+    public static Money parse(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        String value = text.trim().replace(",", "");
+        boolean negative = value.startsWith("-");
+        if (negative) {
+            value = value.substring(1);
+        }
+        if (value.startsWith("$")) {
+            value = value.substring(1);
+        }
+        int dot = value.indexOf('.');
+        String whole = dot < 0 ? value : value.substring(0, dot);
+        String fraction = dot < 0 ? "" : value.substring(dot + 1);
+        if ((whole.isEmpty() && fraction.isEmpty()) || fraction.length() > 2
+                || !digitsOnly(whole) || !digitsOnly(fraction)) {
+            throw new IllegalArgumentException("Not an amount: " + text);
+        }
+        try {
+            long cents = Math.addExact(Math.multiplyExact(whole.isEmpty() ? 0 : Long.parseLong(whole), 100),
+                                       fraction.isEmpty() ? 0 : Long.parseLong(fraction) * (fraction.length() == 1 ? 10 : 1));
+            return ofCents(negative ? -cents : cents);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is out of range: " + text);
+        }
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    // For storage and display code that still works in doubles
+    public double toDouble() {
+        return cents / 100.0;
+    }
+
+    // ------------------------------------------------------------
+    // Arithmetic
+    // ------------------------------------------------------------
+
+    public Money plus(Money other) {
+        return other.cents == 0 ? this : ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return other.cents == 0 ? this : ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long factor) {
+        return factor == 1 ? this : ofCents(Math.multiplyExact(cents, factor));
+    }
+
+    // Scaled by factor (a discount or surcharge), rounded to the cent
+    public Money times(double factor) {
+        return ofCents(roundToCents(cents * factor));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    public static Money max(Money a, Money b) {
+        return a.cents >= b.cents ? a : b;
+    }
+
+    public static Money min(Money a, Money b) {
+        return a.cents <= b.cents ? a : b;
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && ((Money) other).cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    // ------------------------------------------------------------
+    // Formatting (no String.format)
+    // ------------------------------------------------------------
+
+    // "$1,234.50", "-$3.07"
+    @Override
+    public String toString() {
+        return format(cents);
+    }
+
+    // "1234.50", for CSV, JSON and other machine-read text
+    public String toPlainString() {
+        return appendPlain(new StringBuilder(24), cents).toString();
+    }
+
+    public static String format(long cents) {
+        StringBuilder text = new StringBuilder(24);
+        if (cents < 0) {
+            text.append('-');
+        }
+        text.append('$');
+        String whole = Long.toString(Math.abs(cents / 100));
+        int firstGroup = whole.length() % 3 == 0 ? 3 : whole.length() % 3;
+        text.append(whole, 0, firstGroup);
+        for (int i = firstGroup; i < whole.length(); i += 3) {
+            text.append(',').append(whole, i, i + 3);
+        }
+        return appendFraction(text, cents).toString();
+    }
+
+    public static StringBuilder appendPlain(StringBuilder out, long cents) {
+        if (cents < 0) {
+            out.append('-');
+        }
+        out.append(Math.abs(cents / 100));
+        return appendFraction(out, cents);
+    }
+
+    private static StringBuilder appendFraction(StringBuilder out, long cents) {
+        int fraction = (int) Math.abs(cents % 100);
+        return out.append('.').append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+    }
+
+    private static long roundToCents(double cents) {
+        if (Math.abs(cents) >= 0x1p62) {
+            throw new ArithmeticException("Amount is out of range");
+        }
+        return cents < 0 ? -Math.round(-cents) : Math.round(cents);
+    }
+
+    private static boolean digitsOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
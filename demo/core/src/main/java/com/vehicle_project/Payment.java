@@ -3,15 +3,29 @@ package com.vehicle_project;
 import java.time.LocalDate;
 
 public class Payment {
+    // A refund gives money back for a booking; its amount is positive like a charge's
+    public enum Kind {
+        CHARGE,
+        REFUND
+    }
+
     private String paymentId;
     private String bookingId; 
     private Customer customer;
-    private double amount;
-    private LocalDate paymentDate;
+    private final Money amount;   // final: the ledger's balances are sums of recorded amounts
+    private final LocalDate paymentDate;   // final: DateIndex files payments by it
+    private final Kind kind;
+    private final String idempotencyKey;   // null when the caller gave none
     private static int paymentCounter = 0;
 
     // Updated Constructor to include bookingId
-    public Payment(String bookingId, Customer customer, double amount, LocalDate paymentDate) {
+    public Payment(String bookingId, Customer customer, Money amount, LocalDate paymentDate) {
+        this(bookingId, customer, amount, paymentDate, Kind.CHARGE, null);
+    }
+
+    // idempotencyKey identifies the request that asked for this payment (see PaymentLedger)
+    public Payment(String bookingId, Customer customer, Money amount, LocalDate paymentDate,
+                   Kind kind, String idempotencyKey) {
         
         // Validation: Booking ID
         if (bookingId == null || bookingId.isEmpty()) {
@@ -24,7 +38,7 @@ public class Payment {
         }
 
         // Validation: Amount
-        if (amount <= 0) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("Amount must be positive!");
         }
 
@@ -36,12 +50,19 @@ public class Payment {
             throw new IllegalArgumentException("Payment date cannot be in the future!");
         }
 
+        // Validation: Kind
+        if (kind == null) {
+            throw new IllegalArgumentException("Payment kind cannot be null!");
+        }
+
         paymentCounter++;
         this.paymentId = "P" + paymentCounter;
         this.bookingId = bookingId; 
         this.customer = customer;
         this.amount = amount;
         this.paymentDate = paymentDate;
+        this.kind = kind;
+        this.idempotencyKey = idempotencyKey;
     }
 
     // --- Getters ---
@@ -58,38 +79,32 @@ public class Payment {
         return customer;
     }
 
-    public double getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
+    // Amount as it counts towards revenue: negative for a refund
+    public Money getSignedAmount() {
+        return kind == Kind.REFUND ? amount.negate() : amount;
+    }
+
     public LocalDate getPaymentDate() {
         return paymentDate;
     }
 
-    // --- Setters ---
-    public void setAmount(double amount) {
-        if (amount <= 0) {
-            throw new IllegalArgumentException("Amount must be positive!");
-        }
-        this.amount = amount;
+    public Kind getKind() {
+        return kind;
     }
 
-    public void setPaymentDate(LocalDate paymentDate) {
-        if (paymentDate == null) {
-            throw new IllegalArgumentException("Payment date cannot be null!");
-        }
-        
-        if (paymentDate.isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("Payment date cannot be in the future!");
-        }
-        this.paymentDate = paymentDate;
+    public String getIdempotencyKey() {
+        return idempotencyKey;
     }
 
     @Override
     public String toString() {
         return String.format(
-            "Payment ID: %s | Booking ID: %s | Customer: %s | Amount: $%.2f | Date: %s",
-            paymentId, bookingId, customer.getName(), amount, paymentDate
+            "Payment ID: %s | Booking ID: %s | Customer: %s | Amount: %s | Date: %s%s",
+            paymentId, bookingId, customer.getName(), amount, paymentDate, kind == Kind.REFUND ? " | REFUND" : ""
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.vehicle_project;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Index over the payment list: booking id -> its payments, and idempotency key -> payment.
+// Recording goes through here so that a request sent twice (double-click, client retry,
+// replayed API call) with the same key records one payment; the second call gets the first
+// payment back. A booking can be paid in parts while it is open (pending or approved) and
+// refunded up to what was paid at any time. Recording keeps the booking's paid flag in step:
+// it is set once nothing is due and cleared again when a refund leaves something due.
+// Payments added to the list directly (imports, transactions) are indexed too.
+// Writes run inside DataManager.transaction (joining the caller's, e.g. one branch's approval)
+// under the booking's lock; the checks and the index update are one step under this, so no
+// global lock is needed.
+public class PaymentLedger {
+
+    // A recorded payment, and whether it was recorded by an earlier call with the same key
+    public static final class Receipt {
+        private final Payment payment;
+        private final boolean duplicate;
+
+        private Receipt(Payment payment, boolean duplicate) {
+            this.payment = payment;
+            this.duplicate = duplicate;
+        }
+
+        public Payment getPayment() {
+            return payment;
+        }
+
+        public boolean isDuplicate() {
+            return duplicate;
+        }
+    }
+
+    private final Map<String, List<Payment>> byBooking = new HashMap<>();
+    private final Map<String, Payment> byKey = new HashMap<>();
+    private final Map<String, Payment> byId = new HashMap<>();
+    private long duplicates;
+
+    public PaymentLedger(ChangeList<Payment> payments) {
+        if (payments == null) {
+            throw new IllegalArgumentException("Payment list cannot be null");
+        }
+        payments.addListenerAndReplay(edits -> {
+            for (ChangeList.Edit<Payment> edit : edits) {
+                edit.getRemoved().forEach(this::unindex);
+                edit.getAdded().forEach(this::index);
+            }
+        });
+    }
+
+    // ------------------------------------------------------------
+    // Recording
+    // ------------------------------------------------------------
+
+    // Pay amount towards booking (all or part of what is still due)
+    public Receipt charge(Booking booking, Money amount, String idempotencyKey) {
+        return record(booking, amount, Payment.Kind.CHARGE, idempotencyKey, null);
+    }
+
+    // Give back up to what was paid for booking
+    public Receipt refund(Booking booking, Money amount, String idempotencyKey, Admin admin) {
+        if (admin == null || !admin.hasRole(User.UserRole.ADMIN)) {
+            throw new SecurityException("Only Admin can refund payments.");
+        }
+        return record(booking, amount, Payment.Kind.REFUND, idempotencyKey, admin);
+    }
+
+    private Receipt record(Booking booking, Money amount, Payment.Kind kind, String idempotencyKey, Admin admin) {
+        if (booking == null || amount == null) {
+            throw new IllegalArgumentException("Booking and amount cannot be null");
+        }
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key is required");
+        }
+        Receipt[] receipt = new Receipt[1];
+        DataManager.transaction(tx -> {
+            // The booking's lock keeps its status and paid flag from changing under the checks
+            synchronized (booking) {
+                receipt[0] = add(booking, amount, kind, idempotencyKey);
+                if (receipt[0].isDuplicate()) {
+                    return;
+                }
+                Payment payment = receipt[0].getPayment();
+                boolean wasPaid = booking.isPaid();
+                booking.updatePaid(!getBalanceDue(booking).isPositive());
+                tx.onRollback(() -> {
+                    unindex(payment);
+                    booking.updatePaid(wasPaid);
+                });
+                tx.addPayment(payment);
+            }
+        });
+        if (admin != null && !receipt[0].isDuplicate()) {
+            // Once committed; the amount is in cents
+            DataManager.audit(admin, AuditLog.Action.REFUND_PAYMENT, booking.getBookingId(), -amount.getCents());
+        }
+        return receipt[0];
+    }
+
+    // The earlier payment recorded with idempotencyKey, else a new one, checked and indexed as one step
+    private synchronized Receipt add(Booking booking, Money amount, Payment.Kind kind, String idempotencyKey) {
+        Payment earlier = byKey.get(idempotencyKey);
+        if (earlier != null) {
+            if (!earlier.getBookingId().equals(booking.getBookingId()) || earlier.getKind() != kind
+                    || !earlier.getAmount().equals(amount)) {
+                throw new IllegalArgumentException("Idempotency key " + idempotencyKey
+                    + " was already used for a different payment (" + earlier.getPaymentId() + ")");
+            }
+            duplicates++;   // a true replay only; a reused key was refused above
+            return new Receipt(earlier, true);
+        }
+
+        Booking.BookingStatus status = booking.getStatus();
+        if (kind == Payment.Kind.CHARGE && status != Booking.BookingStatus.PENDING
+                && status != Booking.BookingStatus.APPROVED) {
+            throw new IllegalStateException("Booking " + booking.getBookingId() + " is " + status
+                + "; only pending or approved bookings can be charged");
+        }
+        Money paid = paidAmount(booking.getBookingId());
+        Money due = Money.max(Money.ZERO, booking.getTotalCost().minus(paid));
+        if (kind == Payment.Kind.CHARGE && amount.isGreaterThan(due)) {
+            throw new IllegalStateException("Payment of " + amount + " exceeds the " + due
+                + " still due on booking " + booking.getBookingId());
+        }
+        if (kind == Payment.Kind.REFUND && amount.isGreaterThan(paid)) {
+            throw new IllegalStateException("Refund of " + amount + " exceeds the " + paid
+                + " paid on booking " + booking.getBookingId());
+        }
+        Payment payment = new Payment(booking.getBookingId(), booking.getCustomer(), amount, LocalDate.now(),
+                                      kind, idempotencyKey);
+        // Visible to later calls at once; the list catches up on commit
+        index(payment);
+        return new Receipt(payment, false);
+    }
+
+    // ------------------------------------------------------------
+    // Lookups
+    // ------------------------------------------------------------
+
+    // Charges and refunds of bookingId, oldest first
+    public synchronized List<Payment> getPayments(String bookingId) {
+        List<Payment> payments = byBooking.get(bookingId);
+        return payments == null ? Collections.emptyList() : new ArrayList<>(payments);
+    }
+
+    // Charges minus refunds
+    public synchronized Money getPaidAmount(String bookingId) {
+        return paidAmount(bookingId);
+    }
+
+    public Money getBalanceDue(Booking booking) {
+        return Money.max(Money.ZERO, booking.getTotalCost().minus(getPaidAmount(booking.getBookingId())));
+    }
+
+    // null if no payment was recorded with idempotencyKey
+    public synchronized Payment findByIdempotencyKey(String idempotencyKey) {
+        return byKey.get(idempotencyKey);
+    }
+
+    // Calls that were answered with an earlier payment instead of recording a new one
+    public synchronized long getDuplicateCount() {
+        return duplicates;
+    }
+
+    private Money paidAmount(String bookingId) {
+        List<Payment> payments = byBooking.get(bookingId);
+        long paid = 0;
+        if (payments != null) {
+            for (Payment payment : payments) {
+                paid += payment.getSignedAmount().getCents();
+            }
+        }
+        return Money.ofCents(paid);
+    }
+
+    private synchronized void index(Payment payment) {
+        if (byId.putIfAbsent(payment.getPaymentId(), payment) != null) {
+            return;   // recorded here before the list saw it
+        }
+        byBooking.computeIfAbsent(payment.getBookingId(), id -> new ArrayList<>(2)).add(payment);
+        if (payment.getIdempotencyKey() != null) {
+            byKey.putIfAbsent(payment.getIdempotencyKey(), payment);
+        }
+    }
+
+    private synchronized void unindex(Payment payment) {
+        if (byId.remove(payment.getPaymentId()) == null) {
+            return;
+        }
+        List<Payment> payments = byBooking.get(payment.getBookingId());
+        if (payments != null) {
+            payments.remove(payment);
+            if (payments.isEmpty()) {
+                byBooking.remove(payment.getBookingId());
+            }
+        }
+        if (payment.getIdempotencyKey() != null) {
+            byKey.remove(payment.getIdempotencyKey(), payment);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.vehicle_project;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Daily rates that follow demand, as multipliers of a vehicle's list price (getPricePerDay).
+// Every vehicle type has a rate table over the days its bookings touch: the multiplier of each
+// day in basis points (10,000 = the list price) and the running sums of those multipliers.
+// A day's multiplier comes from two signals of its type on that day, weighed by the type's Rules
+// (see VehicleType):
+// - utilization: units out (UtilizationEngine) / fleet size, in steps
+// - demand: PENDING booking requests covering the day, per unit of fleet
+// Bookings, approvals, returns and stock changes only mark days dirty; the next quote for the
+// type re-rates those days and the running sums after them. A quote for [from, to) is then one
+// subtraction of running sums however long the stay, less a length-of-stay discount.
+public class PricingEngine {
+
+    public static final int LIST_RATE = 10_000;   // basis points of the list price
+
+    // How one vehicle type is priced. All rates and discounts are in basis points.
+    public static final class Rules {
+        // +5/15/30% when 50/75/90% of the fleet is out, +10% per pending request per unit
+        // (at most +20%), 5/10/15% off stays of 7/14/28 days or more
+        public static final Rules DEFAULT = new Rules(new int[] {50, 75, 90}, new int[] {10_500, 11_500, 13_000},
+                                                      1_000, 2_000, new int[] {7, 14, 28}, new int[] {500, 1_000, 1_500});
+
+        private final int[] utilizationSteps;   // % of the fleet out, ascending
+        private final int[] utilizationRates;   // multiplier from that step on
+        private final int demandRatePerUnit;    // surcharge per pending request per unit of fleet
+        private final int maxDemandSurcharge;
+        private final int[] stayDays;           // ascending
+        private final int[] stayDiscounts;      // off the total from that many days on
+
+        public Rules(int[] utilizationSteps, int[] utilizationRates, int demandRatePerUnit, int maxDemandSurcharge,
+                     int[] stayDays, int[] stayDiscounts) {
+            checkSteps(utilizationSteps, utilizationRates, "Utilization");
+            checkSteps(stayDays, stayDiscounts, "Stay discount");
+            for (int rate : utilizationRates) {
+                if (rate <= 0) {
+                    throw new IllegalArgumentException("Utilization rates must be greater than 0");
+                }
+            }
+            for (int discount : stayDiscounts) {
+                if (discount < 0 || discount >= LIST_RATE) {
+                    throw new IllegalArgumentException("Stay discounts must be between 0 and 9,999 basis points");
+                }
+            }
+            if (demandRatePerUnit < 0 || maxDemandSurcharge < 0) {
+                throw new IllegalArgumentException("Demand surcharge cannot be negative");
+            }
+            this.utilizationSteps = utilizationSteps.clone();
+            this.utilizationRates = utilizationRates.clone();
+            this.demandRatePerUnit = demandRatePerUnit;
+            this.maxDemandSurcharge = maxDemandSurcharge;
+            this.stayDays = stayDays.clone();
+            this.stayDiscounts = stayDiscounts.clone();
+        }
+
+        private static void checkSteps(int[] steps, int[] values, String what) {
+            if (steps == null || values == null || steps.length != values.length) {
+                throw new IllegalArgumentException(what + " steps and values must pair up");
+            }
+            for (int i = 0; i < steps.length; i++) {
+                if (steps[i] < 0 || (i > 0 && steps[i] <= steps[i - 1])) {
+                    throw new IllegalArgumentException(what + " steps must be ascending and not negative");
+                }
+            }
+        }
+
+        // Multiplier of a day with occupied units out and pending requests, out of capacity units
+        public int rate(int occupied, int pending, int capacity) {
+            if (capacity <= 0) {
+                return LIST_RATE;
+            }
+            int rate = LIST_RATE;
+            long utilization = 100L * occupied / capacity;
+            for (int i = utilizationSteps.length - 1; i >= 0; i--) {
+                if (utilization >= utilizationSteps[i]) {
+                    rate = utilizationRates[i];
+                    break;
+                }
+            }
+            return rate + (int) Math.min(maxDemandSurcharge, (long) demandRatePerUnit * pending / capacity);
+        }
+
+        // Basis points off the total for a stay of days
+        public int stayDiscount(int days) {
+            for (int i = stayDays.length - 1; i >= 0; i--) {
+                if (days >= stayDays[i]) {
+                    return stayDiscounts[i];
+                }
+            }
+            return 0;
+        }
+
+        // Price of days at the list price, with no demand: list price x days less the stay discount
+        public Money listPrice(Money pricePerDay, int days) {
+            Money total = pricePerDay.times(days);
+            int discount = stayDiscount(days);
+            return discount == 0 ? total : total.minus(Money.ofCents(scale(total.getCents(), discount)));
+        }
+    }
+
+    public static final class Quote {
+        private final int days;
+        private final Money listTotal;
+        private final Money surcharge;
+        private final Money discount;
+        private final Money total;
+
+        private Quote(Money pricePerDay, int days, long rateSum, Rules rules) {
+            this.days = days;
+            this.listTotal = pricePerDay.times(days);
+            Money rated = Money.ofCents(scale(pricePerDay.getCents(), rateSum));
+            this.surcharge = rated.minus(listTotal);
+            this.discount = Money.ofCents(scale(rated.getCents(), rules.stayDiscount(days)));
+            this.total = rated.minus(discount);
+        }
+
+        public int getDays() {
+            return days;
+        }
+
+        // List price x days
+        public Money getListTotal() {
+            return listTotal;
+        }
+
+        // What utilization and demand added on top of the list price
+        public Money getSurcharge() {
+            return surcharge;
+        }
+
+        // Length-of-stay discount, taken off after the surcharge
+        public Money getDiscount() {
+            return discount;
+        }
+
+        public Money getTotal() {
+            return total;
+        }
+    }
+
+    // What listeners report, per type. Guarded by signalLock, which is held for nothing else:
+    // listeners run under list, booking and vehicle locks and must never wait for a quote.
+    private static final class Signals {
+        private long baseDay;
+        private int[] pending = new int[0];   // pending requests on each day from baseDay
+        private long dirtyFrom = Long.MAX_VALUE;
+        private long dirtyTo = Long.MIN_VALUE;
+        private boolean fleetChanged = true;
+
+        void addPending(long from, long to, int delta) {
+            if (pending.length == 0) {
+                baseDay = from;
+                pending = new int[Math.max((int) (to - from), 64)];
+            } else if (from < baseDay || to > baseDay + pending.length) {
+                long newBase = Math.min(from, baseDay);
+                long newEnd = Math.max(to, baseDay + pending.length);
+                // Grow geometrically so a stream of later requests does not copy every time
+                int[] grown = new int[Math.max((int) (newEnd - newBase), pending.length * 2)];
+                System.arraycopy(pending, 0, grown, (int) (baseDay - newBase), pending.length);
+                pending = grown;
+                baseDay = newBase;
+            }
+            for (long day = from; day < to; day++) {
+                pending[(int) (day - baseDay)] += delta;
+            }
+            markDirty(from, to);
+        }
+
+        void markDirty(long from, long to) {
+            dirtyFrom = Math.min(dirtyFrom, from);
+            dirtyTo = Math.max(dirtyTo, to);
+        }
+
+        int pendingOn(long day) {
+            long index = day - baseDay;
+            return index < 0 || index >= pending.length ? 0 : pending[(int) index];
+        }
+    }
+
+    // Multipliers of one type over [baseDay, baseDay + rates.length). Guarded by the engine.
+    private static final class RateTable {
+        private long baseDay;
+        private int[] rates = new int[0];
+        private long[] sums = new long[1];   // sums[i] = rates of [baseDay, baseDay + i)
+        private int capacity = -1;
+        private Rules rules;                 // the rules the days were rated with
+        private int idleRate = LIST_RATE;    // rate of a day with nothing out and nothing pending
+
+        int rateOn(long day) {
+            long index = day - baseDay;
+            return index < 0 || index >= rates.length ? idleRate : rates[(int) index];
+        }
+
+        // Sum of the multipliers of [from, to); days no booking touches are at the idle rate
+        long sum(long from, long to) {
+            long first = Math.max(from, baseDay);
+            long last = Math.min(to, baseDay + rates.length);
+            if (first >= last) {
+                return (long) idleRate * (to - from);
+            }
+            long rated = sums[(int) (last - baseDay)] - sums[(int) (first - baseDay)];
+            return rated + (long) idleRate * ((to - from) - (last - first));
+        }
+
+        void ensureRange(long from, long to) {
+            if (rates.length == 0) {
+                baseDay = from;
+                allocate(Math.max((int) (to - from), 64));
+                resum(0);
+                return;
+            }
+            long end = baseDay + rates.length;
+            if (from >= baseDay && to <= end) {
+                return;
+            }
+            long newBase = Math.min(from, baseDay);
+            int size = Math.max((int) (Math.max(to, end) - newBase), rates.length * 2);
+            int shift = (int) (baseDay - newBase);
+            int[] old = rates;
+            allocate(size);
+            System.arraycopy(old, 0, rates, shift, old.length);
+            baseDay = newBase;
+            resum(0);
+        }
+
+        // New days start at the idle rate
+        private void allocate(int size) {
+            rates = new int[size];
+            Arrays.fill(rates, idleRate);
+            sums = new long[size + 1];
+        }
+
+        // Running sums again from index on
+        void resum(int index) {
+            for (int i = index; i < rates.length; i++) {
+                sums[i + 1] = sums[i] + rates[i];
+            }
+        }
+    }
+
+    private final UtilizationEngine engine;
+    private final Object signalLock = new Object();
+    private final Map<String, Signals> signals = new HashMap<>();   // guarded by signalLock
+    private final Set<String> pendingIds = new HashSet<>();         // bookings counted as demand, guarded by signalLock
+    private final Map<String, RateTable> tables = new HashMap<>();  // guarded by this
+    private long reratedDays;
+
+    public PricingEngine(UtilizationEngine engine, ChangeList<Booking> bookings) {
+        if (engine == null || bookings == null) {
+            throw new IllegalArgumentException("Utilization engine and booking list cannot be null");
+        }
+        this.engine = engine;
+        engine.addOccupancyListener((vehicle, from, to) -> {
+            synchronized (signalLock) {
+                signals(UtilizationEngine.typeOf(vehicle)).markDirty(from.toEpochDay(), to.toEpochDay());
+            }
+        });
+        // The engine keeps the fleet size of each type and says when it moved, so vehicle edits
+        // that leave it alone (a new price, a unit rented and counted as out) re-rate nothing
+        engine.addCapacityListener(type -> {
+            synchronized (signalLock) {
+                signals(type).fleetChanged = true;
+            }
+        });
+        bookings.addListenerAndReplay(edits -> {
+            synchronized (signalLock) {
+                for (ChangeList.Edit<Booking> edit : edits) {
+                    for (Booking booking : edit.getRemoved()) {
+                        if (pendingIds.remove(booking.getBookingId())) {
+                            addPending(booking, -1);
+                        }
+                    }
+                    for (Booking booking : edit.getAdded()) {
+                        if (booking.getStatus() == Booking.BookingStatus.PENDING && pendingIds.add(booking.getBookingId())) {
+                            addPending(booking, 1);
+                        }
+                    }
+                }
+            }
+        });
+        Booking.addChangeListener(booking -> {
+            if (booking.getStatus() == Booking.BookingStatus.PENDING) {
+                return;
+            }
+            synchronized (signalLock) {
+                if (pendingIds.remove(booking.getBookingId())) {
+                    addPending(booking, -1);
+                }
+            }
+        });
+    }
+
+    // Price of renting vehicle for [from, to), at the rates of those days
+    public Quote quote(Vehicle vehicle, LocalDate from, LocalDate to) {
+        if (vehicle == null || from == null || to == null) {
+            throw new IllegalArgumentException("Vehicle and dates cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Return date cannot be before rental date.");
+        }
+        long start = from.toEpochDay();
+        long end = to.toEpochDay();
+        VehicleType type = currentType(vehicle);
+        long rateSum;
+        synchronized (this) {
+            rateSum = refresh(type).sum(start, end);
+        }
+        return new Quote(vehicle.getPricePerDay(), (int) (end - start), rateSum, type.getPricingRules());
+    }
+
+    // Multiplier of the vehicle type on day, in basis points of the list price
+    public synchronized int getRate(VehicleType type, LocalDate day) {
+        return refresh(type).rateOn(day.toEpochDay());
+    }
+
+    // Effective price of vehicle for one day, before any length-of-stay discount
+    public Money getDailyRate(Vehicle vehicle, LocalDate day) {
+        int rate = getRate(currentType(vehicle), day);
+        return Money.ofCents(scale(vehicle.getPricePerDay().getCents(), rate));
+    }
+
+    // The same quote the slow way: every day's rules evaluated from the signals directly
+    public Quote recomputeQuote(Vehicle vehicle, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Return date cannot be before rental date.");
+        }
+        String type = UtilizationEngine.typeOf(vehicle);
+        Rules rules = currentType(vehicle).getPricingRules();
+        int capacity = engine.getTypeCapacity(type);
+        long rateSum = 0;
+        for (long day = from.toEpochDay(); day < to.toEpochDay(); day++) {
+            int occupied = engine.getTypeOccupancy(type, LocalDate.ofEpochDay(day));
+            int pending;
+            synchronized (signalLock) {
+                Signals typeSignals = signals.get(type);
+                pending = typeSignals == null ? 0 : typeSignals.pendingOn(day);
+            }
+            rateSum += rules.rate(occupied, pending, capacity);
+        }
+        return new Quote(vehicle.getPricePerDay(), (int) (to.toEpochDay() - from.toEpochDay()), rateSum, rules);
+    }
+
+    // Days re-rated so far, for seeing how much work the signals cause
+    public synchronized long getReratedDayCount() {
+        return reratedDays;
+    }
+
+    // cents x basisPoints / 10,000, rounded half up
+    private static long scale(long cents, long basisPoints) {
+        return Math.floorDiv(cents * basisPoints + LIST_RATE / 2, LIST_RATE);
+    }
+
+    // Re-rate the dirty days of the type and return its table (caller holds this)
+    private RateTable refresh(VehicleType vehicleType) {
+        String type = vehicleType.getName();
+        RateTable table = tables.computeIfAbsent(type, t -> new RateTable());
+        long from;
+        long to;
+        boolean fleetChanged;
+        synchronized (signalLock) {
+            Signals typeSignals = signals.get(type);
+            if (typeSignals == null) {
+                return table;
+            }
+            from = typeSignals.dirtyFrom;
+            to = typeSignals.dirtyTo;
+            fleetChanged = typeSignals.fleetChanged;
+            typeSignals.dirtyFrom = Long.MAX_VALUE;
+            typeSignals.dirtyTo = Long.MIN_VALUE;
+            typeSignals.fleetChanged = false;
+        }
+        boolean allChanged = false;
+        if (fleetChanged) {
+            int capacity = engine.getTypeCapacity(type);
+            allChanged = capacity != table.capacity;
+            table.capacity = capacity;
+        }
+        if (table.rules != vehicleType.getPricingRules()) {   // the type was registered again
+            allChanged = true;
+            table.rules = vehicleType.getPricingRules();
+        }
+        if (allChanged) {
+            table.idleRate = table.rules.rate(0, 0, table.capacity);
+            if (table.rates.length > 0) {   // every rated day changes
+                from = Math.min(from, table.baseDay);
+                to = Math.max(to, table.baseDay + table.rates.length);
+            }
+        }
+        if (from >= to) {
+            return table;
+        }
+        // Changes arriving from here on mark their days dirty again for the next quote
+        int[] occupied = new int[(int) (to - from)];
+        engine.getTypeOccupancies(type, LocalDate.ofEpochDay(from), occupied);
+        table.ensureRange(from, to);
+        int offset = (int) (from - table.baseDay);
+        synchronized (signalLock) {
+            Signals typeSignals = signals.get(type);
+            for (int i = 0; i < occupied.length; i++) {
+                table.rates[offset + i] = table.rules.rate(occupied[i], typeSignals.pendingOn(from + i), table.capacity);
+            }
+        }
+        table.resum(offset);
+        reratedDays += occupied.length;
+        return table;
+    }
+
+    // The type as registered now: a type registered again prices the vehicles created before too
+    private static VehicleType currentType(Vehicle vehicle) {
+        VehicleType registered = VehicleType.find(vehicle.getType().getName());
+        return registered != null ? registered : vehicle.getType();
+    }
+
+    // Caller holds signalLock
+    private Signals signals(String type) {
+        return signals.computeIfAbsent(type, t -> new Signals());
+    }
+
+    // Same days as UtilizationEngine: a same-day booking still takes one day
+    private void addPending(Booking booking, int delta) {
+        if (!(booking.getRentedItem() instanceof Vehicle)) {
+            return;
+        }
+        long from = booking.getRentalDate().toEpochDay();
+        long to = Math.max(booking.getReturnDate().toEpochDay(), from + 1);
+        signals(UtilizationEngine.typeOf((Vehicle) booking.getRentedItem())).addPending(from, to, delta);
+    }
+}
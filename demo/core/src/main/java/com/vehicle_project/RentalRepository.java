@@ -0,0 +1,119 @@
+package com.vehicle_project;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+// Queryable persistent copy of the rental data, kept up to date from DataManager
+// (see DataManager.enablePersistence). Saves are upserts keyed by id, so saving an entity
+// again simply records its current state. Writes are meant to be called in bulk.
+// It mirrors one session: nothing is loaded back from it, and enabling persistence clears it
+// first, since the next session numbers its bookings and payments from the start again.
+public interface RentalRepository extends AutoCloseable {
+
+    // 1. Writes
+
+    void saveVehicles(Collection<? extends Vehicle> vehicles);
+
+    void saveCustomers(Collection<? extends Customer> customers);
+
+    void saveBookings(Collection<? extends Booking> bookings);
+
+    void savePayments(Collection<? extends Payment> payments);
+
+    void deleteVehicles(Collection<String> vehicleIds);
+
+    void deleteBookings(Collection<String> bookingIds);
+
+    void deletePayments(Collection<String> paymentIds);
+
+    // Remove every stored row
+    void clear();
+
+    // 2. Queries
+
+    List<BookingRow> findBookingsByStatus(Booking.BookingStatus status);
+
+    List<BookingRow> findBookingsByCustomer(String customerEmail);
+
+    List<BookingRow> findBookingsByVehicle(String vehicleId);
+
+    // Bookings whose rental period touches [from, to]
+    List<BookingRow> findBookingsOverlapping(LocalDate from, LocalDate to);
+
+    Money sumPayments(LocalDate from, LocalDate to);
+
+    int countBookings();
+
+    @Override
+    void close();
+
+    // A stored booking. Rows are plain values: they do not point back at live domain objects.
+    final class BookingRow {
+        private final String bookingId;
+        private final String customerEmail;
+        private final String vehicleId;
+        private final String branch;
+        private final LocalDate rentalDate;
+        private final LocalDate returnDate;
+        private final Money totalCost;
+        private final Booking.BookingStatus status;
+        private final boolean paid;
+
+        public BookingRow(String bookingId, String customerEmail, String vehicleId, String branch,
+                          LocalDate rentalDate, LocalDate returnDate, Money totalCost,
+                          Booking.BookingStatus status, boolean paid) {
+            this.bookingId = bookingId;
+            this.customerEmail = customerEmail;
+            this.vehicleId = vehicleId;
+            this.branch = branch;
+            this.rentalDate = rentalDate;
+            this.returnDate = returnDate;
+            this.totalCost = totalCost;
+            this.status = status;
+            this.paid = paid;
+        }
+
+        public String getBookingId() {
+            return bookingId;
+        }
+
+        public String getCustomerEmail() {
+            return customerEmail;
+        }
+
+        public String getVehicleId() {
+            return vehicleId;
+        }
+
+        public String getBranch() {
+            return branch;
+        }
+
+        public LocalDate getRentalDate() {
+            return rentalDate;
+        }
+
+        public LocalDate getReturnDate() {
+            return returnDate;
+        }
+
+        public Money getTotalCost() {
+            return totalCost;
+        }
+
+        public Booking.BookingStatus getStatus() {
+            return status;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        @Override
+        public String toString() {
+            return bookingId + " " + customerEmail + " " + vehicleId + " " + rentalDate + ".." + returnDate
+                + " " + status + (paid ? " (paid)" : "");
+        }
+    }
+}
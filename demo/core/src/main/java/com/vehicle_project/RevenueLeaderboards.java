@@ -0,0 +1,135 @@
+package com.vehicle_project;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Top customers by spend and top vehicles by revenue, updated as payments are recorded
+// (refunds count against them, a removed payment is taken back off).
+// A payment names its booking; the vehicle is looked up in a booking id -> vehicle map kept
+// from the booking list, so no booking search runs per payment.
+// verify() recomputes both boards from a snapshot of the payment list, the exact way.
+public class RevenueLeaderboards {
+
+    public static final int DEFAULT_SIZE = 10;
+
+    private final int size;
+    private final Leaderboard customers;
+    private final Leaderboard vehicles;
+    private final Map<String, Vehicle> vehicleByBooking = new HashMap<>();   // guarded by this
+
+    public RevenueLeaderboards(ChangeList<Booking> bookings, ChangeList<Payment> payments, int size) {
+        if (bookings == null || payments == null) {
+            throw new IllegalArgumentException("Booking and payment lists cannot be null");
+        }
+        this.size = size;
+        this.customers = new Leaderboard(size);
+        this.vehicles = new Leaderboard(size);
+        bookings.addListenerAndReplay(edits -> {
+            synchronized (this) {
+                for (ChangeList.Edit<Booking> edit : edits) {
+                    for (Booking booking : edit.getAdded()) {
+                        if (booking.getRentedItem() instanceof Vehicle) {
+                            vehicleByBooking.put(booking.getBookingId(), (Vehicle) booking.getRentedItem());
+                        }
+                    }
+                }
+            }
+        });
+        payments.addListenerAndReplay(edits -> {
+            for (ChangeList.Edit<Payment> edit : edits) {
+                for (Payment payment : edit.getRemoved()) {
+                    record(payment, payment.getSignedAmount().negate());
+                }
+                for (Payment payment : edit.getAdded()) {
+                    record(payment, payment.getSignedAmount());
+                }
+            }
+        });
+    }
+
+    private void record(Payment payment, Money amount) {
+        Customer customer = payment.getCustomer();
+        customers.add(customer.getEmail(), customer.getName(), amount);
+        Vehicle vehicle;
+        synchronized (this) {
+            // Kept after the booking is removed: its payments may still be taken back later
+            vehicle = vehicleByBooking.get(payment.getBookingId());
+        }
+        if (vehicle != null) {
+            vehicles.add(vehicle.getVehicleId(), vehicle.getVehicleModel().getDisplayName(), amount);
+        }
+    }
+
+    public List<Leaderboard.Standing> getTopCustomers() {
+        return customers.top();
+    }
+
+    public List<Leaderboard.Standing> getTopVehicles() {
+        return vehicles.top();
+    }
+
+    public Leaderboard getCustomerBoard() {
+        return customers;
+    }
+
+    public Leaderboard getVehicleBoard() {
+        return vehicles;
+    }
+
+    // Both boards recomputed from snapshot by summing and sorting everything; they should
+    // equal getTopCustomers() and getTopVehicles() for the same payments
+    public Exact recompute(List<Payment> snapshot) {
+        Map<String, Long> customerTotals = new HashMap<>();
+        Map<String, String> customerNames = new HashMap<>();
+        Map<String, Long> vehicleTotals = new HashMap<>();
+        Map<String, String> vehicleNames = new HashMap<>();
+        synchronized (this) {
+            for (Payment payment : snapshot) {
+                long cents = payment.getSignedAmount().getCents();
+                Customer customer = payment.getCustomer();
+                customerTotals.merge(customer.getEmail(), cents, Long::sum);
+                customerNames.put(customer.getEmail(), customer.getName());
+                Vehicle vehicle = vehicleByBooking.get(payment.getBookingId());
+                if (vehicle != null) {
+                    vehicleTotals.merge(vehicle.getVehicleId(), cents, Long::sum);
+                    vehicleNames.put(vehicle.getVehicleId(), vehicle.getVehicleModel().getDisplayName());
+                }
+            }
+        }
+        return new Exact(Leaderboard.exact(customerTotals, customerNames, size),
+                         Leaderboard.exact(vehicleTotals, vehicleNames, size));
+    }
+
+    public static final class Exact {
+        private final List<Leaderboard.Standing> customers;
+        private final List<Leaderboard.Standing> vehicles;
+
+        private Exact(List<Leaderboard.Standing> customers, List<Leaderboard.Standing> vehicles) {
+            this.customers = customers;
+            this.vehicles = vehicles;
+        }
+
+        public List<Leaderboard.Standing> getTopCustomers() {
+            return customers;
+        }
+
+        public List<Leaderboard.Standing> getTopVehicles() {
+            return vehicles;
+        }
+    }
+
+    // Compare the streaming boards with a recompute over the current payment list
+    public boolean verify(ChangeList<Payment> payments) {
+        // The boards follow the list from its listener, so under its read lock they match the snapshot
+        List<List<Leaderboard.Standing>> streamed = new ArrayList<>(2);
+        List<Payment> snapshot = payments.read(copy -> {
+            streamed.add(getTopCustomers());
+            streamed.add(getTopVehicles());
+            return copy;
+        });
+        Exact exact = recompute(snapshot);
+        return exact.getTopCustomers().equals(streamed.get(0)) && exact.getTopVehicles().equals(streamed.get(1));
+    }
+}
@@ -0,0 +1,25 @@
+package com.vehicle_project;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Deduplicates strings: equal strings handed to intern() come back as one shared instance.
+// Brands, models, subtypes and branch names repeat across thousands of vehicles, but every
+// CSV row or form submission builds fresh copies of them. Unlike String.intern() the table
+// is an ordinary map, so it can be counted and only holds what was put through it.
+public class SymbolTable {
+
+    private final ConcurrentHashMap<String, String> symbols = new ConcurrentHashMap<>();
+
+    // The shared instance equal to value (value itself the first time); null stays null
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = symbols.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+}
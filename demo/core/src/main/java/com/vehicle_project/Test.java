@@ -81,7 +81,7 @@ public class Test {
     for (Vehicle v : vehicles) {
         System.out.println("  " + v.getBrand() + " " + v.getModel() + 
                            " | Year: " + v.getYear() + 
-                           " | Price: $" + v.getPricePerDay());
+                           " | Price: " + v.getPricePerDay());
     } 
 
     // 4. SORTING LOGIC
@@ -94,7 +94,7 @@ public class Test {
     for (Vehicle v : vehicles) {
         System.out.println("  " + v.getBrand() + " " + v.getModel() + 
                            " | Year: " + v.getYear() + 
-                           " | Price: $" + v.getPricePerDay());
+                           " | Price: " + v.getPricePerDay());
     }
 
 } catch (Exception e) {
@@ -130,7 +130,7 @@ System.out.println("-------------------\n");
             Booking booking = customer.requestVehicle(car, rentalDate, returnDate);
             
             System.out.println("  Booking ID: " + booking.getBookingId());
-            System.out.println("  Total Cost: $" + booking.getTotalCost());
+            System.out.println("  Total Cost: " + booking.getTotalCost());
             System.out.println("  Status: " + booking.getStatus());
             System.out.println("  Expected: PENDING");
             
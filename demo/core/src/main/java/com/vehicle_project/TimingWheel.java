@@ -0,0 +1,155 @@
+package com.vehicle_project;
+
+import java.util.function.Consumer;
+
+// Hashed timing wheel: a ring of buckets, one per tick, each a doubly linked list of timeouts.
+// A deadline further away than one turn of the wheel keeps a count of remaining rounds
+// and is skipped until that count runs out. Scheduling and cancelling are O(1); advancing
+// touches only the buckets of the ticks that went by.
+//
+// The wheel has no thread of its own; the owner calls advanceTo() with the current time.
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Timeout<T>[] heads;
+    private long currentTick;     // next tick to be processed
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        // Only ever holds Timeout<T>s and never leaves this wheel, so the cast is safe
+        @SuppressWarnings("unchecked")
+        Timeout<T>[] buckets = (Timeout<T>[]) new Timeout<?>[wheelSize];
+        this.heads = buckets;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // Deadlines already in the past fire on the next advance
+    public synchronized Timeout<T> schedule(T item, long deadlineMillis) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item cannot be null");
+        }
+        long tick = Math.max(deadlineMillis / tickMillis, currentTick);
+        Timeout<T> timeout = new Timeout<>(this, item, deadlineMillis, (tick - currentTick) / heads.length);
+        link(timeout, (int) (tick & mask));
+        size++;
+        return timeout;
+    }
+
+    // Hand every item whose tick has fully passed by nowMillis to expired; returns how many fired
+    public synchronized int advanceTo(long nowMillis, Consumer<T> expired) {
+        long lastTick = nowMillis / tickMillis;   // ticks strictly before this one are over
+        if (size == 0) {
+            currentTick = Math.max(currentTick, lastTick);
+            return 0;
+        }
+        int fired = 0;
+        while (currentTick < lastTick) {
+            int bucket = (int) (currentTick & mask);
+            Timeout<T> timeout = heads[bucket];
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.rounds <= 0) {
+                    unlink(timeout);
+                    size--;
+                    timeout.expired = true;
+                    expired.accept(timeout.item);
+                    fired++;
+                } else {
+                    timeout.rounds--;
+                }
+                timeout = next;
+            }
+            currentTick++;
+            if (size == 0) {
+                currentTick = Math.max(currentTick, lastTick);
+            }
+        }
+        return fired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    private void link(Timeout<T> timeout, int bucket) {
+        timeout.bucket = bucket;
+        timeout.next = heads[bucket];
+        if (heads[bucket] != null) {
+            heads[bucket].prev = timeout;
+        }
+        heads[bucket] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            heads[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket < 0) {
+            return false;   // already fired or cancelled
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    public static final class Timeout<T> {
+        private final TimingWheel<T> wheel;
+        private final T item;
+        private final long deadlineMillis;
+        private long rounds;
+        private int bucket = -1;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private boolean expired;
+
+        private Timeout(TimingWheel<T> wheel, T item, long deadlineMillis, long rounds) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+            this.rounds = rounds;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public boolean isExpired() {
+            synchronized (wheel) {
+                return expired;
+            }
+        }
+
+        // Returns false if the timeout already fired or was cancelled before
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.vehicle_project;
+
+import java.util.Arrays;
+
+// The physical units (plate/VIN) behind one vehicle listing and what each is doing. Unit states are
+// bits: every block of 64 units is three longs (available, in maintenance, rented), so taking a
+// free unit is a trailing-zero count, a return clears and sets one bit each, and counts are
+// popcounts. A unit with no bit set is retired (taken out of stock) and is reused before a new one
+// is added. Not thread-safe: Vehicle guards it with its own lock.
+public class UnitFleet {
+
+    public static final int NO_UNIT = -1;
+    public static final int NO_BOOKING = -1;
+
+    public enum UnitState {
+        AVAILABLE,
+        MAINTENANCE,
+        RENTED,
+        RETIRED
+    }
+
+    private static final int AVAILABLE = 0;
+    private static final int MAINTENANCE = 1;
+    private static final int RENTED = 2;
+    private static final int WORDS_PER_BLOCK = 3;
+    private static final int NO_BLOCK = Integer.MAX_VALUE;
+
+    private long[] words = new long[WORDS_PER_BLOCK];   // block b: words[3b + AVAILABLE], [3b + MAINTENANCE], [3b + RENTED]
+    private int[] bookings;    // booking ordinal of each rented unit; null until a booking takes one
+    private String[] plates;   // null until a unit is given a plate
+    private int size;          // units ever added, retired ones included
+    private int freeBlock;     // no block before this one has an available unit
+    private int retiredBlock = NO_BLOCK;   // likewise for retired units; NO_BLOCK when none is retired
+
+    // Add a unit, reusing a retired one when no plate is given; its index
+    public int add(String plate) {
+        int unit = plate == null ? firstRetired() : NO_UNIT;
+        if (unit == NO_UNIT) {
+            if (plate != null && indexOf(plate) != NO_UNIT) {
+                throw new IllegalArgumentException("Unit " + plate + " is already in this fleet");
+            }
+            unit = size++;
+            if (block(unit) * WORDS_PER_BLOCK >= words.length) {
+                words = Arrays.copyOf(words, words.length * 2);
+            }
+            if (plate != null) {
+                if (plates == null) {
+                    plates = new String[Math.max(8, unit + 1)];
+                } else if (unit >= plates.length) {
+                    plates = Arrays.copyOf(plates, Math.max(plates.length * 2, unit + 1));
+                }
+                plates[unit] = VehicleModel.intern(plate);
+            }
+        }
+        set(AVAILABLE, unit);
+        return unit;
+    }
+
+    // Add a unit already rented out to booking (restoring history), reusing a retired one; its index
+    public int addRented(int booking) {
+        int unit = add(null);
+        clear(AVAILABLE, unit);
+        set(RENTED, unit);
+        setBooking(unit, booking);
+        return unit;
+    }
+
+    // Take an available unit out of stock; the unit, or NO_UNIT when none is available
+    public int retire() {
+        int unit = firstAvailable();
+        if (unit != NO_UNIT) {
+            clear(AVAILABLE, unit);
+            retiredBlock = Math.min(retiredBlock, block(unit));
+        }
+        return unit;
+    }
+
+    // Rent an available unit out to a booking (NO_BOOKING when renting without one); the unit,
+    // or NO_UNIT when none is available
+    public int checkOut(int booking) {
+        int unit = firstAvailable();
+        if (unit == NO_UNIT) {
+            return NO_UNIT;
+        }
+        clear(AVAILABLE, unit);
+        set(RENTED, unit);
+        setBooking(unit, booking);
+        return unit;
+    }
+
+    private void setBooking(int unit, int booking) {
+        if (booking == NO_BOOKING && bookings == null) {
+            return;
+        }
+        if (bookings == null || unit >= bookings.length) {
+            int oldLength = bookings == null ? 0 : bookings.length;
+            bookings = bookings == null ? new int[Math.max(8, size)] : Arrays.copyOf(bookings, Math.max(oldLength * 2, size));
+            Arrays.fill(bookings, oldLength, bookings.length, NO_BOOKING);
+        }
+        bookings[unit] = booking;
+    }
+
+    // A rented unit came back and is available again
+    public void checkIn(int unit) {
+        if (getState(unit) != UnitState.RENTED) {
+            throw new IllegalStateException("Unit " + unit + " is not rented out");
+        }
+        clear(RENTED, unit);
+        set(AVAILABLE, unit);
+        if (bookings != null) {
+            bookings[unit] = NO_BOOKING;
+        }
+    }
+
+    // Move an available unit into maintenance, or a unit in maintenance back into stock
+    public void setMaintenance(int unit, boolean maintenance) {
+        UnitState state = getState(unit);
+        UnitState expected = maintenance ? UnitState.AVAILABLE : UnitState.MAINTENANCE;
+        if (state != expected) {
+            throw new IllegalStateException("Unit " + unit + " is " + state + ", expected " + expected);
+        }
+        clear(maintenance ? AVAILABLE : MAINTENANCE, unit);
+        set(maintenance ? MAINTENANCE : AVAILABLE, unit);
+    }
+
+    // A unit rented out to booking (NO_BOOKING: rented without one); NO_UNIT when there is none.
+    // Scans the rented units, so bookings that know their unit should check it in directly.
+    public int findRented(int booking) {
+        for (int b = 0; b * WORDS_PER_BLOCK < words.length; b++) {
+            long rented = words[b * WORDS_PER_BLOCK + RENTED];
+            while (rented != 0) {
+                int unit = (b << 6) + Long.numberOfTrailingZeros(rented);
+                if (getBooking(unit) == booking) {
+                    return unit;
+                }
+                rented &= rented - 1;
+            }
+        }
+        return NO_UNIT;
+    }
+
+    public UnitState getState(int unit) {
+        if (unit < 0 || unit >= size) {
+            throw new IllegalArgumentException("No unit " + unit + " (fleet has " + size + ")");
+        }
+        if (test(AVAILABLE, unit)) {
+            return UnitState.AVAILABLE;
+        }
+        if (test(RENTED, unit)) {
+            return UnitState.RENTED;
+        }
+        return test(MAINTENANCE, unit) ? UnitState.MAINTENANCE : UnitState.RETIRED;
+    }
+
+    // Booking ordinal the unit is rented to, or NO_BOOKING
+    public int getBooking(int unit) {
+        return bookings == null || unit >= bookings.length ? NO_BOOKING : bookings[unit];
+    }
+
+    // The plate given when the unit was added, or null
+    public String getPlate(int unit) {
+        return plates == null || unit >= plates.length ? null : plates[unit];
+    }
+
+    public int indexOf(String plate) {
+        if (plates != null) {
+            for (int unit = 0; unit < Math.min(size, plates.length); unit++) {
+                if (plate.equals(plates[unit])) {
+                    return unit;
+                }
+            }
+        }
+        return NO_UNIT;
+    }
+
+    // Units ever added, retired ones included (valid indexes are 0 .. size - 1)
+    public int size() {
+        return size;
+    }
+
+    public int availableCount() {
+        return count(AVAILABLE);
+    }
+
+    public int maintenanceCount() {
+        return count(MAINTENANCE);
+    }
+
+    public int rentedCount() {
+        return count(RENTED);
+    }
+
+    private int count(int kind) {
+        int count = 0;
+        for (int i = kind; i < words.length; i += WORDS_PER_BLOCK) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    // Blocks before freeBlock have no available unit, so the search starts there
+    private int firstAvailable() {
+        for (int b = freeBlock; b * WORDS_PER_BLOCK < words.length; b++) {
+            long available = words[b * WORDS_PER_BLOCK + AVAILABLE];
+            if (available != 0) {
+                freeBlock = b;
+                return (b << 6) + Long.numberOfTrailingZeros(available);
+            }
+        }
+        freeBlock = words.length / WORDS_PER_BLOCK;
+        return NO_UNIT;
+    }
+
+    // Only retire() makes a unit retired, so with none retired since the last search this is O(1)
+    private int firstRetired() {
+        for (int b = retiredBlock; b != NO_BLOCK && (b << 6) < size; b++) {
+            int i = b * WORDS_PER_BLOCK;
+            long retired = ~(words[i + AVAILABLE] | words[i + MAINTENANCE] | words[i + RENTED]);
+            int unitsInBlock = Math.min(64, size - (b << 6));
+            if (unitsInBlock < 64) {
+                retired &= (1L << unitsInBlock) - 1;
+            }
+            if (retired != 0) {
+                retiredBlock = b;
+                return (b << 6) + Long.numberOfTrailingZeros(retired);
+            }
+        }
+        retiredBlock = NO_BLOCK;
+        return NO_UNIT;
+    }
+
+    private static int block(int unit) {
+        return unit >>> 6;
+    }
+
+    private boolean test(int kind, int unit) {
+        return (words[block(unit) * WORDS_PER_BLOCK + kind] & (1L << unit)) != 0;
+    }
+
+    private void set(int kind, int unit) {
+        words[block(unit) * WORDS_PER_BLOCK + kind] |= 1L << unit;
+        if (kind == AVAILABLE && block(unit) < freeBlock) {
+            freeBlock = block(unit);
+        }
+    }
+
+    private void clear(int kind, int unit) {
+        words[block(unit) * WORDS_PER_BLOCK + kind] &= ~(1L << unit);
+    }
+}
@@ -0,0 +1,356 @@
+package com.vehicle_project;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Tracks how many units of each vehicle (and each vehicle type) are out on every day.
+// Bookings are written into day-level difference arrays, so approve/cancel/return are
+// O(1) updates; queries rebuild the prefix sums once and then answer in O(1).
+// The fleet size of each type is a running total, kept from the vehicle list edits and the
+// vehicles' change listeners, so no query walks the vehicle list.
+public class UtilizationEngine {
+
+    // Told after the occupancy of vehicle changed on the days [from, to)
+    public interface OccupancyListener {
+        void occupancyChanged(Vehicle vehicle, LocalDate from, LocalDate to);
+    }
+
+    // Told after the fleet size of a vehicle type moved. Runs under the engine's lock, so it must
+    // not call back into the engine.
+    public interface CapacityListener {
+        void capacityChanged(String type);
+    }
+
+    private final Map<String, DayOccupancy> byVehicle = new HashMap<>();
+    private final Map<String, DayOccupancy> byType = new HashMap<>();
+    private final Map<String, Integer> activeRentals = new HashMap<>();
+    private final Map<String, Integer> listedQuantity = new HashMap<>();   // units on the lot of each listed vehicle
+    private final Map<String, Integer> typeCapacity = new HashMap<>();
+    private final List<OccupancyListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<CapacityListener> capacityListeners = new CopyOnWriteArrayList<>();
+
+    public UtilizationEngine(ChangeList<Vehicle> vehicles) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicle list cannot be null");
+        }
+        // Listeners run under the list and vehicle locks, which are taken before the engine's
+        vehicles.addListenerAndReplay(edits -> {
+            synchronized (this) {
+                for (ChangeList.Edit<Vehicle> edit : edits) {
+                    edit.getRemoved().forEach(this::unlist);
+                    edit.getAdded().forEach(this::list);
+                }
+            }
+        });
+        Vehicle.addChangeListener(vehicle -> {
+            synchronized (this) {
+                Integer old = listedQuantity.get(vehicle.getVehicleId());
+                if (old != null) {
+                    int quantity = vehicle.getQuantity();   // read under the engine lock, after any add
+                    listedQuantity.put(vehicle.getVehicleId(), quantity);
+                    addCapacity(typeOf(vehicle), quantity - old);
+                }
+            }
+        });
+    }
+
+    public void addOccupancyListener(OccupancyListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeOccupancyListener(OccupancyListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void addCapacityListener(CapacityListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        capacityListeners.add(listener);
+    }
+
+    public void removeCapacityListener(CapacityListener listener) {
+        capacityListeners.remove(listener);
+    }
+
+    // 1. Booking approved: the unit is occupied for [rentalDate, returnDate)
+    public void onApproved(Booking booking) {
+        Vehicle vehicle = vehicleOf(booking);
+        if (vehicle == null) {
+            return;
+        }
+        long from = booking.getRentalDate().toEpochDay();
+        long to = endDayOf(booking);
+        synchronized (this) {
+            occupancy(byVehicle, vehicle.getVehicleId()).add(from, to, 1);
+            occupancy(byType, typeOf(vehicle)).add(from, to, 1);
+            activeRentals.merge(vehicle.getVehicleId(), 1, Integer::sum);
+            if (listedQuantity.containsKey(vehicle.getVehicleId())) {
+                addCapacity(typeOf(vehicle), 1);
+            }
+        }
+        fireChanged(vehicle, from, to);
+    }
+
+    // 2. Approved booking cancelled: give back the whole interval
+    public void onCancelled(Booking booking) {
+        release(booking, booking.getRentalDate().toEpochDay());
+    }
+
+    // 3. Vehicle returned on a given day: everything after that day is free again
+    public void onReturned(Booking booking, LocalDate returnedOn) {
+        long from = Math.max(returnedOn.toEpochDay() + 1, booking.getRentalDate().toEpochDay());
+        release(booking, from);
+    }
+
+    private void release(Booking booking, long from) {
+        Vehicle vehicle = vehicleOf(booking);
+        if (vehicle == null) {
+            return;
+        }
+        long to = endDayOf(booking);
+        synchronized (this) {
+            if (from < to) {
+                occupancy(byVehicle, vehicle.getVehicleId()).add(from, to, -1);
+                occupancy(byType, typeOf(vehicle)).add(from, to, -1);
+            }
+            boolean wasActive = activeRentals.containsKey(vehicle.getVehicleId());
+            activeRentals.computeIfPresent(vehicle.getVehicleId(), (id, count) -> count > 1 ? count - 1 : null);
+            if (wasActive && listedQuantity.containsKey(vehicle.getVehicleId())) {
+                addCapacity(typeOf(vehicle), -1);
+            }
+        }
+        fireChanged(vehicle, from, to);
+    }
+
+    // Listeners run outside the engine's lock, so they may query it
+    private void fireChanged(Vehicle vehicle, long from, long to) {
+        for (OccupancyListener listener : listeners) {
+            listener.occupancyChanged(vehicle, LocalDate.ofEpochDay(from), LocalDate.ofEpochDay(to));
+        }
+    }
+
+    // Units of this vehicle out on the given day
+    public synchronized int getOccupancy(Vehicle vehicle, LocalDate day) {
+        DayOccupancy occupancy = byVehicle.get(vehicle.getVehicleId());
+        return occupancy == null ? 0 : occupancy.occupancyOn(day.toEpochDay());
+    }
+
+    // Units of this vehicle type out on the given day
+    public synchronized int getTypeOccupancy(String type, LocalDate day) {
+        DayOccupancy occupancy = byType.get(type);
+        return occupancy == null ? 0 : occupancy.occupancyOn(day.toEpochDay());
+    }
+
+    // Units of this vehicle type out on each of out.length days from the given day, under one lock:
+    // out[i] for from + i
+    public synchronized void getTypeOccupancies(String type, LocalDate from, int[] out) {
+        DayOccupancy occupancy = byType.get(type);
+        long day = from.toEpochDay();
+        for (int i = 0; i < out.length; i++) {
+            out[i] = occupancy == null ? 0 : occupancy.occupancyOn(day + i);
+        }
+    }
+
+    // Units of this vehicle free on every day of [from, to) (a same-day range counts as one day):
+    // fleet size minus the busiest day in the range
+    public synchronized int getFreeUnits(Vehicle vehicle, LocalDate from, LocalDate to) {
+        return Math.max(0, getCapacity(vehicle) - getPeakOccupancy(vehicle, from, to));
+    }
+
+    // Most units of this vehicle out on any single day of [from, to)
+    public synchronized int getPeakOccupancy(Vehicle vehicle, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date.");
+        }
+        long start = from.toEpochDay();
+        long end = Math.max(to.toEpochDay(), start + 1);
+        DayOccupancy occupancy = byVehicle.get(vehicle.getVehicleId());
+        return occupancy == null ? 0 : occupancy.peak(start, end);
+    }
+
+    // Fleet size of a vehicle: units on the lot plus units currently rented out
+    public synchronized int getCapacity(Vehicle vehicle) {
+        return vehicle.getQuantity() + activeRentals.getOrDefault(vehicle.getVehicleId(), 0);
+    }
+
+    // Fleet sizes of many vehicles under one lock: capacities[i] for vehicles[i]
+    public synchronized void getCapacities(Vehicle[] vehicles, int[] capacities) {
+        for (int i = 0; i < vehicles.length; i++) {
+            capacities[i] = getCapacity(vehicles[i]);
+        }
+    }
+
+    // Fleet size of a vehicle type: the capacities of its listed vehicles
+    public synchronized int getTypeCapacity(String type) {
+        return typeCapacity.getOrDefault(type, 0);
+    }
+
+    // Caller holds this
+    private void list(Vehicle vehicle) {
+        String id = vehicle.getVehicleId();
+        if (listedQuantity.containsKey(id)) {
+            return;
+        }
+        int quantity = vehicle.getQuantity();
+        listedQuantity.put(id, quantity);
+        addCapacity(typeOf(vehicle), quantity + activeRentals.getOrDefault(id, 0));
+    }
+
+    // Caller holds this
+    private void unlist(Vehicle vehicle) {
+        String id = vehicle.getVehicleId();
+        Integer quantity = listedQuantity.remove(id);
+        if (quantity != null) {
+            addCapacity(typeOf(vehicle), -(quantity + activeRentals.getOrDefault(id, 0)));
+        }
+    }
+
+    // Caller holds this
+    private void addCapacity(String type, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        typeCapacity.merge(type, delta, Integer::sum);
+        for (CapacityListener listener : capacityListeners) {
+            listener.capacityChanged(type);
+        }
+    }
+
+    // Utilization % of a vehicle over [from, to] (both inclusive)
+    public synchronized double getUtilization(Vehicle vehicle, LocalDate from, LocalDate to) {
+        DayOccupancy occupancy = byVehicle.get(vehicle.getVehicleId());
+        return percentage(occupancy, getCapacity(vehicle), from, to);
+    }
+
+    // Utilization % of a vehicle type (e.g. "Car") over [from, to] (both inclusive)
+    public synchronized double getTypeUtilization(String type, LocalDate from, LocalDate to) {
+        DayOccupancy occupancy = byType.get(type);
+        return percentage(occupancy, getTypeCapacity(type), from, to);
+    }
+
+    private static double percentage(DayOccupancy occupancy, int capacity, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date.");
+        }
+        if (occupancy == null || capacity <= 0) {
+            return 0.0;
+        }
+        long days = to.toEpochDay() - from.toEpochDay() + 1;
+        long unitDays = occupancy.unitDays(from.toEpochDay(), to.toEpochDay() + 1);
+        return Math.min(100.0, 100.0 * unitDays / ((double) capacity * days));
+    }
+
+    public static String typeOf(Vehicle vehicle) {
+        return vehicle.getType().getName();
+    }
+
+    private static Vehicle vehicleOf(Booking booking) {
+        return booking.getRentedItem() instanceof Vehicle ? (Vehicle) booking.getRentedItem() : null;
+    }
+
+    // Same-day bookings still occupy the vehicle for one day
+    private static long endDayOf(Booking booking) {
+        long from = booking.getRentalDate().toEpochDay();
+        return Math.max(booking.getReturnDate().toEpochDay(), from + 1);
+    }
+
+    private static DayOccupancy occupancy(Map<String, DayOccupancy> map, String key) {
+        return map.computeIfAbsent(key, k -> new DayOccupancy());
+    }
+
+    // Difference array over epoch days, growing in both directions as bookings arrive
+    private static final class DayOccupancy {
+        private long baseDay;
+        private int[] diff = new int[0];
+        private int[] occupancy = new int[0];
+        private long[] unitDays = new long[1];   // unitDays[i] = occupied unit-days in [baseDay, baseDay + i)
+        private boolean dirty;
+
+        void add(long from, long to, int delta) {
+            ensureRange(from, to);
+            diff[(int) (from - baseDay)] += delta;
+            diff[(int) (to - baseDay)] -= delta;
+            dirty = true;
+        }
+
+        int occupancyOn(long day) {
+            rebuild();
+            long index = day - baseDay;
+            return index < 0 || index >= occupancy.length ? 0 : occupancy[(int) index];
+        }
+
+        // Highest occupancy on any day of [from, to)
+        int peak(long from, long to) {
+            rebuild();
+            int first = (int) Math.min(occupancy.length, Math.max(0, from - baseDay));
+            int last = (int) Math.min(occupancy.length, to - baseDay);
+            int peak = 0;
+            for (int i = first; i < last; i++) {
+                peak = Math.max(peak, occupancy[i]);
+            }
+            return peak;
+        }
+
+        long unitDays(long from, long to) {
+            rebuild();
+            return prefix(to) - prefix(from);
+        }
+
+        private long prefix(long day) {
+            long index = day - baseDay;
+            if (index <= 0) {
+                return 0;
+            }
+            return unitDays[(int) Math.min(index, unitDays.length - 1)];
+        }
+
+        private void rebuild() {
+            if (!dirty) {
+                return;
+            }
+            int running = 0;
+            for (int i = 0; i < diff.length; i++) {
+                running += diff[i];
+                occupancy[i] = running;
+                unitDays[i + 1] = unitDays[i] + running;
+            }
+            dirty = false;
+        }
+
+        private void ensureRange(long from, long to) {
+            if (diff.length == 0) {
+                baseDay = from;
+                allocate(Math.max((int) (to - from) + 1, 64));
+                return;
+            }
+            long end = baseDay + diff.length;
+            if (from >= baseDay && to < end) {
+                return;
+            }
+            long newBase = Math.min(from, baseDay);
+            long newEnd = Math.max(to + 1, end);
+            int size = (int) (newEnd - newBase);
+            // Grow geometrically so a stream of later bookings does not copy every time
+            size = Math.max(size, diff.length * 2);
+            int shift = (int) (baseDay - newBase);
+            int[] old = diff;
+            allocate(size);
+            System.arraycopy(old, 0, diff, shift, old.length);
+            baseDay = newBase;
+            dirty = true;
+        }
+
+        private void allocate(int size) {
+            diff = new int[size];
+            occupancy = new int[size];
+            unitDays = new long[size + 1];
+        }
+    }
+}
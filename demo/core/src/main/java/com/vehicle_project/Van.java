@@ -0,0 +1,14 @@
+package com.vehicle_project;
+
+// A vehicle of the "Van" type (see VehicleType)
+public class Van extends Vehicle {
+
+    public Van(String vehicleId, String brand, String model, int year, double pricePerDay, int quantity, String vanType) {
+        super(VehicleType.get("Van"), vehicleId, brand, model, year, pricePerDay, quantity, vanType);
+    }
+
+    // e.g., Minivan, Cargo Van, Passenger Van
+    public String getVanType() {
+        return getSubtype();
+    }
+}
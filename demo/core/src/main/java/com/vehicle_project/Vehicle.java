@@ -0,0 +1,397 @@
+package com.vehicle_project;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// One vehicle listing: a model with some units in stock. What differs between categories (subtype
+// names, display text, pricing rules) comes from its VehicleType, so renting, pricing and display
+// are implemented once here; Car, Van and Bike are shorthands that only pin their type.
+// Brand, model, year and subtype live in a VehicleModel shared by every listing of that model.
+// The units in stock are tracked one by one in a UnitFleet; quantity is its count of available units.
+public class Vehicle implements Rentable, Comparable<Vehicle>  {
+    public static final String DEFAULT_BRANCH = "Main";
+
+    private final VehicleModel vehicleModel;   // type, brand, model, year and subtype, from the catalog
+    private String vehicleId;      
+    private volatile Money pricePerDay;    // volatile: read without locking, written under this
+    private volatile int quantity;         // available units of the fleet, kept for reads without locking
+    private final UnitFleet units = new UnitFleet();   // guarded by this
+    private volatile long version;         // bumped by every write; see WriteResult
+    private String branch = DEFAULT_BRANCH;   // rental location
+    private BranchShard shard;                // set while stored in DataManager
+
+    // Told synchronously whenever price or quantity changes (the ui keeps its cell properties in step)
+    private static final List<Consumer<? super Vehicle>> changeListeners = new CopyOnWriteArrayList<>();
+
+
+    public Vehicle(VehicleType type, String vehicleId, String brand, String model, int year, double pricePerDay,
+                   int quantity, String subtype) {
+        if (type == null) {
+            throw new IllegalArgumentException("Vehicle type cannot be null");
+        }
+        if (vehicleId == null || vehicleId.isBlank()) {
+        
+        throw new IllegalArgumentException("Vehicle ID cannot be null or empty");
+    }
+    
+
+    if (brand == null || brand.isBlank()) {
+        throw new IllegalArgumentException("Brand cannot be null or empty");
+    }
+
+    if (model == null || model.isBlank()) {
+        throw new IllegalArgumentException("Model cannot be null or empty");
+    }
+
+    if (year < 1886) { 
+        throw new IllegalArgumentException("Year is not valid");
+    }
+
+    if (!(pricePerDay >= 0.005)) {   // at least a cent once rounded
+        throw new IllegalArgumentException("Price per day must be greater than 0");
+    }
+    if (quantity < 0) {
+        throw new IllegalArgumentException("Quantity cannot be negative");
+    }
+
+        this.vehicleModel = VehicleModel.of(type, brand, model, year, type.normalizeSubtype(subtype));
+        this.vehicleId = vehicleId;
+        this.pricePerDay = Money.of(pricePerDay);
+        for (int i = 0; i < quantity; i++) {
+            units.add(null);
+        }
+        this.quantity = quantity;
+
+    
+    }
+    public VehicleType getType() {
+        return vehicleModel.getType();
+    }
+
+    public VehicleModel getVehicleModel() {
+        return vehicleModel;
+    }
+
+    // e.g. Sedan, Cargo Van, Sport
+    public String getSubtype() {
+        return vehicleModel.getSubtype();
+    }
+
+   public String getVehicleId() {
+        return vehicleId;
+    }
+    
+    public String getBrand() {
+        return vehicleModel.getBrand();
+    }
+    
+    public String getModel() {
+        return vehicleModel.getModel();
+    }
+    
+    public int getYear() {
+        return vehicleModel.getYear();
+    }
+    
+    public String getBranch() {
+        return branch;
+    }
+
+    // The branch decides which shard stores the vehicle, so it is fixed once stored
+    public void setBranch(String branch) {
+        if (branch == null || branch.isBlank()) {
+            throw new IllegalArgumentException("Branch cannot be null or empty");
+        }
+        if (shard != null) {
+            throw new IllegalStateException("Cannot move a stored vehicle to another branch");
+        }
+        this.branch = VehicleModel.intern(branch);
+    }
+
+    void setShard(BranchShard shard) {
+        this.shard = shard;
+    }
+
+    public Money getPricePerDay() {
+        return pricePerDay;
+    }
+    
+    public synchronized void setPricePerDay(Money pricePerDay) {
+        if (pricePerDay == null || !pricePerDay.isPositive()) {
+            throw new IllegalArgumentException("Price per day must be greater than 0");
+        }
+        this.pricePerDay = pricePerDay;
+        version++;
+        fireChanged();
+    }
+
+    // Only applied if nobody wrote since expectedVersion was read
+    public synchronized WriteResult setPricePerDay(Money pricePerDay, long expectedVersion) {
+        if (version != expectedVersion) {
+            return WriteResult.conflict(vehicleId, expectedVersion, version);
+        }
+        setPricePerDay(pricePerDay);
+        return WriteResult.applied(vehicleId, version);
+    }
+
+    // Incremented by every change to price or quantity (renting and returning included).
+    // Reads never lock: read the version, then the fields, and pass the version back with the write.
+    public long getVersion() {
+        return version;
+    }
+
+    public static void addChangeListener(Consumer<? super Vehicle> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        changeListeners.add(listener);
+    }
+
+    public static void removeChangeListener(Consumer<? super Vehicle> listener) {
+        changeListeners.remove(listener);
+    }
+
+    private void fireChanged() {
+        for (Consumer<? super Vehicle> listener : changeListeners) {
+            listener.accept(this);
+        }
+    }
+
+    
+   @Override
+    public final boolean isAvailable() {
+        return quantity >0;
+    }
+
+
+     public synchronized void setQuantity(int quantity) {
+            if (quantity < 0) {
+                throw new IllegalArgumentException("Quantity cannot be negative");
+            }
+            int delta = quantity - this.quantity;
+            changeStock(delta);
+            if (delta != 0) {
+                DataManager.getEventBus().publish(new DomainEvent.InventoryChanged(this, delta));
+            }
+     }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+
+    // Single write path for quantity so change listeners always hear about it (caller holds this)
+    private void updateQuantity() {
+        this.quantity = units.availableCount();
+        version++;
+        fireChanged();
+    }
+
+    // Add delta available units (retired ones first), or retire -delta of them (caller holds this)
+    private void changeStock(int delta) {
+        for (int i = 0; i < delta; i++) {
+            units.add(null);
+        }
+        for (int i = 0; i > delta; i--) {
+            units.retire();
+        }
+        updateQuantity();
+    }
+
+    // Units ever added to this listing, retired ones included; unit indexes run from 0 to this - 1
+    public synchronized int getUnitCount() {
+        return units.size();
+    }
+
+    public synchronized int getRentedCount() {
+        return units.rentedCount();
+    }
+
+    public synchronized int getMaintenanceCount() {
+        return units.maintenanceCount();
+    }
+
+    public synchronized UnitFleet.UnitState getUnitState(int unit) {
+        return units.getState(unit);
+    }
+
+    // Ordinal of the booking the unit is rented to (see Booking.getOrdinal), or UnitFleet.NO_BOOKING
+    public synchronized int getUnitBooking(int unit) {
+        return units.getBooking(unit);
+    }
+
+    // The unit's plate/VIN; units added without one are named after the listing, e.g. C001-3
+    public synchronized String getPlate(int unit) {
+        units.getState(unit);   // validates the index
+        String plate = units.getPlate(unit);
+        return plate != null ? plate : vehicleId + "-" + (unit + 1);
+    }
+
+    // Add one unit with its plate/VIN to stock; its index
+    public synchronized int addUnit(String plate, User user) {
+        if (plate == null || plate.isBlank()) {
+            throw new IllegalArgumentException("Plate cannot be null or empty");
+        }
+        checkAdmin(user);
+        int unit = units.add(plate.trim());
+        updateQuantity();
+        DataManager.getEventBus().publish(new DomainEvent.InventoryChanged(this, 1));
+        DataManager.audit(user, AuditLog.Action.ADD_QUANTITY, vehicleId, 1);
+        return unit;
+    }
+
+    // Take an available unit out of stock for maintenance, or put it back
+    public synchronized void setMaintenance(int unit, boolean maintenance, User user) {
+        checkAdmin(user);
+        units.setMaintenance(unit, maintenance);
+        updateQuantity();
+        DataManager.getEventBus().publish(new DomainEvent.InventoryChanged(this, maintenance ? -1 : 1));
+    }
+
+    private static void checkAdmin(User user) {
+        if (user == null) {
+            throw new SecurityException("User cannot be null!");
+        }
+        if (!user.hasRole(User.UserRole.ADMIN)) {
+            throw new SecurityException("Only Admin can change units! User " + user.getName() + " is not authorized.");
+        }
+    }
+
+
+    //////////////////////////////////////////////////////////
+ // Enhanced addQuantity with role checking
+    public synchronized void addQuantity(int quantity, User user) {
+        // Check 1: User must not be null
+        if (user == null) {
+            throw new SecurityException("User cannot be null!");
+        }
+
+         //Check 2: User must be Admin
+       if (!user.hasRole(User.UserRole.ADMIN)) {
+           throw new SecurityException("Only Admin can add quantity! User " + user.getName() + " is not authorized.");
+       }
+
+        // Check 3: Quantity validation
+        if (quantity < -this.quantity) {
+            throw new IllegalArgumentException("Quantity cannot be negative after update");
+        }
+
+        // Update quantity
+        changeStock(quantity);
+        if (quantity != 0) {
+            DataManager.getEventBus().publish(new DomainEvent.InventoryChanged(this, quantity));
+        }
+        DataManager.audit(user, AuditLog.Action.ADD_QUANTITY, vehicleId, quantity);
+        System.out.println("Quantity updated by Admin " + user.getName());
+    }
+
+    // Same checks as above, but only applied if nobody wrote since expectedVersion was read
+    public synchronized WriteResult addQuantity(int quantity, User user, long expectedVersion) {
+        if (version != expectedVersion) {
+            return WriteResult.conflict(vehicleId, expectedVersion, version);
+        }
+        addQuantity(quantity, user);
+        return WriteResult.applied(vehicleId, version);
+    }
+    ///////////////////////////////////////////////////////////
+    
+    public final String getVehicleInfo() {
+        return getType().formatInfo(this);
+    }
+
+    // Implementing Rentable: the same code for every type, so these calls stay monomorphic
+
+    @Override
+    public final void rent(Customer customer, int days, Admin admin) {
+        rent(customer, days, UnitFleet.NO_BOOKING);
+    }
+
+    // Rent a free unit out to the booking with this ordinal; the unit, or UnitFleet.NO_UNIT when
+    // none was free
+    final int rent(Customer customer, int days, int bookingOrdinal) {
+        int unit;
+        synchronized (this) {
+            unit = units.checkOut(bookingOrdinal);
+            if (unit != UnitFleet.NO_UNIT) {
+                updateQuantity();
+                DataManager.getEventBus().publish(new DomainEvent.InventoryChanged(this, -1));
+            }
+        }
+        if (unit != UnitFleet.NO_UNIT) {
+            System.out.println(getType().getName() + " rented to " + customer.getName() + " for " + days + " days.");
+        } else {
+            System.out.println(getType().getName() + " is not available for rent.");
+        }
+        return unit;
+    }
+
+    // List price for days with no demand surcharge (PricingEngine quotes dated stays)
+    @Override
+    public final Money getRentalPrice(int days) {
+        return getType().getPricingRules().listPrice(pricePerDay, days);
+    }
+
+    // A unit rented without a booking (see rent(Customer, int, Admin)) comes back. Returns never
+    // add units: with none of those out this throws.
+    @Override
+    public final void returnItem() {
+        synchronized (this) {
+            int unit = units.findRented(UnitFleet.NO_BOOKING);
+            if (unit == UnitFleet.NO_UNIT) {
+                throw new IllegalStateException("No " + getType().getName() + " unit of " + vehicleId
+                                                + " is rented out without a booking");
+            }
+            units.checkIn(unit);
+            updateQuantity();
+            DataManager.getEventBus().publish(new DomainEvent.InventoryChanged(this, 1));
+        }
+        System.out.println(getType().getName() + " returned successfully.");
+    }
+
+    // A booking restored from history as approved was out before this listing's stock was counted:
+    // record the unit it holds as rented to it, leaving the available units alone
+    synchronized int restoreRentedUnit(int bookingOrdinal) {
+        int unit = units.addRented(bookingOrdinal);
+        updateQuantity();
+        return unit;
+    }
+
+    // The unit a booking took (see rent) comes back
+    final void returnUnit(int unit) {
+        synchronized (this) {
+            units.checkIn(unit);
+            updateQuantity();
+            DataManager.getEventBus().publish(new DomainEvent.InventoryChanged(this, 1));
+        }
+        System.out.println(getType().getName() + " returned successfully.");
+    }
+
+    @Override
+    public final String getDescription() {
+        return vehicleModel.describe(this);
+    }
+
+    // Build a vehicle of a registered type ("Car", "Van", "Bike" or one added from configuration)
+    public static Vehicle create(String type, String vehicleId, String brand, String model, int year,
+                                 double pricePerDay, int quantity, String subtype) {
+        if (type == null) {
+            throw new IllegalArgumentException("Vehicle type cannot be null");
+        }
+        return new Vehicle(VehicleType.get(type), vehicleId, brand, model, year, pricePerDay, quantity, subtype);
+    }
+    
+    @Override
+    public final String toString() {
+        return getVehicleInfo();
+    }
+
+     @Override
+    public int compareTo(Vehicle other) {
+        return this.pricePerDay.compareTo(other.pricePerDay);
+    }
+
+          
+  
+}
+
+    
\ No newline at end of file
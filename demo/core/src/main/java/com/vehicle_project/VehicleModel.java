@@ -0,0 +1,125 @@
+package com.vehicle_project;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// What units of the same model share: type, brand, model, year and subtype, plus the text built
+// from them. Vehicles point at one shared VehicleModel from a catalog instead of carrying their
+// own copies, so a fleet of a million units of a few hundred models holds a few hundred of each
+// string. The catalog only grows; models are never removed.
+public final class VehicleModel {
+
+    private static final SymbolTable symbols = new SymbolTable();
+    private static final ConcurrentHashMap<VehicleModel, VehicleModel> catalog = new ConcurrentHashMap<>();
+
+    private final VehicleType type;
+    private final String brand;
+    private final String model;
+    private final int year;
+    private final String subtype;
+    private final int hash;
+    private volatile String displayName;   // "Toyota Camry", built on first use
+    private volatile String description;   // kept when the type's template only uses model fields
+
+    private VehicleModel(VehicleType type, String brand, String model, int year, String subtype) {
+        this.type = type;
+        this.brand = brand;
+        this.model = model;
+        this.year = year;
+        this.subtype = subtype;
+        this.hash = Objects.hash(System.identityHashCode(type), brand, model, year, subtype);
+    }
+
+    // The shared model with these fields, added to the catalog the first time it is asked for.
+    // subtype should already be normalized by the type (VehicleType.normalizeSubtype).
+    public static VehicleModel of(VehicleType type, String brand, String model, int year, String subtype) {
+        if (type == null || brand == null || model == null || subtype == null) {
+            throw new IllegalArgumentException("Vehicle type, brand, model and subtype cannot be null");
+        }
+        VehicleModel key = new VehicleModel(type, brand, model, year, subtype);
+        VehicleModel shared = catalog.get(key);
+        if (shared != null) {
+            return shared;
+        }
+        VehicleModel added = new VehicleModel(type, symbols.intern(brand), symbols.intern(model), year, symbols.intern(subtype));
+        shared = catalog.putIfAbsent(added, added);
+        return shared != null ? shared : added;
+    }
+
+    // value as the shared instance from the catalog's symbol table (e.g. branch names)
+    public static String intern(String value) {
+        return symbols.intern(value);
+    }
+
+    // Distinct models in the catalog
+    public static int getCatalogSize() {
+        return catalog.size();
+    }
+
+    // Distinct strings in the symbol table
+    public static int getSymbolCount() {
+        return symbols.size();
+    }
+
+    public VehicleType getType() {
+        return type;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public String getSubtype() {
+        return subtype;
+    }
+
+    public String getDisplayName() {
+        String name = displayName;
+        if (name == null) {
+            name = brand + " " + model;
+            displayName = name;
+        }
+        return name;
+    }
+
+    // The description of vehicle (a unit of this model), shared by every unit when it can be
+    String describe(Vehicle vehicle) {
+        String text = description;
+        if (text == null) {
+            text = type.formatDescription(vehicle);
+            if (type.isDescriptionPerModel()) {
+                description = text;
+            }
+        }
+        return text;
+    }
+
+    // Same type (the registered instance), brand, model, year and subtype
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof VehicleModel)) {
+            return false;
+        }
+        VehicleModel that = (VehicleModel) other;
+        return type == that.type && year == that.year && brand.equals(that.brand) && model.equals(that.model)
+            && subtype.equals(that.subtype);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return type.getName() + " " + getDisplayName() + " (" + year + "), " + subtype;
+    }
+}
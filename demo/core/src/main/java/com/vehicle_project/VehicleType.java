@@ -0,0 +1,338 @@
+package com.vehicle_project;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+// A vehicle category as data: its name, the subtypes it knows, how its vehicles are shown and
+// how they are priced. Vehicle implements renting, pricing and display once and reads them
+// from here, so a new category is a few lines of configuration rather than a subclass.
+//
+// The registry starts with vehicle-types.properties next to this class (Car, Van, Bike) and then
+// the file named by -Drental.types, if any, which can add categories or replace these:
+//   types=Truck
+//   Truck.subtypes=Box,Flatbed
+//   Truck.info={type} [ID={id}, Brand={brand}, Model={model}, TruckType={subtype}]
+//   Truck.utilizationRates=60:11000,85:12500     (% of fleet out : rate in basis points)
+//   Truck.stayDiscounts=5:300                    (days : basis points off)
+// Anything a type leaves out comes from the default.* keys.
+public final class VehicleType {
+
+    public static final int MAX_NAME_LENGTH = 64;   // the repository's type column
+    private static final String DEFAULTS = "default";
+
+    private final String name;
+    private final List<String> subtypes;
+    private final Map<String, String> subtypesByKey = new LinkedHashMap<>();   // lower case -> as listed
+    private final boolean strictSubtypes;
+    private final Template info;
+    private final Template description;
+    private final PricingEngine.Rules pricingRules;
+
+    public VehicleType(String name, List<String> subtypes, boolean strictSubtypes, String infoTemplate,
+                       String descriptionTemplate, PricingEngine.Rules pricingRules) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Vehicle type name cannot be null or empty");
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Vehicle type name cannot be longer than " + MAX_NAME_LENGTH + " characters");
+        }
+        if (pricingRules == null) {
+            throw new IllegalArgumentException("Pricing rules cannot be null");
+        }
+        this.name = name;
+        this.subtypes = Collections.unmodifiableList(new ArrayList<>(subtypes));
+        for (String subtype : this.subtypes) {
+            subtypesByKey.put(subtype.toLowerCase(Locale.ROOT), subtype);
+        }
+        if (strictSubtypes && this.subtypes.isEmpty()) {
+            throw new IllegalArgumentException("Vehicle type " + name + " allows no subtypes");
+        }
+        this.strictSubtypes = strictSubtypes;
+        this.info = new Template(infoTemplate);
+        this.description = new Template(descriptionTemplate);
+        this.pricingRules = pricingRules;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Known subtypes, in the order listed (offered as choices when adding a vehicle)
+    public List<String> getSubtypes() {
+        return subtypes;
+    }
+
+    // Only the listed subtypes are accepted
+    public boolean isStrictSubtypes() {
+        return strictSubtypes;
+    }
+
+    public PricingEngine.Rules getPricingRules() {
+        return pricingRules;
+    }
+
+    // subtype as listed when it matches a known one ignoring case, so "sedan" and "Sedan" are one
+    // subtype; unknown ones are kept as given unless the type is strict
+    public String normalizeSubtype(String subtype) {
+        if (subtype == null || subtype.isBlank()) {
+            throw new IllegalArgumentException("Subtype cannot be null or empty");
+        }
+        String trimmed = subtype.trim();
+        String known = subtypesByKey.get(trimmed.toLowerCase(Locale.ROOT));
+        if (known != null) {
+            return known;
+        }
+        if (strictSubtypes) {
+            throw new IllegalArgumentException("Unknown " + name + " subtype: " + subtype + " (expected one of " + subtypes + ")");
+        }
+        return trimmed;
+    }
+
+    String formatInfo(Vehicle vehicle) {
+        return info.format(vehicle);
+    }
+
+    String formatDescription(Vehicle vehicle) {
+        return description.format(vehicle);
+    }
+
+    // The description only uses fields of the vehicle's model, so all its units can share it
+    boolean isDescriptionPerModel() {
+        return description.isPerModel();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    // 1. Registry
+
+    private static final Map<String, VehicleType> registry = new LinkedHashMap<>();   // guarded by registry
+    private static final Properties bundled = new Properties();   // its default.* keys fill gaps in every file
+
+    static {
+        try (InputStream in = VehicleType.class.getResourceAsStream("vehicle-types.properties")) {
+            if (in == null) {
+                throw new IllegalStateException("vehicle-types.properties is missing from the classpath");
+            }
+            bundled.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            load(bundled);
+            String extra = System.getProperty("rental.types");
+            if (extra != null) {
+                load(Paths.get(extra));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load vehicle types: " + e.getMessage(), e);
+        }
+    }
+
+    // Add type, or replace the one of the same name. Vehicles already created keep the old one for
+    // display and list prices; the pricing engine quotes them all with the rules registered now.
+    public static void register(VehicleType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Vehicle type cannot be null");
+        }
+        synchronized (registry) {
+            registry.put(type.getName(), type);
+        }
+    }
+
+    public static VehicleType get(String name) {
+        VehicleType type = find(name);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown vehicle type: " + name);
+        }
+        return type;
+    }
+
+    // null when there is no such type
+    public static VehicleType find(String name) {
+        synchronized (registry) {
+            return registry.get(name);
+        }
+    }
+
+    // Registered types, in the order they were first registered
+    public static List<VehicleType> getAll() {
+        synchronized (registry) {
+            return new ArrayList<>(registry.values());
+        }
+    }
+
+    public static List<VehicleType> load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return load(properties);
+    }
+
+    // Register every type listed under "types"; the default.* keys of the bundled file fill gaps
+    public static List<VehicleType> load(Properties properties) {
+        String types = properties.getProperty("types");
+        if (types == null || types.isBlank()) {
+            throw new IllegalArgumentException("Vehicle type configuration lists no types");
+        }
+        List<VehicleType> loaded = new ArrayList<>();
+        for (String name : split(types)) {
+            VehicleType type = new VehicleType(name,
+                split(setting(properties, name, "subtypes", "")),
+                Boolean.parseBoolean(setting(properties, name, "strictSubtypes", "false")),
+                setting(properties, name, "info", null),
+                setting(properties, name, "description", null),
+                new PricingEngine.Rules(
+                    keys(properties, name, "utilizationRates"), values(properties, name, "utilizationRates"),
+                    Integer.parseInt(setting(properties, name, "demandRate", null)),
+                    Integer.parseInt(setting(properties, name, "maxDemandSurcharge", null)),
+                    keys(properties, name, "stayDiscounts"), values(properties, name, "stayDiscounts")));
+            loaded.add(type);
+        }
+        // Only once every type parsed, so a bad file changes nothing
+        for (VehicleType type : loaded) {
+            register(type);
+        }
+        return loaded;
+    }
+
+    // name.key, else default.key from this file, else default.key from the bundled file
+    private static String setting(Properties properties, String name, String key, String fallback) {
+        String value = properties.getProperty(name + "." + key);
+        if (value == null) {
+            value = properties.getProperty(DEFAULTS + "." + key);
+        }
+        if (value == null) {
+            value = bundled.getProperty(DEFAULTS + "." + key);
+        }
+        if (value == null) {
+            value = fallback;
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Vehicle type " + name + " has no " + key);
+        }
+        return value.trim();
+    }
+
+    private static List<String> split(String list) {
+        List<String> items = new ArrayList<>();
+        for (String item : list.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    // "50:10500,75:11500" -> {50, 75} and {10500, 11500}
+    private static int[] keys(Properties properties, String name, String key) {
+        return pairs(properties, name, key, 0);
+    }
+
+    private static int[] values(Properties properties, String name, String key) {
+        return pairs(properties, name, key, 1);
+    }
+
+    private static int[] pairs(Properties properties, String name, String key, int part) {
+        List<String> items = split(setting(properties, name, key, ""));
+        int[] numbers = new int[items.size()];
+        for (int i = 0; i < numbers.length; i++) {
+            String[] pair = items.get(i).split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Vehicle type " + name + ": " + key + " expects step:value pairs");
+            }
+            numbers[i] = Integer.parseInt(pair[part].trim());
+        }
+        return numbers;
+    }
+
+    // 2. Display templates
+
+    // "{brand} {model} ({year})" split once into literal text and fields, so formatting is
+    // appends only
+    private static final class Template {
+        private static final String[] FIELDS = {
+            "type", "brand", "model", "year", "subtype", "id", "price", "available", "quantity", "branch"
+        };
+
+        private static final int FIRST_UNIT_FIELD = 5;   // the fields before are the same for every unit of a model
+
+        private final String[] literals;   // literals[i] comes before fields[i]; one more at the end
+        private final int[] fields;
+        private final boolean perModel;
+
+        private Template(String template) {
+            if (template == null) {
+                throw new IllegalArgumentException("Template cannot be null");
+            }
+            List<String> literalList = new ArrayList<>();
+            List<Integer> fieldList = new ArrayList<>();
+            int start = 0;
+            int open;
+            while ((open = template.indexOf('{', start)) >= 0) {
+                int close = template.indexOf('}', open);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed { in template: " + template);
+                }
+                int field = fieldIndex(template.substring(open + 1, close), template);
+                literalList.add(template.substring(start, open));
+                fieldList.add(field);
+                start = close + 1;
+            }
+            literalList.add(template.substring(start));
+            this.literals = literalList.toArray(new String[0]);
+            this.fields = new int[fieldList.size()];
+            boolean perModel = true;
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fieldList.get(i);
+                perModel &= fields[i] < FIRST_UNIT_FIELD;
+            }
+            this.perModel = perModel;
+        }
+
+        boolean isPerModel() {
+            return perModel;
+        }
+
+        private static int fieldIndex(String field, String template) {
+            for (int i = 0; i < FIELDS.length; i++) {
+                if (FIELDS[i].equals(field)) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Unknown field {" + field + "} in template: " + template);
+        }
+
+        String format(Vehicle vehicle) {
+            StringBuilder out = new StringBuilder(96);
+            for (int i = 0; i < fields.length; i++) {
+                out.append(literals[i]);
+                switch (fields[i]) {
+                    case 0: out.append(vehicle.getType().getName()); break;
+                    case 1: out.append(vehicle.getBrand()); break;
+                    case 2: out.append(vehicle.getModel()); break;
+                    case 3: out.append(vehicle.getYear()); break;
+                    case 4: out.append(vehicle.getSubtype()); break;
+                    case 5: out.append(vehicle.getVehicleId()); break;
+                    case 6: out.append(vehicle.getPricePerDay()); break;
+                    case 7: out.append(vehicle.isAvailable()); break;
+                    case 8: out.append(vehicle.getQuantity()); break;
+                    default: out.append(vehicle.getBranch()); break;
+                }
+            }
+            return out.append(literals[fields.length]).toString();
+        }
+    }
+}
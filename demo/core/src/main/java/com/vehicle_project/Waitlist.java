@@ -0,0 +1,235 @@
+package com.vehicle_project;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+// Per-vehicle waitlists for customers who could not rent because the vehicle was out of stock.
+// Each vehicle has a priority queue ordered by customer tier (optional) and then by join time.
+// When units come back (InventoryChanged with a positive delta) that many waiters are taken
+// off the queue, O(log n) each, and a PENDING booking is requested on their behalf.
+// A promoted booking that is not approved (it expired or was turned down while PENDING) puts
+// its waiter back in line at the place they had, and the next free unit goes to the front again.
+public class Waitlist {
+
+    public static final class Entry {
+        private final Customer customer;
+        private final Vehicle vehicle;
+        private final LocalDate rentalDate;
+        private final LocalDate returnDate;
+        private final Customer.Tier tier;
+        private final long joinedAt;
+        private final long sequence;   // breaks ties between joins in the same millisecond
+
+        private Entry(Customer customer, Vehicle vehicle, LocalDate rentalDate, LocalDate returnDate, long sequence) {
+            this.customer = customer;
+            this.vehicle = vehicle;
+            this.rentalDate = rentalDate;
+            this.returnDate = returnDate;
+            this.tier = customer.getTier();
+            this.joinedAt = System.currentTimeMillis();
+            this.sequence = sequence;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public Vehicle getVehicle() {
+            return vehicle;
+        }
+
+        public LocalDate getRentalDate() {
+            return rentalDate;
+        }
+
+        public LocalDate getReturnDate() {
+            return returnDate;
+        }
+
+        public long getJoinedAt() {
+            return joinedAt;
+        }
+    }
+
+    private static final class Queue {
+        private final PriorityQueue<Entry> heap;
+        private final Set<Customer> members = new HashSet<>();
+
+        private Queue(Comparator<Entry> order) {
+            this.heap = new PriorityQueue<>(order);
+        }
+    }
+
+    private final Comparator<Entry> order;
+    private final Map<Vehicle, Queue> queues = new IdentityHashMap<>();
+    private long nextSequence;
+    private final Map<Booking, Entry> promoted = new IdentityHashMap<>();   // requested, not yet decided
+    private long promotedCount;
+    private long requeuedCount;
+    private final List<DomainEventBus.Subscription> subscriptions = new ArrayList<>();
+
+    public Waitlist() {
+        this(true);
+    }
+
+    // tierPriority = false gives strict first-come, first-served
+    public Waitlist(boolean tierPriority) {
+        Comparator<Entry> byJoin = Comparator.<Entry>comparingLong(entry -> entry.joinedAt)
+                                             .thenComparingLong(entry -> entry.sequence);
+        this.order = tierPriority
+            ? Comparator.<Entry, Customer.Tier>comparing(entry -> entry.tier).reversed().thenComparing(byJoin)
+            : byJoin;
+    }
+
+    // Hand out returned units through executor (the FX thread in the app)
+    public synchronized void start(Executor executor) {
+        if (!subscriptions.isEmpty()) {
+            throw new IllegalStateException("Waitlist already started");
+        }
+        DomainEventBus bus = DataManager.getEventBus();
+        subscriptions.add(bus.subscribeEach("waitlist", DomainEvent.InventoryChanged.class, executor, event -> {
+            if (event.getDelta() > 0) {
+                release(event.getVehicle(), event.getDelta());
+            }
+        }));
+        subscriptions.add(bus.subscribeEach("waitlist-approvals", DomainEvent.BookingApproved.class, executor,
+                event -> decided(event.getBooking(), false)));
+        subscriptions.add(bus.subscribeEach("waitlist-rejections", DomainEvent.BookingStatusChanged.class, executor,
+                event -> decided(event.getBooking(), event.getOldStatus() == Booking.BookingStatus.PENDING)));
+    }
+
+    public synchronized void stop() {
+        subscriptions.forEach(DomainEventBus.Subscription::close);
+        subscriptions.clear();
+    }
+
+    public synchronized Entry join(Customer customer, Vehicle vehicle, LocalDate rentalDate, LocalDate returnDate) {
+        if (customer == null || vehicle == null) {
+            throw new IllegalArgumentException("Customer and vehicle are required");
+        }
+        if (rentalDate == null || returnDate == null || returnDate.isBefore(rentalDate)) {
+            throw new IllegalArgumentException("Return date cannot be before rental date.");
+        }
+        Queue queue = queues.computeIfAbsent(vehicle, v -> new Queue(order));
+        if (!queue.members.add(customer)) {
+            throw new IllegalStateException(customer.getName() + " is already waiting for " + vehicle.getDescription());
+        }
+        Entry entry = new Entry(customer, vehicle, rentalDate, returnDate, nextSequence++);
+        queue.heap.add(entry);
+        return entry;
+    }
+
+    public synchronized boolean leave(Customer customer, Vehicle vehicle) {
+        Queue queue = queues.get(vehicle);
+        if (queue == null || !queue.members.remove(customer)) {
+            return false;
+        }
+        queue.heap.removeIf(entry -> entry.customer.equals(customer));
+        return true;
+    }
+
+    public synchronized boolean isWaiting(Customer customer, Vehicle vehicle) {
+        Queue queue = queues.get(vehicle);
+        return queue != null && queue.members.contains(customer);
+    }
+
+    public synchronized int size(Vehicle vehicle) {
+        Queue queue = queues.get(vehicle);
+        return queue == null ? 0 : queue.heap.size();
+    }
+
+    // 1-based place in line, or 0 if not waiting
+    public synchronized int getPosition(Customer customer, Vehicle vehicle) {
+        Queue queue = queues.get(vehicle);
+        if (queue == null || !queue.members.contains(customer)) {
+            return 0;
+        }
+        Entry mine = null;
+        for (Entry entry : queue.heap) {
+            if (entry.customer.equals(customer)) {
+                mine = entry;
+                break;
+            }
+        }
+        int ahead = 0;
+        for (Entry entry : queue.heap) {
+            if (order.compare(entry, mine) < 0) {
+                ahead++;
+            }
+        }
+        return ahead + 1;
+    }
+
+    public synchronized long getPromotedCount() {
+        return promotedCount;
+    }
+
+    // Waiters put back in line because their promoted booking was not approved
+    public synchronized long getRequeuedCount() {
+        return requeuedCount;
+    }
+
+    // A promoted booking left PENDING. Unless it was approved its waiter gets their place back
+    // (the same entry, so the same order), and a unit still free is offered again.
+    private void decided(Booking booking, boolean turnedDown) {
+        Vehicle vehicle;
+        synchronized (this) {
+            Entry entry = promoted.remove(booking);
+            if (entry == null || !turnedDown || entry.rentalDate.isBefore(LocalDate.now())) {
+                return;
+            }
+            Queue queue = queues.computeIfAbsent(entry.vehicle, v -> new Queue(order));
+            if (!queue.members.add(entry.customer)) {
+                return;   // joined again meanwhile
+            }
+            queue.heap.add(entry);
+            requeuedCount++;
+            vehicle = entry.vehicle;
+        }
+        if (vehicle.isAvailable()) {
+            release(vehicle, 1);
+        }
+    }
+
+    // Give up to units freed units to the front of the line; returns the bookings requested
+    public List<Booking> release(Vehicle vehicle, int units) {
+        List<Entry> winners = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        synchronized (this) {
+            Queue queue = queues.get(vehicle);
+            while (queue != null && winners.size() < units && !queue.heap.isEmpty()) {
+                Entry entry = queue.heap.poll();
+                queue.members.remove(entry.customer);
+                if (!entry.rentalDate.isBefore(today)) {
+                    winners.add(entry);   // entries whose rental date went by are dropped
+                }
+            }
+            if (queue != null && queue.heap.isEmpty()) {
+                queues.remove(vehicle);
+            }
+        }
+
+        List<Booking> bookings = new ArrayList<>(winners.size());
+        for (Entry entry : winners) {
+            Booking booking = entry.customer.requestVehicle(vehicle, entry.rentalDate, entry.returnDate);
+            synchronized (this) {
+                promoted.put(booking, entry);   // before anyone can decide it
+            }
+            DataManager.getBookingList().add(booking);
+            bookings.add(booking);
+            DataManager.getEventBus().publish(new DomainEvent.WaitlistPromoted(booking));
+        }
+        synchronized (this) {
+            promotedCount += bookings.size();
+        }
+        return bookings;
+    }
+}
@@ -0,0 +1,264 @@
+package com.vehicle_project;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hands repository writes to one background thread so callers (the FX thread approving a
+// booking, the API) never wait on the disk. Enqueueing never blocks.
+// The writer drains whatever has piled up, keeps only the last write per entity (an upsert
+// stores current state, so earlier ones add nothing) and sends each kind as one batch.
+// A batch that fails is kept and retried with exponential backoff, merged with whatever was
+// enqueued meanwhile, so nothing is dropped while the database is away. Failures are not
+// printed: getLastFailure() reports the current one and flush() throws while writes fail.
+public class WriteBehindQueue {
+
+    public static final int MAX_DRAIN = 10_000;
+    private static final long MIN_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final int ATTEMPTS_WHEN_STOPPING = 3;   // then stop() gives up; the writes stay pending
+
+    private enum Kind { VEHICLE, CUSTOMER, BOOKING, PAYMENT }
+
+    private static final class Write {
+        private final Kind kind;
+        private final Object entity;
+        private final boolean delete;
+
+        private Write(Kind kind, Object entity, boolean delete) {
+            this.kind = kind;
+            this.entity = entity;
+            this.delete = delete;
+        }
+    }
+
+    private final RentalRepository repository;
+    private final BlockingQueue<Write> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running;
+    private final AtomicLong enqueued = new AtomicLong();
+    private long processed;     // guarded by this, like the counters below
+    private long batchCount;
+    private long failedCount;
+    private RuntimeException lastFailure;   // set while the batch being retried keeps failing
+
+    public WriteBehindQueue(RentalRepository repository) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Repository cannot be null");
+        }
+        this.repository = repository;
+        this.writer = new Thread(this::runWriter, "write-behind");
+        this.writer.setDaemon(true);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            throw new IllegalStateException("Write-behind queue already started");
+        }
+        running = true;
+        writer.start();
+    }
+
+    // Writes everything still queued, then stops the writer. Throws like flush() when the
+    // database keeps failing; the writer still stops after a few more attempts.
+    public void stop() {
+        try {
+            flush();
+        } finally {
+            running = false;   // the writer notices within one poll interval
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(20));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void saveVehicle(Vehicle vehicle) {
+        enqueue(new Write(Kind.VEHICLE, vehicle, false));
+    }
+
+    public void deleteVehicle(Vehicle vehicle) {
+        enqueue(new Write(Kind.VEHICLE, vehicle, true));
+    }
+
+    public void saveCustomer(Customer customer) {
+        enqueue(new Write(Kind.CUSTOMER, customer, false));
+    }
+
+    public void saveBooking(Booking booking) {
+        enqueue(new Write(Kind.BOOKING, booking, false));
+    }
+
+    public void deleteBooking(Booking booking) {
+        enqueue(new Write(Kind.BOOKING, booking, true));
+    }
+
+    public void savePayment(Payment payment) {
+        enqueue(new Write(Kind.PAYMENT, payment, false));
+    }
+
+    public void deletePayment(Payment payment) {
+        enqueue(new Write(Kind.PAYMENT, payment, true));
+    }
+
+    private void enqueue(Write write) {
+        if (write.entity == null) {
+            throw new IllegalArgumentException("Cannot persist null");
+        }
+        enqueued.incrementAndGet();
+        queue.add(write);
+    }
+
+    // Block until everything enqueued before this call has reached the database. Throws
+    // IllegalStateException (caused by the database error) while writes are failing; they are
+    // kept and retried, so a later flush can still succeed.
+    public void flush() {
+        synchronized (this) {
+            long target = enqueued.get();
+            while (processed < target && running) {
+                if (lastFailure != null) {
+                    throw new IllegalStateException("Database writes are failing (" + getPendingCount()
+                        + " pending, retrying): " + lastFailure.getMessage(), lastFailure);
+                }
+                try {
+                    wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public synchronized long getPendingCount() {
+        return enqueued.get() - processed;
+    }
+
+    public synchronized long getProcessedCount() {
+        return processed;
+    }
+
+    public synchronized long getBatchCount() {
+        return batchCount;
+    }
+
+    // Failed attempts, retries included
+    public synchronized long getFailedCount() {
+        return failedCount;
+    }
+
+    // The error of the last attempt while it is being retried; null once writes succeed again
+    public synchronized RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+    private void runWriter() {
+        List<Write> drained = new ArrayList<>();   // kept across attempts while a batch fails
+        long backoff = 0;
+        int attemptsWhenStopping = 0;
+        while (running || !queue.isEmpty() || !drained.isEmpty()) {
+            if (drained.isEmpty()) {
+                try {
+                    Write first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    drained.add(first);
+                } catch (InterruptedException e) {
+                    continue;   // only stop() ends the writer, after the queue is empty
+                }
+            }
+            // Writes enqueued behind a failed batch join it: the last write per entity still wins
+            queue.drainTo(drained, Math.max(0, MAX_DRAIN - drained.size()));
+            RuntimeException failure = write(drained);
+            synchronized (this) {
+                batchCount++;
+                if (failure == null) {
+                    processed += drained.size();
+                } else {
+                    failedCount++;
+                }
+                lastFailure = failure;
+                notifyAll();
+            }
+            if (failure == null) {
+                drained.clear();
+                backoff = 0;
+                continue;
+            }
+            if (!running && ++attemptsWhenStopping >= ATTEMPTS_WHEN_STOPPING) {
+                return;   // stopping with the database still failing: the writes stay pending
+            }
+            backoff = backoff == 0 ? MIN_BACKOFF_MILLIS : Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                // retry sooner
+            }
+        }
+    }
+
+    // Last write per entity wins; parents are saved before children and removed after them.
+    // The error when the repository failed, else null.
+    private RuntimeException write(List<Write> writes) {
+        Map<Kind, Map<Object, Write>> latest = new LinkedHashMap<>();
+        for (Kind kind : Kind.values()) {
+            latest.put(kind, new LinkedHashMap<>());
+        }
+        for (Write write : writes) {
+            Map<Object, Write> ofKind = latest.get(write.kind);
+            ofKind.remove(write.entity);   // re-insert so order follows the latest write
+            ofKind.put(write.entity, write);
+        }
+
+        try {
+            repository.saveVehicles(saves(latest.get(Kind.VEHICLE), Vehicle.class));
+            repository.saveCustomers(saves(latest.get(Kind.CUSTOMER), Customer.class));
+            repository.saveBookings(saves(latest.get(Kind.BOOKING), Booking.class));
+            repository.savePayments(saves(latest.get(Kind.PAYMENT), Payment.class));
+
+            List<String> ids = new ArrayList<>();
+            for (Payment payment : deletes(latest.get(Kind.PAYMENT), Payment.class)) {
+                ids.add(payment.getPaymentId());
+            }
+            repository.deletePayments(ids);
+            ids = new ArrayList<>();
+            for (Booking booking : deletes(latest.get(Kind.BOOKING), Booking.class)) {
+                ids.add(booking.getBookingId());
+            }
+            repository.deleteBookings(ids);
+            ids = new ArrayList<>();
+            for (Vehicle vehicle : deletes(latest.get(Kind.VEHICLE), Vehicle.class)) {
+                ids.add(vehicle.getVehicleId());
+            }
+            repository.deleteVehicles(ids);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static <T> List<T> saves(Map<Object, Write> writes, Class<T> type) {
+        return select(writes, type, false);
+    }
+
+    private static <T> List<T> deletes(Map<Object, Write> writes, Class<T> type) {
+        return select(writes, type, true);
+    }
+
+    private static <T> List<T> select(Map<Object, Write> writes, Class<T> type, boolean delete) {
+        List<T> selected = new ArrayList<>();
+        for (Write write : writes.values()) {
+            if (write.delete == delete) {
+                selected.add(type.cast(write.entity));
+            }
+        }
+        return selected;
+    }
+}
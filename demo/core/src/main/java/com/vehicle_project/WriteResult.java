@@ -0,0 +1,85 @@
+package com.vehicle_project;
+
+// Outcome of a versioned write on a Vehicle or Booking.
+// The caller passes the version it last read. If someone else wrote in the meantime the
+// write is not applied and the result is a conflict carrying the current version: re-read,
+// decide again, retry. Nothing is locked between the read and the write.
+public final class WriteResult {
+
+    private final boolean applied;
+    private final String entityId;
+    private final long expectedVersion;
+    private final long version;
+
+    private WriteResult(boolean applied, String entityId, long expectedVersion, long version) {
+        this.applied = applied;
+        this.entityId = entityId;
+        this.expectedVersion = expectedVersion;
+        this.version = version;
+    }
+
+    static WriteResult applied(String entityId, long version) {
+        return new WriteResult(true, entityId, version, version);
+    }
+
+    static WriteResult conflict(String entityId, long expectedVersion, long currentVersion) {
+        return new WriteResult(false, entityId, expectedVersion, currentVersion);
+    }
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public boolean isConflict() {
+        return !applied;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    // Version after the write, or the current version on a conflict
+    public long getVersion() {
+        return version;
+    }
+
+    // For callers that undo on exceptions (e.g. inside DataManager.transaction)
+    public WriteResult requireApplied() {
+        if (!applied) {
+            throw new ConflictException(this);
+        }
+        return this;
+    }
+
+    public String getMessage() {
+        return applied
+            ? entityId + " updated to version " + version
+            : entityId + " was changed by someone else (version " + version + ", expected "
+                + expectedVersion + "); reload and try again";
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+
+    // Thrown by requireApplied; an IllegalStateException so existing handlers still see a refusal
+    public static final class ConflictException extends IllegalStateException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient WriteResult result;
+
+        private ConflictException(WriteResult result) {
+            super(result.getMessage());
+            this.result = result;
+        }
+
+        public WriteResult getResult() {
+            return result;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.vehicle_project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// Deadlines fire when the clock passes them, through advance(), and never after the booking moved on
+class BookingSchedulerTest {
+
+    // A clock the test moves by hand
+    private static final class ManualClock extends Clock {
+        private long millis = System.currentTimeMillis();
+
+        void forward(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private final Admin admin = new Admin("Scheduler Admin", "scheduler-admin@test.com");
+    private ManualClock clock;
+    private BookingScheduler scheduler;
+    private Booking booking;
+
+    @BeforeEach
+    void newScheduler() {
+        clock = new ManualClock();
+        scheduler = new BookingScheduler(clock, Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofHours(1));
+        Customer customer = new Customer("Scheduler Test", "scheduler@test.com");
+        Car car = new Car("ST-" + UUID.randomUUID(), "Ford", "Focus", 2020, 50.0, 1, "Hatchback");
+        LocalDate from = LocalDate.now(clock).plusDays(10);
+        booking = new Booking(customer, car, from, from.plusDays(2), Money.of(100));
+    }
+
+    @Test
+    void pendingRequestExpiresAfterTtl() {
+        scheduler.trackPending(booking);
+
+        clock.forward(Duration.ofMinutes(30));
+        scheduler.advance();
+        assertEquals(Booking.BookingStatus.PENDING, booking.getStatus());
+
+        clock.forward(Duration.ofMinutes(40));
+        scheduler.advance();
+        assertEquals(Booking.BookingStatus.CANCELLED, booking.getStatus());
+        assertTrue(booking.getStatusReason().startsWith("Expired"));
+        assertEquals(1, scheduler.getExpiredCount());
+        assertEquals(0, scheduler.getTrackedCount());
+    }
+
+    @Test
+    void requestDecidedBeforeDeadlineIsLeftAlone() {
+        scheduler.trackPending(booking);
+        booking.confirmBooking(admin);
+
+        clock.forward(Duration.ofHours(2));
+        scheduler.advance();
+
+        assertEquals(Booking.BookingStatus.APPROVED, booking.getStatus());
+        assertEquals(0, scheduler.getExpiredCount());
+    }
+
+    @Test
+    void requestTrackedAgainGetsNewDeadline() {
+        scheduler.trackPending(booking);
+        clock.forward(Duration.ofMinutes(50));
+        scheduler.setPendingTtl(Duration.ofHours(3));
+        scheduler.trackPending(booking);   // the TTL counts from creation: now 3 hours
+
+        clock.forward(Duration.ofMinutes(20));
+        scheduler.advance();
+
+        assertEquals(Booking.BookingStatus.PENDING, booking.getStatus());
+        assertEquals(1, scheduler.getTrackedCount());
+    }
+
+    @Test
+    void overdueRentalCompletesAfterGracePeriod() {
+        booking.confirmBooking(admin);
+        scheduler.track(booking);
+        Duration untilDue = Duration.between(clock.instant(),
+            booking.getReturnDate().plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        clock.forward(untilDue.plusMinutes(5));
+        scheduler.advance();
+        assertTrue(scheduler.isOverdue(booking));
+        assertEquals(Booking.BookingStatus.APPROVED, booking.getStatus());
+
+        clock.forward(Duration.ofHours(1));
+        scheduler.advance();
+        assertEquals(Booking.BookingStatus.COMPLETED, booking.getStatus());
+        assertEquals(1, scheduler.getAutoCompletedCount());
+    }
+}
@@ -0,0 +1,128 @@
+package com.vehicle_project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// Exactly-once recording: a key sent again gets the first payment back, however the retries interleave
+class PaymentLedgerTest {
+
+    private final PaymentLedger ledger = DataManager.getPaymentLedger();
+    private Booking booking;
+
+    @BeforeEach
+    void newBooking() {
+        Customer customer = new Customer("Ledger Test", "ledger@test.com");
+        Car car = new Car("LT-" + UUID.randomUUID(), "Toyota", "Yaris", 2022, 100.0, 2, "Hatchback");
+        LocalDate from = LocalDate.now().plusDays(3);
+        booking = new Booking(customer, car, from, from.plusDays(3), Money.of(300));
+    }
+
+    private static String key() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Test
+    void sameKeyRecordsOnePayment() {
+        String key = key();
+        long duplicates = ledger.getDuplicateCount();
+
+        PaymentLedger.Receipt first = ledger.charge(booking, Money.of(100), key);
+        PaymentLedger.Receipt second = ledger.charge(booking, Money.of(100), key);
+
+        assertFalse(first.isDuplicate());
+        assertTrue(second.isDuplicate());
+        assertSame(first.getPayment(), second.getPayment());
+        assertEquals(1, ledger.getPayments(booking.getBookingId()).size());
+        assertEquals(Money.of(100), ledger.getPaidAmount(booking.getBookingId()));
+        assertEquals(duplicates + 1, ledger.getDuplicateCount());
+        assertTrue(DataManager.getPaymentList().contains(first.getPayment()));
+    }
+
+    @Test
+    void keyReusedForDifferentPaymentIsRefusedAndNotCounted() {
+        String key = key();
+        ledger.charge(booking, Money.of(100), key);
+        long duplicates = ledger.getDuplicateCount();
+
+        assertThrows(IllegalArgumentException.class, () -> ledger.charge(booking, Money.of(50), key));
+
+        assertEquals(duplicates, ledger.getDuplicateCount());
+        assertEquals(Money.of(100), ledger.getPaidAmount(booking.getBookingId()));
+    }
+
+    @Test
+    void concurrentRetriesRecordOnce() throws Exception {
+        String key = key();
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PaymentLedger.Receipt>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                Callable<PaymentLedger.Receipt> retry = () -> {
+                    start.await();
+                    return ledger.charge(booking, Money.of(300), key);
+                };
+                results.add(pool.submit(retry));
+            }
+            start.countDown();
+
+            Payment payment = null;
+            int recorded = 0;
+            for (Future<PaymentLedger.Receipt> result : results) {
+                PaymentLedger.Receipt receipt = result.get();
+                if (!receipt.isDuplicate()) {
+                    recorded++;
+                }
+                if (payment == null) {
+                    payment = receipt.getPayment();
+                }
+                assertSame(payment, receipt.getPayment());
+            }
+            assertEquals(1, recorded);
+            assertEquals(1, ledger.getPayments(booking.getBookingId()).size());
+            assertTrue(booking.isPaid());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void chargeBeyondBalanceIsRefused() {
+        ledger.charge(booking, Money.of(250), key());
+
+        assertThrows(IllegalStateException.class, () -> ledger.charge(booking, Money.of(100), key()));
+
+        assertEquals(Money.of(50), ledger.getBalanceDue(booking));
+        assertFalse(booking.isPaid());
+    }
+
+    @Test
+    void refundReopensBalance() {
+        Admin admin = new Admin("Ledger Admin", "ledger-admin@test.com");
+        ledger.charge(booking, Money.of(300), key());
+        assertTrue(booking.isPaid());
+
+        ledger.refund(booking, Money.of(100), key(), admin);
+
+        assertEquals(Money.of(100), ledger.getBalanceDue(booking));
+        assertFalse(booking.isPaid());
+        assertThrows(SecurityException.class, () -> ledger.refund(booking, Money.of(10), key(), null));
+    }
+}
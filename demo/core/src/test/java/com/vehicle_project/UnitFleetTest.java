@@ -0,0 +1,98 @@
+package com.vehicle_project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class UnitFleetTest {
+
+    private static UnitFleet fleetOf(int units) {
+        UnitFleet fleet = new UnitFleet();
+        for (int i = 0; i < units; i++) {
+            fleet.add(null);
+        }
+        return fleet;
+    }
+
+    @Test
+    void checkOutTakesLowestAvailableUnit() {
+        UnitFleet fleet = fleetOf(3);
+
+        assertEquals(0, fleet.checkOut(7));
+        assertEquals(1, fleet.checkOut(8));
+        fleet.checkIn(0);
+
+        assertEquals(0, fleet.checkOut(9));
+        assertEquals(9, fleet.getBooking(0));
+        assertEquals(2, fleet.rentedCount());
+        assertEquals(1, fleet.availableCount());
+    }
+
+    @Test
+    void checkOutAcrossBlocks() {
+        UnitFleet fleet = fleetOf(130);
+
+        for (int i = 0; i < 130; i++) {
+            assertEquals(i, fleet.checkOut(i));
+        }
+
+        assertEquals(UnitFleet.NO_UNIT, fleet.checkOut(130));
+        assertEquals(130, fleet.rentedCount());
+        assertEquals(0, fleet.availableCount());
+        assertEquals(100, fleet.findRented(100));
+    }
+
+    @Test
+    void checkInOfUnitNotRentedIsRefused() {
+        UnitFleet fleet = fleetOf(1);
+
+        assertThrows(IllegalStateException.class, () -> fleet.checkIn(0));
+    }
+
+    @Test
+    void retiredUnitIsReusedBeforeANewOne() {
+        UnitFleet fleet = fleetOf(2);
+
+        int retired = fleet.retire();
+        assertEquals(UnitFleet.UnitState.RETIRED, fleet.getState(retired));
+
+        assertEquals(retired, fleet.add(null));
+        assertEquals(2, fleet.size());
+        assertEquals(2, fleet.availableCount());
+    }
+
+    @Test
+    void maintenanceUnitIsNotRentedOut() {
+        UnitFleet fleet = fleetOf(2);
+        fleet.setMaintenance(0, true);
+
+        assertEquals(1, fleet.checkOut(UnitFleet.NO_BOOKING));
+        assertEquals(UnitFleet.NO_UNIT, fleet.checkOut(UnitFleet.NO_BOOKING));
+        assertEquals(1, fleet.maintenanceCount());
+        assertThrows(IllegalStateException.class, () -> fleet.setMaintenance(1, true));
+
+        fleet.setMaintenance(0, false);
+        assertEquals(0, fleet.checkOut(UnitFleet.NO_BOOKING));
+    }
+
+    @Test
+    void restoredRentalKeepsItsBooking() {
+        UnitFleet fleet = fleetOf(1);
+
+        int unit = fleet.addRented(42);
+
+        assertEquals(UnitFleet.UnitState.RENTED, fleet.getState(unit));
+        assertEquals(unit, fleet.findRented(42));
+        assertEquals(1, fleet.availableCount());
+    }
+
+    @Test
+    void platesAreUnique() {
+        UnitFleet fleet = new UnitFleet();
+        int unit = fleet.add("AB-123");
+
+        assertEquals(unit, fleet.indexOf("AB-123"));
+        assertThrows(IllegalArgumentException.class, () -> fleet.add("AB-123"));
+    }
+}
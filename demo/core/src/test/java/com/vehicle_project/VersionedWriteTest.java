@@ -0,0 +1,89 @@
+package com.vehicle_project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// A write at a stale version is a conflict that changes nothing
+class VersionedWriteTest {
+
+    private final Admin admin = new Admin("Version Admin", "version-admin@test.com");
+    private Car car;
+    private Booking booking;
+
+    @BeforeEach
+    void newBooking() {
+        Customer customer = new Customer("Version Test", "version@test.com");
+        car = new Car("VT-" + UUID.randomUUID(), "Honda", "Civic", 2021, 60.0, 1, "Sedan");
+        LocalDate from = LocalDate.now().plusDays(1);
+        booking = new Booking(customer, car, from, from.plusDays(2), Money.of(120));
+    }
+
+    @Test
+    void writeAtCurrentVersionIsApplied() {
+        long version = booking.getVersion();
+
+        WriteResult result = booking.confirmBooking(admin, version);
+
+        assertTrue(result.isApplied());
+        assertEquals(Booking.BookingStatus.APPROVED, booking.getStatus());
+        assertEquals(booking.getVersion(), result.getVersion());
+        assertTrue(result.getVersion() > version);
+    }
+
+    @Test
+    void writeAtStaleVersionIsConflict() {
+        long stale = booking.getVersion();
+        booking.confirmBooking(admin, stale);
+        long current = booking.getVersion();
+
+        WriteResult result = booking.cancelBooking("Changed my mind", stale);
+
+        assertTrue(result.isConflict());
+        assertEquals(stale, result.getExpectedVersion());
+        assertEquals(current, result.getVersion());
+        assertEquals(Booking.BookingStatus.APPROVED, booking.getStatus());
+        assertEquals(current, booking.getVersion());
+    }
+
+    @Test
+    void requireAppliedThrowsOnConflict() {
+        long stale = booking.getVersion();
+        booking.cancelBooking("Customer cancelled", stale);
+
+        WriteResult result = booking.completeBooking("Returned", stale);
+        WriteResult.ConflictException e = assertThrows(WriteResult.ConflictException.class, result::requireApplied);
+
+        assertSame(result, e.getResult());
+        assertEquals(Booking.BookingStatus.CANCELLED, booking.getStatus());
+    }
+
+    @Test
+    void vehiclePriceAtStaleVersionIsConflict() {
+        long stale = car.getVersion();
+        assertTrue(car.setPricePerDay(Money.of(65), stale).isApplied());
+
+        WriteResult result = car.setPricePerDay(Money.of(70), stale);
+
+        assertTrue(result.isConflict());
+        assertEquals(Money.of(65), car.getPricePerDay());
+    }
+
+    @Test
+    void conflictLeavesStockAlone() {
+        long stale = car.getVersion();
+        car.addQuantity(1, admin);
+
+        WriteResult result = car.addQuantity(5, admin, stale);
+
+        assertTrue(result.isConflict());
+        assertEquals(2, car.getQuantity());
+    }
+}
@@ -0,0 +1,976 @@
+package com.vehicle_project;
+
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import javafx.scene.control.*;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class AdminView extends BorderPane implements ViewCache.SessionView<Admin> {
+    
+    private Admin admin;
+    private TableView<Vehicle> vehicleTable;
+    private TableView<Booking> bookingTable;
+    private TableView<Payment> paymentTable;
+    private Label totalRevenueLabel;
+    private final javafx.collections.ObservableList<Leaderboard.Standing> topCustomers =
+        javafx.collections.FXCollections.observableArrayList();
+    private final javafx.collections.ObservableList<Leaderboard.Standing> topVehicles =
+        javafx.collections.FXCollections.observableArrayList();
+    private Label expiredCountLabel;
+    private GridPane heatmapGrid;
+    private Label typeUtilizationLabel;
+    private Tab utilizationTab;
+    private TabPane tabPane;
+    private final javafx.collections.ObservableList<Booking> overdueBookings =
+        javafx.collections.FXCollections.observableArrayList();
+    private final List<DomainEventBus.Subscription> subscriptions = new ArrayList<>();
+    
+    private static final int HEATMAP_DAYS = 14;
+    private static final DateTimeFormatter HEATMAP_DAY_FORMAT = DateTimeFormatter.ofPattern("MM-dd");
+    
+    public AdminView(Admin admin) {
+        this.admin = admin;
+        initializeUI();
+        subscribeToEvents();
+    }
+    
+    private void subscribeToEvents() {
+        // Table cells follow the Vehicle/Booking properties on their own; the events only
+        // drive the aggregates. A burst of events is handled as one batch.
+        subscriptions.add(DataManager.getEventBus().subscribe("admin-view", DomainEvent.class,
+                javafx.application.Platform::runLater, events -> {
+            boolean fleetChanged = false;
+            boolean paymentsChanged = false;
+            boolean overdueChanged = false;
+            for (DomainEvent event : events) {
+                if (event instanceof DomainEvent.PaymentRecorded) {
+                    paymentsChanged = true;
+                } else {
+                    fleetChanged = true;
+                    overdueChanged |= event instanceof DomainEvent.BookingOverdue
+                                   || event instanceof DomainEvent.BookingStatusChanged;
+                }
+            }
+            if (paymentsChanged) {
+                updatePaymentSummary();
+            }
+            if (overdueChanged) {
+                refreshOverdue();
+                updateExpiredCount();
+            }
+            if (fleetChanged && utilizationTab.isSelected()) {
+                refreshHeatmap();
+            }
+        }));
+    }
+    
+    // Hand the already built view to the next admin. Tables, columns and forms stay as they are;
+    // only the aggregates are refreshed, since events were not followed while hidden.
+    @Override
+    public void rebind(Admin admin) {
+        this.admin = admin;
+        vehicleTable.getSelectionModel().clearSelection();
+        bookingTable.getSelectionModel().clearSelection();
+        paymentTable.getSelectionModel().clearSelection();
+        tabPane.getSelectionModel().selectFirst();
+        updatePaymentSummary();
+        refreshOverdue();
+        updateExpiredCount();
+        subscribeToEvents();
+    }
+    
+    // Stop listening to domain events once this view is no longer shown
+    @Override
+    public void unbind() {
+        subscriptions.forEach(DomainEventBus.Subscription::close);
+        subscriptions.clear();
+        admin = null;
+    }
+    
+    private void initializeUI() {
+        // Top Section - Header
+        setTop(createHeader());
+        
+        // Center Section - TabPane
+        setCenter(createTabPane());
+        
+        // Apply padding
+        setPadding(new Insets(10));
+    }
+    
+    private HBox createHeader() {
+        HBox header = new HBox(20);
+        header.setAlignment(Pos.CENTER_LEFT);
+        header.setPadding(new Insets(15));
+        header.setStyle("-fx-background-color: #FF5722; -fx-background-radius: 5;");
+        
+        // Dashboard label
+        Label dashboardLabel = new Label("Admin Dashboard");
+        dashboardLabel.setFont(Font.font("System", FontWeight.BOLD, 18));
+        dashboardLabel.setStyle("-fx-text-fill: white;");
+        
+        // Spacer
+        javafx.scene.layout.Region spacer = new javafx.scene.layout.Region();
+        HBox.setHgrow(spacer, javafx.scene.layout.Priority.ALWAYS);
+        
+        // Logout button
+        Button logoutBtn = new Button("Logout");
+        logoutBtn.setStyle("-fx-background-color: #D32F2F; -fx-text-fill: white; " +
+                          "-fx-font-weight: bold; -fx-cursor: hand;");
+        logoutBtn.setOnAction(e -> Main.showLoginView());
+        
+        header.getChildren().addAll(dashboardLabel, spacer, logoutBtn);
+        return header;
+    }
+    
+    private TabPane createTabPane() {
+        tabPane = new TabPane();
+        tabPane.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
+        
+        // Tab 1: Manage Fleet
+        Tab fleetTab = new Tab("Manage Fleet");
+        fleetTab.setContent(createManageFleetTab());
+        
+        // Tab 2: Manage Bookings
+        Tab bookingsTab = new Tab("Manage Bookings");
+        bookingsTab.setContent(createManageBookingsTab());
+        
+        // Tab 3: Financials
+        Tab financialsTab = new Tab("Financials");
+        financialsTab.setContent(createFinancialsTab());
+        
+        // Tab 4: Utilization
+        utilizationTab = new Tab("Utilization");
+        utilizationTab.setContent(createUtilizationTab());
+        utilizationTab.setOnSelectionChanged(e -> {
+            if (utilizationTab.isSelected()) {
+                refreshHeatmap();
+            }
+        });
+        
+        tabPane.getTabs().addAll(fleetTab, bookingsTab, financialsTab, utilizationTab);
+        return tabPane;
+    }
+    
+    private VBox createManageFleetTab() {
+        VBox container = new VBox(15);
+        container.setPadding(new Insets(15));
+        
+        // Top Half - Vehicle Table
+        Label tableLabel = new Label("Current Fleet");
+        tableLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        
+        vehicleTable = new TableView<>();
+        FxDataManager.setSortedItems(vehicleTable, FxDataManager.getVehicleList());
+        vehicleTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        vehicleTable.setPrefHeight(250);
+        
+        // Columns bind through method references; price/quantity/available follow the vehicle's properties
+        TableColumn<Vehicle, String> idCol = Columns.constant("ID", 80, Vehicle::getVehicleId);
+        TableColumn<Vehicle, String> branchCol = Columns.constant("Branch", 90, Vehicle::getBranch);
+        TableColumn<Vehicle, String> brandCol = Columns.constant("Brand", 100, Vehicle::getBrand);
+        TableColumn<Vehicle, String> modelCol = Columns.constant("Model", 120, Vehicle::getModel);
+        TableColumn<Vehicle, Integer> yearCol = Columns.constant("Year", 80, Vehicle::getYear);
+        TableColumn<Vehicle, Money> priceCol = Columns.cachedText(
+            Columns.observable("Price/Day", 100, FxProperties::pricePerDay), Money::toString, null);
+        TableColumn<Vehicle, Number> quantityCol = Columns.observable("Quantity", 80, FxProperties::quantity);
+        TableColumn<Vehicle, Boolean> availCol = Columns.text(
+            Columns.observable("Available", 80, FxProperties::available), Columns::yesNo, Columns::yesNoStyle);
+        
+        // Action Column
+        TableColumn<Vehicle, Void> actionCol = new TableColumn<>("Action");
+        actionCol.setPrefWidth(120);
+        actionCol.setCellFactory(col -> new TableCell<Vehicle, Void>() {
+            private final Button addQtyBtn = new Button("Add Quantity");
+            
+            {
+                addQtyBtn.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white; " +
+                                 "-fx-font-weight: bold; -fx-cursor: hand;");
+                addQtyBtn.setOnAction(e -> {
+                    Vehicle vehicle = getTableView().getItems().get(getIndex());
+                    if (vehicle != null) {
+                        showAddQuantityDialog(vehicle);
+                    }
+                });
+            }
+            
+            @Override
+            protected void updateItem(Void item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty) {
+                    setGraphic(null);
+                } else {
+                    setGraphic(addQtyBtn);
+                }
+            }
+        });
+        
+        vehicleTable.getColumns().addAll(idCol, branchCol, brandCol, modelCol, yearCol, priceCol, 
+                                         quantityCol, availCol, actionCol);
+        
+        // Bottom Half - Add Vehicle Form
+        Label formLabel = new Label("Add New Vehicle");
+        formLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        
+        GridPane form = createAddVehicleForm();
+        
+        container.getChildren().addAll(tableLabel, vehicleTable, new Separator(), formLabel, form,
+                                       createImportBar());
+        return container;
+    }
+    
+    private GridPane createAddVehicleForm() {
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(10);
+        grid.setPadding(new Insets(15));
+        grid.setStyle("-fx-background-color: #f9f9f9; -fx-background-radius: 5;");
+        
+        // Row 0: ID and Brand
+        Label idLabel = new Label("Vehicle ID:");
+        idLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        TextField idField = new TextField();
+        idField.setPromptText("e.g., C004");
+        
+        Label brandLabel = new Label("Brand:");
+        brandLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        TextField brandField = new TextField();
+        brandField.setPromptText("e.g., Toyota");
+        
+        grid.add(idLabel, 0, 0);
+        grid.add(idField, 1, 0);
+        grid.add(brandLabel, 2, 0);
+        grid.add(brandField, 3, 0);
+        
+        // Row 1: Model and Year
+        Label modelLabel = new Label("Model:");
+        modelLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        TextField modelField = new TextField();
+        modelField.setPromptText("e.g., Corolla");
+        
+        Label yearLabel = new Label("Year:");
+        yearLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        TextField yearField = new TextField();
+        yearField.setPromptText("e.g., 2023");
+        
+        grid.add(modelLabel, 0, 1);
+        grid.add(modelField, 1, 1);
+        grid.add(yearLabel, 2, 1);
+        grid.add(yearField, 3, 1);
+        
+        // Row 2: Price and Quantity
+        Label priceLabel = new Label("Price/Day:");
+        priceLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        TextField priceField = new TextField();
+        priceField.setPromptText("e.g., 50.00");
+        
+        Label quantityLabel = new Label("Quantity:");
+        quantityLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        TextField quantityField = new TextField();
+        quantityField.setPromptText("e.g., 5");
+        
+        grid.add(priceLabel, 0, 2);
+        grid.add(priceField, 1, 2);
+        grid.add(quantityLabel, 2, 2);
+        grid.add(quantityField, 3, 2);
+        
+        // Row 3: Type and Subtype
+        Label typeLabel = new Label("Type:");
+        typeLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        ComboBox<String> typeCombo = new ComboBox<>();
+        for (VehicleType vehicleType : VehicleType.getAll()) {
+            typeCombo.getItems().add(vehicleType.getName());
+        }
+        typeCombo.setPromptText("Select Type");
+        typeCombo.setPrefWidth(150);
+        
+        Label subtypeLabel = new Label("Subtype:");
+        subtypeLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        // The known subtypes of the chosen type; others can still be typed in unless the type is strict
+        ComboBox<String> subtypeField = new ComboBox<>();
+        subtypeField.setEditable(true);
+        subtypeField.setPromptText("e.g., Sedan, Cargo Van, Sport");
+        typeCombo.valueProperty().addListener((obs, old, newVal) -> {
+            VehicleType vehicleType = newVal == null ? null : VehicleType.find(newVal);
+            subtypeField.getItems().setAll(vehicleType == null ? Collections.emptyList() : vehicleType.getSubtypes());
+            subtypeField.setEditable(vehicleType == null || !vehicleType.isStrictSubtypes());
+        });
+        
+        grid.add(typeLabel, 0, 3);
+        grid.add(typeCombo, 1, 3);
+        grid.add(subtypeLabel, 2, 3);
+        grid.add(subtypeField, 3, 3);
+        
+        // Row 4: Branch (rental location)
+        Label branchLabel = new Label("Branch:");
+        branchLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        TextField branchField = new TextField(Vehicle.DEFAULT_BRANCH);
+        branchField.setPromptText("e.g., Main, Airport");
+        
+        grid.add(branchLabel, 0, 4);
+        grid.add(branchField, 1, 4);
+        
+        // Row 5: Add Button
+        Button addVehicleBtn = new Button("Add Vehicle to Fleet");
+        addVehicleBtn.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; " +
+                              "-fx-font-weight: bold; -fx-font-size: 14; -fx-cursor: hand;");
+        addVehicleBtn.setPrefWidth(200);
+        
+        addVehicleBtn.setOnAction(e -> {
+            try {
+                // Validate inputs
+                String id = idField.getText().trim();
+                String brand = brandField.getText().trim();
+                String model = modelField.getText().trim();
+                String yearStr = yearField.getText().trim();
+                String priceStr = priceField.getText().trim();
+                String quantityStr = quantityField.getText().trim();
+                String type = typeCombo.getValue();
+                String subtype = subtypeField.isEditable() ? subtypeField.getEditor().getText().trim()
+                                                           : (subtypeField.getValue() == null ? "" : subtypeField.getValue());
+                String branch = branchField.getText().trim();
+                
+                if (id.isEmpty() || brand.isEmpty() || model.isEmpty() || 
+                    yearStr.isEmpty() || priceStr.isEmpty() || quantityStr.isEmpty() ||
+                    type == null || subtype.isEmpty() || branch.isEmpty()) {
+                    showAlert(Alert.AlertType.ERROR, "Validation Error", 
+                             "All fields are required!");
+                    return;
+                }
+                
+                int year = Integer.parseInt(yearStr);
+                double price = Double.parseDouble(priceStr);
+                int quantity = Integer.parseInt(quantityStr);
+                
+                // Create vehicle based on type
+                Vehicle newVehicle = Vehicle.create(type, id, brand, model, year, price, quantity, subtype);
+                newVehicle.setBranch(branch);
+                
+                // Add vehicle using admin method
+                admin.addNewVehicle(newVehicle);
+                
+                // Add to data manager
+                DataManager.getVehicleList().add(newVehicle);
+                
+                // Clear form
+                idField.clear();
+                brandField.clear();
+                modelField.clear();
+                yearField.clear();
+                priceField.clear();
+                quantityField.clear();
+                typeCombo.setValue(null);
+                subtypeField.setValue(null);
+                subtypeField.getEditor().clear();
+                
+                showAlert(Alert.AlertType.INFORMATION, "Success", 
+                         "Vehicle added to fleet successfully!");
+                
+            } catch (NumberFormatException ex) {
+                showAlert(Alert.AlertType.ERROR, "Input Error", 
+                         "Year, Price, and Quantity must be valid numbers!");
+            } catch (Exception ex) {
+                showAlert(Alert.AlertType.ERROR, "Error", 
+                         "Failed to add vehicle: " + ex.getMessage());
+            }
+        });
+        
+        grid.add(addVehicleBtn, 1, 5, 2, 1);
+        
+        return grid;
+    }
+    
+    private HBox createImportBar() {
+        HBox importBar = new HBox(10);
+        importBar.setAlignment(Pos.CENTER_LEFT);
+        importBar.setPadding(new Insets(5, 15, 5, 15));
+        
+        Label importLabel = new Label("Bulk Import (CSV):");
+        importLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        
+        Button vehiclesBtn = new Button("Vehicles...");
+        vehiclesBtn.setOnAction(e -> runImport("Vehicles"));
+        Button customersBtn = new Button("Customers...");
+        customersBtn.setOnAction(e -> runImport("Customers"));
+        Button bookingsBtn = new Button("Bookings...");
+        bookingsBtn.setOnAction(e -> runImport("Bookings"));
+        
+        importBar.getChildren().addAll(importLabel, vehiclesBtn, customersBtn, bookingsBtn);
+        return importBar;
+    }
+    
+    private void runImport(String kind) {
+        javafx.stage.FileChooser chooser = new javafx.stage.FileChooser();
+        chooser.setTitle("Import " + kind);
+        chooser.getExtensionFilters().add(new javafx.stage.FileChooser.ExtensionFilter("CSV files", "*.csv"));
+        java.io.File file = chooser.showOpenDialog(getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        
+        // Parse off the FX thread; batches are added to the tables on the FX thread
+        CsvImporter importer = new CsvImporter(javafx.application.Platform::runLater, CsvImporter.DEFAULT_BATCH_SIZE);
+        Thread worker = new Thread(() -> {
+            try {
+                CsvImporter.ImportReport report;
+                switch (kind) {
+                    case "Vehicles":
+                        report = importer.importVehicles(file.toPath());
+                        break;
+                    case "Customers":
+                        report = importer.importCustomers(file.toPath());
+                        break;
+                    default:
+                        report = importer.importBookings(file.toPath());
+                }
+                
+                StringBuilder message = new StringBuilder(report.toString());
+                for (String error : report.getErrors().subList(0, Math.min(10, report.getErrors().size()))) {
+                    message.append("\n").append(error);
+                }
+                if (report.getErrorCount() > 10) {
+                    message.append("\n...");
+                }
+                javafx.application.Platform.runLater(() -> {
+                    refreshHeatmap();
+                    showAlert(report.getErrorCount() == 0 ? Alert.AlertType.INFORMATION : Alert.AlertType.WARNING,
+                             "Import " + kind, message.toString());
+                });
+            } catch (java.io.IOException ex) {
+                javafx.application.Platform.runLater(() ->
+                    showAlert(Alert.AlertType.ERROR, "Import Failed", "Could not read file: " + ex.getMessage()));
+            }
+        }, "csv-import");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    private VBox createManageBookingsTab() {
+        VBox container = new VBox(10);
+        container.setPadding(new Insets(15));
+        
+        // Title
+        Label titleLabel = new Label("All Booking Requests");
+        titleLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        
+        // Requests cancelled by the scheduler because nobody decided in time
+        expiredCountLabel = new Label();
+        expiredCountLabel.setStyle("-fx-text-fill: #757575;");
+        updateExpiredCount();
+        Region titleSpacer = new Region();
+        HBox.setHgrow(titleSpacer, javafx.scene.layout.Priority.ALWAYS);
+        HBox titleBox = new HBox(10, titleLabel, titleSpacer, expiredCountLabel);
+        titleBox.setAlignment(Pos.CENTER_LEFT);
+        
+        // Create booking table
+        bookingTable = new TableView<>();
+        FxDataManager.setSortedItems(bookingTable, FxDataManager.getBookingList());
+        bookingTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        
+        // Booking ID / customer / vehicle / dates / cost never change for a booking; status and paid do
+        TableColumn<Booking, String> bookingIdCol = Columns.constant("Booking ID", 100, Booking::getBookingId);
+        TableColumn<Booking, String> branchCol = Columns.constant("Branch", 90, Booking::getBranch);
+        TableColumn<Booking, String> customerCol = Columns.constant("Customer Name", 120,
+            booking -> booking.getCustomer().getName());
+        TableColumn<Booking, String> vehicleCol = Columns.constant("Vehicle", 200,
+            booking -> booking.getRentedItem().getDescription());
+        TableColumn<Booking, LocalDate> rentalDateCol = Columns.cachedText(
+            Columns.constant("Rental Date", 100, Booking::getRentalDate), LocalDate::toString, null);
+        TableColumn<Booking, LocalDate> returnDateCol = Columns.cachedText(
+            Columns.constant("Return Date", 100, Booking::getReturnDate), LocalDate::toString, null);
+        TableColumn<Booking, Money> costCol = Columns.cachedText(
+            Columns.constant("Total Cost", 100, Booking::getTotalCost), Money::toString, null);
+        TableColumn<Booking, Booking.BookingStatus> statusCol = Columns.text(
+            Columns.observable("Status", 100, FxProperties::status), Booking.BookingStatus::toString,
+            Columns::statusStyle);
+        TableColumn<Booking, Boolean> paidCol = Columns.text(
+            Columns.observable("Paid", 80, FxProperties::paid), Columns::yesNo, Columns::yesNoStyle);
+        
+        // Action Column (follows the status so the button enables/disables by itself)
+        TableColumn<Booking, Booking.BookingStatus> actionCol = new TableColumn<>("Action");
+        actionCol.setCellValueFactory(cellData -> FxProperties.status(cellData.getValue()));
+        actionCol.setPrefWidth(120);
+        actionCol.setCellFactory(col -> new TableCell<Booking, Booking.BookingStatus>() {
+            private final Button approveBtn = new Button("Approve");
+            private long shownVersion;   // the booking as this row last displayed it
+            
+            {
+                approveBtn.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white; " +
+                                  "-fx-font-weight: bold; -fx-cursor: hand;");
+                approveBtn.setOnAction(e -> {
+                    Booking booking = getTableView().getItems().get(getIndex());
+                    if (booking != null) {
+                        approveBooking(booking, shownVersion);
+                    }
+                });
+            }
+            
+            @Override
+            protected void updateItem(Booking.BookingStatus status, boolean empty) {
+                super.updateItem(status, empty);
+                if (empty || status == null) {
+                    setGraphic(null);
+                } else {
+                    shownVersion = getTableView().getItems().get(getIndex()).getVersion();
+                    approveBtn.setDisable(status != Booking.BookingStatus.PENDING);
+                    setGraphic(approveBtn);
+                }
+            }
+        });
+        
+        bookingTable.getColumns().addAll(bookingIdCol, branchCol, customerCol, vehicleCol, rentalDateCol, 
+                                         returnDateCol, costCol, statusCol, paidCol, actionCol);
+        
+        container.getChildren().addAll(titleBox, bookingTable, new Separator(), createOverdueSection());
+        return container;
+    }
+    
+    // Rentals past their return date, straight from the scheduler (no scan over all bookings)
+    private VBox createOverdueSection() {
+        Label overdueLabel = new Label("Overdue Rentals");
+        overdueLabel.setFont(Font.font("System", FontWeight.BOLD, 14));
+        overdueLabel.setStyle("-fx-text-fill: #D32F2F;");
+        
+        TableView<Booking> overdueTable = new TableView<>(overdueBookings);
+        overdueTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        overdueTable.setPrefHeight(140);
+        overdueTable.setPlaceholder(new Label("No overdue rentals"));
+        
+        TableColumn<Booking, String> bookingIdCol = Columns.constant("Booking ID", 100, Booking::getBookingId);
+        TableColumn<Booking, String> customerCol = Columns.constant("Customer Name", 120,
+            booking -> booking.getCustomer().getName());
+        TableColumn<Booking, String> vehicleCol = Columns.constant("Vehicle", 200,
+            booking -> booking.getRentedItem().getDescription());
+        TableColumn<Booking, LocalDate> returnDateCol = Columns.cachedText(
+            Columns.constant("Return Date", 100, Booking::getReturnDate), LocalDate::toString, Columns.RED_BOLD);
+        
+        TableColumn<Booking, Void> actionCol = new TableColumn<>("Action");
+        actionCol.setPrefWidth(120);
+        actionCol.setCellFactory(col -> new TableCell<Booking, Void>() {
+            private final Button returnBtn = new Button("Mark Returned");
+            
+            {
+                returnBtn.setStyle("-fx-background-color: #1976D2; -fx-text-fill: white; " +
+                                 "-fx-font-weight: bold; -fx-cursor: hand;");
+                returnBtn.setOnAction(e -> {
+                    Booking booking = getTableView().getItems().get(getIndex());
+                    if (booking != null) {
+                        markReturned(booking);
+                    }
+                });
+            }
+            
+            @Override
+            protected void updateItem(Void item, boolean empty) {
+                super.updateItem(item, empty);
+                setGraphic(empty ? null : returnBtn);
+            }
+        });
+        
+        overdueTable.getColumns().addAll(bookingIdCol, customerCol, vehicleCol, returnDateCol, actionCol);
+        refreshOverdue();
+        
+        return new VBox(5, overdueLabel, overdueTable);
+    }
+    
+    private void updateExpiredCount() {
+        BookingScheduler scheduler = DataManager.getBookingScheduler();
+        expiredCountLabel.setText("Expired requests: " + scheduler.getExpiredCount()
+                                + " (TTL " + scheduler.getPendingTtl().toHours() + "h)");
+    }
+    
+    private void refreshOverdue() {
+        overdueBookings.setAll(DataManager.getBookingScheduler().getOverdueBookings());
+    }
+    
+    private void markReturned(Booking booking) {
+        try {
+            booking.completeBooking();
+        } catch (IllegalStateException e) {
+            showAlert(Alert.AlertType.ERROR, "Return Failed", e.getMessage());
+        }
+        refreshOverdue();
+    }
+    
+    private VBox createFinancialsTab() {
+        VBox container = new VBox(10);
+        container.setPadding(new Insets(15));
+        
+        // Title
+        Label titleLabel = new Label("Payment History");
+        titleLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        
+        // Create payment table
+        paymentTable = new TableView<>();
+        FxDataManager.setSortedItems(paymentTable, FxDataManager.getPaymentList());
+        paymentTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        
+        // Payments are immutable rows
+        TableColumn<Payment, String> paymentIdCol = Columns.constant("Payment ID", 100, Payment::getPaymentId);
+        TableColumn<Payment, String> bookingIdCol = Columns.constant("Booking ID", 100, Payment::getBookingId);
+        TableColumn<Payment, String> customerCol = Columns.constant("Customer", 150,
+            payment -> payment.getCustomer().getName());
+        TableColumn<Payment, Money> amountCol = Columns.cachedText(
+            Columns.constant("Amount", 120, Payment::getSignedAmount), Money::toString, Columns.GREEN_BOLD);
+        TableColumn<Payment, LocalDate> dateCol = Columns.cachedText(
+            Columns.constant("Payment Date", 120, Payment::getPaymentDate), LocalDate::toString, null);
+        
+        paymentTable.getColumns().addAll(paymentIdCol, bookingIdCol, customerCol, amountCol, dateCol);
+        
+        // Total Revenue Section
+        HBox summaryBox = new HBox(10);
+        summaryBox.setAlignment(Pos.CENTER_RIGHT);
+        summaryBox.setPadding(new Insets(15));
+        summaryBox.setStyle("-fx-background-color: #E3F2FD; -fx-background-radius: 5;");
+        
+        Label summaryLabel = new Label("Total Revenue:");
+        summaryLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        
+        totalRevenueLabel = new Label("$0.00");
+        totalRevenueLabel.setFont(Font.font("System", FontWeight.BOLD, 20));
+        totalRevenueLabel.setStyle("-fx-text-fill: #1976D2;");
+        
+        summaryBox.getChildren().addAll(summaryLabel, totalRevenueLabel);
+        
+        updatePaymentSummary();
+        
+        container.getChildren().addAll(titleLabel, paymentTable, summaryBox, createLeaderboards(), createExportBar());
+        return container;
+    }
+    
+    // Top customers by spend and top vehicles by revenue, kept by DataManager as payments come in
+    private HBox createLeaderboards() {
+        HBox boards = new HBox(15,
+            createLeaderboard("Top Customers", topCustomers),
+            createLeaderboard("Top Vehicles", topVehicles));
+        
+        Button verifyBtn = new Button("Verify");
+        verifyBtn.setTooltip(new Tooltip("Recompute both leaderboards from all payments and compare"));
+        verifyBtn.setOnAction(e -> {
+            long start = System.nanoTime();
+            boolean matches = DataManager.getLeaderboards().verify(DataManager.getPaymentList());
+            String time = String.format("%.1f ms", (System.nanoTime() - start) / 1e6);
+            showAlert(matches ? Alert.AlertType.INFORMATION : Alert.AlertType.WARNING, "Leaderboards",
+                     matches ? "Both leaderboards match a full recompute (" + time + ")."
+                             : "The leaderboards differ from a full recompute (" + time + ").");
+        });
+        boards.getChildren().add(verifyBtn);
+        boards.setAlignment(Pos.BOTTOM_LEFT);
+        return boards;
+    }
+    
+    private VBox createLeaderboard(String title, javafx.collections.ObservableList<Leaderboard.Standing> items) {
+        Label titleLabel = new Label(title);
+        titleLabel.setFont(Font.font("System", FontWeight.BOLD, 13));
+        
+        ListView<Leaderboard.Standing> list = new ListView<>(items);
+        list.setPrefHeight(150);
+        list.setPrefWidth(320);
+        list.setCellFactory(view -> new ListCell<Leaderboard.Standing>() {
+            @Override
+            protected void updateItem(Leaderboard.Standing standing, boolean empty) {
+                super.updateItem(standing, empty);
+                setText(empty || standing == null ? null
+                        : (getIndex() + 1) + ". " + standing.getLabel() + "   " + standing.getTotal());
+            }
+        });
+        return new VBox(5, titleLabel, list);
+    }
+    
+    private HBox createExportBar() {
+        HBox exportBar = new HBox(10);
+        exportBar.setAlignment(Pos.CENTER_LEFT);
+        exportBar.setPadding(new Insets(5, 15, 5, 15));
+        
+        Label exportLabel = new Label("Export:");
+        exportLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        
+        ComboBox<String> dataCombo = new ComboBox<>();
+        dataCombo.getItems().addAll("Bookings", "Payments");
+        dataCombo.setValue("Payments");
+        
+        ComboBox<DataExporter.Format> formatCombo = new ComboBox<>();
+        formatCombo.getItems().addAll(DataExporter.Format.values());
+        formatCombo.setValue(DataExporter.Format.CSV);
+        
+        // Leave either date empty for an open-ended range
+        DatePicker fromPicker = new DatePicker(LocalDate.now().withDayOfMonth(1));
+        fromPicker.setPromptText("From");
+        fromPicker.setPrefWidth(120);
+        DatePicker toPicker = new DatePicker(LocalDate.now());
+        toPicker.setPromptText("To");
+        toPicker.setPrefWidth(120);
+        
+        ProgressBar progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(150);
+        Label statusLabel = new Label();
+        
+        Button exportBtn = new Button("Export...");
+        exportBtn.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; " +
+                          "-fx-font-weight: bold; -fx-cursor: hand;");
+        exportBtn.setOnAction(e -> runExport(dataCombo.getValue(), formatCombo.getValue(),
+                                             fromPicker.getValue(), toPicker.getValue(),
+                                             exportBtn, progressBar, statusLabel));
+        
+        exportBar.getChildren().addAll(exportLabel, dataCombo, formatCombo, new Label("From:"), fromPicker,
+                                       new Label("To:"), toPicker, exportBtn, progressBar, statusLabel);
+        return exportBar;
+    }
+    
+    private void runExport(String data, DataExporter.Format format, LocalDate from, LocalDate to,
+                           Button exportBtn, ProgressBar progressBar, Label statusLabel) {
+        if (from != null && to != null && to.isBefore(from)) {
+            showAlert(Alert.AlertType.ERROR, "Invalid Dates", "End date cannot be before start date.");
+            return;
+        }
+        
+        javafx.stage.FileChooser chooser = new javafx.stage.FileChooser();
+        chooser.setTitle("Export " + data);
+        chooser.setInitialFileName(data.toLowerCase() + (format == DataExporter.Format.CSV ? ".csv" : ".ndjson"));
+        java.io.File file = chooser.showSaveDialog(getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        
+        // Snapshot on the FX thread, write on a background thread
+        boolean bookings = data.equals("Bookings");
+        java.util.List<DataExporter.BookingRow> bookingRows = bookings
+            ? DataExporter.snapshotBookings(DataManager.getBookingDates(), from, to) : null;
+        java.util.List<DataExporter.PaymentRow> paymentRows = bookings
+            ? null : DataExporter.snapshotPayments(DataManager.getPaymentDates(), from, to);
+        
+        javafx.concurrent.Task<Long> task = new javafx.concurrent.Task<Long>() {
+            @Override
+            protected Long call() throws Exception {
+                DataExporter exporter = new DataExporter();
+                DataExporter.ProgressListener progress = (done, total) -> {
+                    updateProgress(done, total);
+                    updateMessage(done + " / " + total + " rows");
+                };
+                return bookings
+                    ? exporter.exportBookings(bookingRows, file.toPath(), format, progress)
+                    : exporter.exportPayments(paymentRows, file.toPath(), format, progress);
+            }
+        };
+        
+        progressBar.progressProperty().bind(task.progressProperty());
+        statusLabel.textProperty().bind(task.messageProperty());
+        exportBtn.setDisable(true);
+        
+        task.setOnSucceeded(e -> {
+            exportBtn.setDisable(false);
+            statusLabel.textProperty().unbind();
+            statusLabel.setText("Exported " + task.getValue() + " rows to " + file.getName());
+        });
+        task.setOnFailed(e -> {
+            exportBtn.setDisable(false);
+            statusLabel.textProperty().unbind();
+            statusLabel.setText("Export failed");
+            showAlert(Alert.AlertType.ERROR, "Export Failed",
+                     "Could not export " + data.toLowerCase() + ": " + task.getException().getMessage());
+        });
+        
+        Thread worker = new Thread(task, "data-export");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    private VBox createUtilizationTab() {
+        VBox container = new VBox(10);
+        container.setPadding(new Insets(15));
+        
+        // Title
+        Label titleLabel = new Label("Fleet Occupancy - Next " + HEATMAP_DAYS + " Days");
+        titleLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        
+        // Heatmap: one row per vehicle, one column per day (units out / fleet size)
+        heatmapGrid = new GridPane();
+        heatmapGrid.setHgap(2);
+        heatmapGrid.setVgap(2);
+        heatmapGrid.setPadding(new Insets(10));
+        
+        ScrollPane scrollPane = new ScrollPane(heatmapGrid);
+        scrollPane.setFitToWidth(true);
+        VBox.setVgrow(scrollPane, javafx.scene.layout.Priority.ALWAYS);
+        
+        // Per-type summary
+        typeUtilizationLabel = new Label();
+        typeUtilizationLabel.setFont(Font.font("System", FontWeight.BOLD, 14));
+        typeUtilizationLabel.setStyle("-fx-text-fill: #1976D2;");
+        
+        Button refreshBtn = new Button("Refresh");
+        refreshBtn.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; " +
+                           "-fx-font-weight: bold; -fx-cursor: hand;");
+        refreshBtn.setOnAction(e -> refreshHeatmap());
+        
+        HBox summaryBox = new HBox(15, typeUtilizationLabel, refreshBtn);
+        summaryBox.setAlignment(Pos.CENTER_LEFT);
+        
+        refreshHeatmap();
+        
+        container.getChildren().addAll(titleLabel, scrollPane, summaryBox);
+        return container;
+    }
+    
+    private void refreshHeatmap() {
+        if (heatmapGrid == null) {
+            return;
+        }
+        heatmapGrid.getChildren().clear();
+        
+        UtilizationEngine engine = DataManager.getUtilizationEngine();
+        LocalDate start = LocalDate.now();
+        LocalDate end = start.plusDays(HEATMAP_DAYS - 1);
+        
+        // Header row
+        for (int d = 0; d < HEATMAP_DAYS; d++) {
+            Label dayLabel = new Label(start.plusDays(d).format(HEATMAP_DAY_FORMAT));
+            dayLabel.setFont(Font.font("System", FontWeight.BOLD, 11));
+            dayLabel.setPrefWidth(48);
+            dayLabel.setAlignment(Pos.CENTER);
+            heatmapGrid.add(dayLabel, d + 1, 0);
+        }
+        Label utilHeader = new Label("Util %");
+        utilHeader.setFont(Font.font("System", FontWeight.BOLD, 11));
+        heatmapGrid.add(utilHeader, HEATMAP_DAYS + 1, 0);
+        
+        // One row per vehicle
+        Set<String> types = new LinkedHashSet<>();
+        int row = 1;
+        for (Vehicle vehicle : DataManager.getVehicleList()) {
+            types.add(UtilizationEngine.typeOf(vehicle));
+            heatmapGrid.add(new Label(vehicle.getVehicleId() + " " + vehicle.getBrand() + " " + vehicle.getModel()), 0, row);
+            
+            int capacity = engine.getCapacity(vehicle);
+            for (int d = 0; d < HEATMAP_DAYS; d++) {
+                int occupied = engine.getOccupancy(vehicle, start.plusDays(d));
+                double ratio = capacity == 0 ? 0.0 : (double) occupied / capacity;
+                
+                Label cell = new Label(occupied + "/" + capacity);
+                cell.setPrefSize(48, 24);
+                cell.setAlignment(Pos.CENTER);
+                cell.setStyle("-fx-background-color: " + heatColor(ratio) + "; -fx-font-size: 10;");
+                heatmapGrid.add(cell, d + 1, row);
+            }
+            
+            double utilization = engine.getUtilization(vehicle, start, end);
+            heatmapGrid.add(new Label(String.format("%.1f%%", utilization)), HEATMAP_DAYS + 1, row);
+            row++;
+        }
+        
+        StringBuilder summary = new StringBuilder("By type:");
+        for (String type : types) {
+            summary.append("  ").append(type).append(" ")
+                   .append(String.format("%.1f%%", engine.getTypeUtilization(type, start, end)));
+        }
+        typeUtilizationLabel.setText(summary.toString());
+    }
+    
+    // White (idle) to deep orange (fully booked)
+    private static String heatColor(double ratio) {
+        double r = Math.max(0.0, Math.min(1.0, ratio));
+        int green = (int) Math.round(255 - r * (255 - 87));
+        int blue = (int) Math.round(255 - r * (255 - 34));
+        return "rgb(255," + green + "," + blue + ")";
+    }
+    
+    private void showAddQuantityDialog(Vehicle vehicle) {
+        long shownVersion = vehicle.getVersion();   // what the admin decides on
+        TextInputDialog dialog = new TextInputDialog("1");
+        dialog.setTitle("Add Quantity");
+        dialog.setHeaderText("Add quantity to: " + vehicle.getBrand() + " " + vehicle.getModel()
+                             + " (currently " + vehicle.getQuantity() + ")");
+        dialog.setContentText("Enter quantity to add:");
+        
+        Optional<String> result = dialog.showAndWait();
+        result.ifPresent(quantityStr -> {
+            try {
+                int quantity = Integer.parseInt(quantityStr);
+                
+                if (quantity <= 0) {
+                    showAlert(Alert.AlertType.ERROR, "Invalid Input", 
+                             "Quantity must be greater than 0!");
+                    return;
+                }
+                
+                // Rejected if the stock changed while the dialog was open (another admin, the API, a rental)
+                WriteResult written = vehicle.addQuantity(quantity, admin, shownVersion);
+                if (written.isConflict()) {
+                    showAlert(Alert.AlertType.WARNING, "Stock Changed",
+                             "The stock changed while you were editing (now " + vehicle.getQuantity()
+                             + " units). Nothing was added; please try again.");
+                    return;
+                }
+                
+                showAlert(Alert.AlertType.INFORMATION, "Success", 
+                         "Quantity added successfully!\nNew quantity: " + vehicle.getQuantity());
+                
+            } catch (NumberFormatException e) {
+                showAlert(Alert.AlertType.ERROR, "Invalid Input", 
+                         "Please enter a valid number!");
+            } catch (Exception e) {
+                showAlert(Alert.AlertType.ERROR, "Error", 
+                         "Failed to add quantity: " + e.getMessage());
+            }
+        });
+    }
+    
+    private void approveBooking(Booking booking, long shownVersion) {
+        if (booking.getStatus() != Booking.BookingStatus.PENDING) {
+            showAlert(Alert.AlertType.WARNING, "Cannot Approve", 
+                     "Only pending bookings can be approved!\nCurrent status: " + booking.getStatus());
+            return;
+        }
+        
+        try {
+            // Approval and payment succeed or fail together
+            Payment payment = admin.approveAndCharge(booking, shownVersion);
+            
+            showAlert(Alert.AlertType.INFORMATION, "Booking Approved", 
+                     "Booking " + booking.getBookingId() + " has been approved successfully!\n" +
+                     (payment == null ? "It was already paid in full." :
+                     "Payment ID: " + payment.getPaymentId() + "\n" +
+                     "Amount: " + payment.getAmount()));
+            
+        } catch (WriteResult.ConflictException e) {
+            showAlert(Alert.AlertType.WARNING, "Booking Changed",
+                     "Booking " + booking.getBookingId() + " was changed elsewhere and is now "
+                     + booking.getStatus() + ". It was not approved.");
+        } catch (Exception e) {
+            showAlert(Alert.AlertType.ERROR, "Approval Failed", 
+                     "Failed to approve booking: " + e.getMessage());
+        }
+    }
+    
+    private void updatePaymentSummary() {
+        long totalRevenue = DataManager.getPaymentList().stream()
+            .mapToLong(payment -> payment.getSignedAmount().getCents())   // net of refunds
+            .sum();
+        
+        totalRevenueLabel.setText(Money.format(totalRevenue));
+        topCustomers.setAll(DataManager.getLeaderboards().getTopCustomers());
+        topVehicles.setAll(DataManager.getLeaderboards().getTopVehicles());
+    }
+    
+    private void showAlert(Alert.AlertType type, String title, String message) {
+        Alert alert = new Alert(type);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.vehicle_project;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+// ObservableList that can apply removals and additions (or a core ChangeList's edits)
+// as a single change event
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private List<E> delegate = new ArrayList<>();
+
+    // Listeners see exactly one change, however many elements are touched
+    public void applyBatch(Collection<? extends E> removals, Collection<? extends E> additions) {
+        if (removals.isEmpty() && additions.isEmpty()) {
+            return;
+        }
+        beginChange();
+        try {
+            if (!removals.isEmpty()) {
+                removeAll(removals);
+            }
+            if (!additions.isEmpty()) {
+                addAll(additions);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    // Replay edits from a ChangeList, in order, as one change event
+    public void applyEdits(List<ChangeList.Edit<E>> edits) {
+        beginChange();
+        try {
+            for (ChangeList.Edit<E> edit : edits) {
+                removeRange(edit.getFrom(), edit.getFrom() + edit.getRemoved().size());
+                if (!edit.getAdded().isEmpty()) {
+                    addAll(edit.getFrom(), edit.getAdded());
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    // The base class adds and removes one element (and builds one change) at a time,
+    // which is quadratic on an ArrayList for removals. These work on whole ranges instead.
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (c.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            delegate.addAll(index, c);
+            nextAdd(index, index + c.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> range = delegate.subList(fromIndex, toIndex);
+            nextRemove(fromIndex, new ArrayList<>(range));
+            range.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeMatching(c, true);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeMatching(c, false);
+    }
+
+    private boolean removeMatching(Collection<?> c, boolean removeIfContained) {
+        List<E> kept = new ArrayList<>(delegate.size());
+        boolean changed = false;
+        beginChange();
+        try {
+            int i = 0;
+            while (i < delegate.size()) {
+                if (c.contains(delegate.get(i)) != removeIfContained) {
+                    kept.add(delegate.get(i++));
+                    continue;
+                }
+                int start = i;
+                while (i < delegate.size() && c.contains(delegate.get(i)) == removeIfContained) {
+                    i++;
+                }
+                // Indices are relative to the list with the earlier runs already removed
+                nextRemove(kept.size(), new ArrayList<>(delegate.subList(start, i)));
+                changed = true;
+            }
+            if (changed) {
+                delegate = kept;
+                modCount++;
+            }
+        } finally {
+            endChange();
+        }
+        return changed;
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        delegate.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return delegate.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return delegate.remove(index);
+    }
+}
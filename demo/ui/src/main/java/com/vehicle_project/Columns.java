@@ -0,0 +1,144 @@
+package com.vehicle_project;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+
+// Typed TableColumn factory used by the admin and customer tables.
+// Columns bind through method references instead of PropertyValueFactory reflection.
+// Read-only fields get one wrapper per row that is reused on every later cell request.
+// Formatted cells keep the text per row and only format again when the value changed,
+// so scrolling back and forth over rows that were already shown allocates nothing.
+public final class Columns {
+
+    public static final String GREEN_BOLD = "-fx-text-fill: green; -fx-font-weight: bold;";
+    public static final String RED_BOLD = "-fx-text-fill: red; -fx-font-weight: bold;";
+    public static final String ORANGE_BOLD = "-fx-text-fill: orange; -fx-font-weight: bold;";
+    public static final String BLUE_BOLD = "-fx-text-fill: blue; -fx-font-weight: bold;";
+
+    private Columns() {
+    }
+
+    // Column over a value that never changes for a row (IDs, names, dates)
+    public static <S, T> TableColumn<S, T> constant(String title, double prefWidth, Function<S, T> getter) {
+        TableColumn<S, T> column = new TableColumn<>(title);
+        column.setPrefWidth(prefWidth);
+        Map<S, ReadOnlyObjectWrapper<T>> wrappers = new WeakHashMap<>();
+        column.setCellValueFactory(cellData -> {
+            S row = cellData.getValue();
+            ReadOnlyObjectWrapper<T> wrapper = wrappers.get(row);
+            if (wrapper == null) {
+                wrapper = new ReadOnlyObjectWrapper<>(getter.apply(row));
+                wrappers.put(row, wrapper);
+            }
+            return wrapper;
+        });
+        return column;
+    }
+
+    // Column over an observable property of the row (quantity, status, ...)
+    public static <S, T> TableColumn<S, T> observable(String title, double prefWidth,
+                                                      Function<S, ? extends ObservableValue<T>> getter) {
+        TableColumn<S, T> column = new TableColumn<>(title);
+        column.setPrefWidth(prefWidth);
+        column.setCellValueFactory(cellData -> getter.apply(cellData.getValue()));
+        return column;
+    }
+
+    // Show the value through formatter; style (may be null) gives the cell's CSS for the value
+    public static <S, T> TableColumn<S, T> text(TableColumn<S, T> column, Function<? super T, String> formatter,
+                                                Function<? super T, String> style) {
+        column.setCellFactory(col -> new FormattedCell<>(formatter, style, null));
+        return column;
+    }
+
+    // Like text(), but formatted strings are kept per row (for currency, dates)
+    public static <S, T> TableColumn<S, T> cachedText(TableColumn<S, T> column, Function<? super T, String> formatter,
+                                                      String style) {
+        Map<S, CachedText> cache = new WeakHashMap<>();
+        column.setCellFactory(col -> new FormattedCell<>(formatter, style == null ? null : value -> style, cache));
+        return column;
+    }
+
+    // Shared formatters and styles; all return constant strings so cells never build new ones
+
+    public static String yesNo(Boolean value) {
+        return value ? "Yes" : "No";
+    }
+
+    public static String yesNoStyle(Boolean value) {
+        return value ? GREEN_BOLD : RED_BOLD;
+    }
+
+    public static String statusStyle(Booking.BookingStatus status) {
+        switch (status) {
+            case PENDING:
+                return ORANGE_BOLD;
+            case APPROVED:
+                return GREEN_BOLD;
+            case REJECTED:
+            case CANCELLED:
+                return RED_BOLD;
+            case COMPLETED:
+                return BLUE_BOLD;
+            default:
+                return "";
+        }
+    }
+
+    private static final class CachedText {
+        private Object value;
+        private String text;
+    }
+
+    private static final class FormattedCell<S, T> extends TableCell<S, T> {
+        private final Function<? super T, String> formatter;
+        private final Function<? super T, String> style;
+        private final Map<S, CachedText> cache;
+
+        FormattedCell(Function<? super T, String> formatter, Function<? super T, String> style,
+                      Map<S, CachedText> cache) {
+            this.formatter = formatter;
+            this.style = style;
+            this.cache = cache;
+        }
+
+        @Override
+        protected void updateItem(T item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                setText(null);
+                setStyle("");
+                return;
+            }
+            setText(cache == null ? formatter.apply(item) : cachedText(item));
+            if (style != null) {
+                setStyle(style.apply(item));
+            }
+        }
+
+        private String cachedText(T item) {
+            S row = getTableRow() == null ? null : getTableRow().getItem();
+            if (row == null) {
+                return formatter.apply(item);
+            }
+            CachedText cached = cache.get(row);
+            if (cached == null) {
+                cached = new CachedText();
+                cache.put(row, cached);
+            }
+            // The value acts as the row version: format again only when it changed
+            if (cached.text == null || !Objects.equals(cached.value, item)) {
+                cached.value = item;
+                cached.text = formatter.apply(item);
+            }
+            return cached.text;
+        }
+    }
+}
@@ -4,24 +4,84 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.collections.transformation.FilteredList;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
-public class CustomerView extends BorderPane {
+public class CustomerView extends BorderPane implements ViewCache.SessionView<Customer> {
     
     private Customer customer;
     private TableView<Vehicle> vehicleTable;
     private TableView<Booking> bookingTable;
+    private Label welcomeLabel;
+    private Label notificationLabel;
+    private TabPane tabPane;
+    private FilteredList<Booking> customerBookings;
+    private final List<DomainEventBus.Subscription> subscriptions = new ArrayList<>();
+    
+    private static final String RENT_STYLE = "-fx-background-color: #4CAF50; -fx-text-fill: white; " +
+                                             "-fx-font-weight: bold; -fx-cursor: hand;";
+    private static final String WAITLIST_STYLE = "-fx-background-color: #FF9800; -fx-text-fill: white; " +
+                                                 "-fx-font-weight: bold; -fx-cursor: hand;";
     
     public CustomerView(Customer customer) {
         this.customer = customer;
         initializeUI();
+        subscribeToEvents();
+    }
+    
+    private void subscribeToEvents() {
+        // Table cells follow the Vehicle/Booking properties on their own; this only
+        // tells the customer as soon as an admin acts on one of their bookings
+        subscriptions.add(DataManager.getEventBus().subscribe("customer-view-bookings", DomainEvent.class,
+                javafx.application.Platform::runLater, events -> {
+            for (DomainEvent event : events) {
+                if (event instanceof DomainEvent.BookingApproved) {
+                    Booking booking = ((DomainEvent.BookingApproved) event).getBooking();
+                    if (booking.getCustomer().equals(customer)) {
+                        notificationLabel.setText("Booking " + booking.getBookingId() + " was approved!");
+                    }
+                } else if (event instanceof DomainEvent.WaitlistPromoted) {
+                    Booking booking = ((DomainEvent.WaitlistPromoted) event).getBooking();
+                    if (booking.getCustomer().equals(customer)) {
+                        notificationLabel.setText("Your turn! " + booking.getRentedItem().getDescription()
+                                                + " is back - request " + booking.getBookingId() + " was sent");
+                    }
+                } else if (event instanceof DomainEvent.BookingStatusChanged) {
+                    Booking booking = ((DomainEvent.BookingStatusChanged) event).getBooking();
+                    if (booking.getCustomer().equals(customer)) {
+                        notificationLabel.setText("Booking " + booking.getBookingId() + " is now " + booking.getStatus());
+                    }
+                }
+            }
+        }));
+    }
+    
+    // Hand the already built view to the next customer: only the session-specific parts change
+    @Override
+    public void rebind(Customer customer) {
+        this.customer = customer;
+        welcomeLabel.setText("Welcome, " + customer.getName());
+        notificationLabel.setText("");
+        customerBookings.setPredicate(booking -> booking.getCustomer().equals(customer));
+        vehicleTable.getSelectionModel().clearSelection();
+        bookingTable.getSelectionModel().clearSelection();
+        tabPane.getSelectionModel().selectFirst();
+        subscribeToEvents();
+    }
+    
+    // Stop listening to domain events once this view is no longer shown
+    @Override
+    public void unbind() {
+        subscriptions.forEach(DomainEventBus.Subscription::close);
+        subscriptions.clear();
+        customer = null;
     }
     
     private void initializeUI() {
@@ -42,10 +102,15 @@ public class CustomerView extends BorderPane {
         header.setStyle("-fx-background-color: #2196F3; -fx-background-radius: 5;");
         
         // Welcome label
-        Label welcomeLabel = new Label("Welcome, " + customer.getName());
+        welcomeLabel = new Label("Welcome, " + customer.getName());
         welcomeLabel.setFont(Font.font("System", FontWeight.BOLD, 18));
         welcomeLabel.setStyle("-fx-text-fill: white;");
         
+        // Notifications (e.g. booking approved)
+        notificationLabel = new Label();
+        notificationLabel.setFont(Font.font("System", FontWeight.BOLD, 13));
+        notificationLabel.setStyle("-fx-text-fill: #FFEB3B;");
+        
         // Spacer
         javafx.scene.layout.Region spacer = new javafx.scene.layout.Region();
         HBox.setHgrow(spacer, javafx.scene.layout.Priority.ALWAYS);
@@ -56,12 +121,12 @@ public class CustomerView extends BorderPane {
                           "-fx-font-weight: bold; -fx-cursor: hand;");
         logoutBtn.setOnAction(e -> Main.showLoginView());
         
-        header.getChildren().addAll(welcomeLabel, spacer, logoutBtn);
+        header.getChildren().addAll(welcomeLabel, notificationLabel, spacer, logoutBtn);
         return header;
     }
     
     private TabPane createTabPane() {
-        TabPane tabPane = new TabPane();
+        tabPane = new TabPane();
         tabPane.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
         
         // Tab 1: Rent Vehicle
@@ -86,90 +151,45 @@ public class CustomerView extends BorderPane {
         
         // Create vehicle table
         vehicleTable = new TableView<>();
-        vehicleTable.setItems(DataManager.getVehicleList());
+        FxDataManager.setSortedItems(vehicleTable, FxDataManager.getVehicleList());
         vehicleTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
         
-        // ID Column
-        TableColumn<Vehicle, String> idCol = new TableColumn<>("ID");
-        idCol.setCellValueFactory(new PropertyValueFactory<>("vehicleId"));
-        idCol.setPrefWidth(80);
-        
-        // Brand Column
-        TableColumn<Vehicle, String> brandCol = new TableColumn<>("Brand");
-        brandCol.setCellValueFactory(new PropertyValueFactory<>("brand"));
-        brandCol.setPrefWidth(100);
-        
-        // Model Column
-        TableColumn<Vehicle, String> modelCol = new TableColumn<>("Model");
-        modelCol.setCellValueFactory(new PropertyValueFactory<>("model"));
-        modelCol.setPrefWidth(120);
-        
-        // Year Column
-        TableColumn<Vehicle, Integer> yearCol = new TableColumn<>("Year");
-        yearCol.setCellValueFactory(new PropertyValueFactory<>("year"));
-        yearCol.setPrefWidth(80);
-        
-        // Price Per Day Column
-        TableColumn<Vehicle, Double> priceCol = new TableColumn<>("Price/Day");
-        priceCol.setCellValueFactory(new PropertyValueFactory<>("pricePerDay"));
-        priceCol.setPrefWidth(100);
-        priceCol.setCellFactory(col -> new TableCell<Vehicle, Double>() {
-            @Override
-            protected void updateItem(Double price, boolean empty) {
-                super.updateItem(price, empty);
-                if (empty || price == null) {
-                    setText(null);
-                } else {
-                    setText(String.format("$%.2f", price));
-                }
-            }
-        });
-        
-        // Available Column
-        TableColumn<Vehicle, Boolean> availCol = new TableColumn<>("Available");
-        availCol.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleBooleanProperty(cellData.getValue().isAvailable())
-        );
-        availCol.setPrefWidth(100);
-        availCol.setCellFactory(col -> new TableCell<Vehicle, Boolean>() {
-            @Override
-            protected void updateItem(Boolean available, boolean empty) {
-                super.updateItem(available, empty);
-                if (empty || available == null) {
-                    setText(null);
-                } else {
-                    setText(available ? "Yes" : "No");
-                    setStyle(available ? "-fx-text-fill: green; -fx-font-weight: bold;" 
-                                      : "-fx-text-fill: red; -fx-font-weight: bold;");
-                }
-            }
-        });
-        
-        // Action Column
-        TableColumn<Vehicle, Void> actionCol = new TableColumn<>("Action");
+        // Columns bind through method references; price and availability follow the vehicle's properties
+        TableColumn<Vehicle, String> idCol = Columns.constant("ID", 80, Vehicle::getVehicleId);
+        TableColumn<Vehicle, String> brandCol = Columns.constant("Brand", 100, Vehicle::getBrand);
+        TableColumn<Vehicle, String> modelCol = Columns.constant("Model", 120, Vehicle::getModel);
+        TableColumn<Vehicle, Integer> yearCol = Columns.constant("Year", 80, Vehicle::getYear);
+        TableColumn<Vehicle, Money> priceCol = Columns.cachedText(
+            Columns.observable("Price/Day", 100, FxProperties::pricePerDay), Money::toString, null);
+        TableColumn<Vehicle, Boolean> availCol = Columns.text(
+            Columns.observable("Available", 100, FxProperties::available), Columns::yesNo, Columns::yesNoStyle);
+        
+        // Action Column (follows availability: rent when in stock, waitlist when not)
+        TableColumn<Vehicle, Boolean> actionCol = new TableColumn<>("Action");
+        actionCol.setCellValueFactory(cellData -> FxProperties.available(cellData.getValue()));
         actionCol.setPrefWidth(120);
-        actionCol.setCellFactory(col -> new TableCell<Vehicle, Void>() {
+        actionCol.setCellFactory(col -> new TableCell<Vehicle, Boolean>() {
             private final Button rentBtn = new Button("Rent Vehicle");
             
             {
-                rentBtn.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white; " +
-                               "-fx-font-weight: bold; -fx-cursor: hand;");
+                rentBtn.setStyle(RENT_STYLE);
                 rentBtn.setOnAction(e -> {
                     Vehicle vehicle = getTableView().getItems().get(getIndex());
                     if (vehicle != null) {
-                        showCreateBookingDialog(vehicle);
+                        showCreateBookingDialog(vehicle, !vehicle.isAvailable());
                     }
                 });
             }
             
             @Override
-            protected void updateItem(Void item, boolean empty) {
-                super.updateItem(item, empty);
-                if (empty) {
+            protected void updateItem(Boolean available, boolean empty) {
+                super.updateItem(available, empty);
+                if (empty || available == null) {
                     setGraphic(null);
                 } else {
-                    Vehicle vehicle = getTableView().getItems().get(getIndex());
-                    rentBtn.setDisable(!vehicle.isAvailable());
+                    // Out of stock: offer the waitlist instead of a dead button
+                    rentBtn.setText(available ? "Rent Vehicle" : "Join Waitlist");
+                    rentBtn.setStyle(available ? RENT_STYLE : WAITLIST_STYLE);
                     setGraphic(rentBtn);
                 }
             }
@@ -193,87 +213,28 @@ public class CustomerView extends BorderPane {
         bookingTable = new TableView<>();
         
         // Filter bookings to only show current customer's bookings
-        FilteredList<Booking> filteredBookings = new FilteredList<>(
-            DataManager.getBookingList(),
-            booking -> booking.getCustomer().equals(customer)
+        Customer owner = customer;
+        customerBookings = new FilteredList<>(
+            FxDataManager.getBookingList(),
+            booking -> booking.getCustomer().equals(owner)
         );
         
-        bookingTable.setItems(filteredBookings);
+        FxDataManager.setSortedItems(bookingTable, customerBookings);
         bookingTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
         
-        // Booking ID Column
-        TableColumn<Booking, String> bookingIdCol = new TableColumn<>("Booking ID");
-        bookingIdCol.setCellValueFactory(new PropertyValueFactory<>("bookingId"));
-        bookingIdCol.setPrefWidth(100);
-        
-        // Vehicle Description Column
-        TableColumn<Booking, String> vehicleCol = new TableColumn<>("Vehicle Description");
-        vehicleCol.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleStringProperty(
-                cellData.getValue().getRentedItem().getDescription()
-            )
-        );
-        vehicleCol.setPrefWidth(200);
-        
-        // Rental Date Column
-        TableColumn<Booking, LocalDate> rentalDateCol = new TableColumn<>("Rental Date");
-        rentalDateCol.setCellValueFactory(new PropertyValueFactory<>("rentalDate"));
-        rentalDateCol.setPrefWidth(120);
-        
-        // Return Date Column
-        TableColumn<Booking, LocalDate> returnDateCol = new TableColumn<>("Return Date");
-        returnDateCol.setCellValueFactory(new PropertyValueFactory<>("returnDate"));
-        returnDateCol.setPrefWidth(120);
-        
-        // Total Cost Column
-        TableColumn<Booking, Double> costCol = new TableColumn<>("Total Cost");
-        costCol.setCellValueFactory(new PropertyValueFactory<>("totalCost"));
-        costCol.setPrefWidth(100);
-        costCol.setCellFactory(col -> new TableCell<Booking, Double>() {
-            @Override
-            protected void updateItem(Double cost, boolean empty) {
-                super.updateItem(cost, empty);
-                if (empty || cost == null) {
-                    setText(null);
-                } else {
-                    setText(String.format("$%.2f", cost));
-                }
-            }
-        });
-        
-        // Status Column
-        TableColumn<Booking, Booking.BookingStatus> statusCol = new TableColumn<>("Status");
-        statusCol.setCellValueFactory(new PropertyValueFactory<>("status"));
-        statusCol.setPrefWidth(120);
-        statusCol.setCellFactory(col -> new TableCell<Booking, Booking.BookingStatus>() {
-            @Override
-            protected void updateItem(Booking.BookingStatus status, boolean empty) {
-                super.updateItem(status, empty);
-                if (empty || status == null) {
-                    setText(null);
-                    setStyle("");
-                } else {
-                    setText(status.toString());
-                    switch (status) {
-                        case PENDING:
-                            setStyle("-fx-text-fill: orange; -fx-font-weight: bold;");
-                            break;
-                        case APPROVED:
-                            setStyle("-fx-text-fill: green; -fx-font-weight: bold;");
-                            break;
-                        case REJECTED:
-                        case CANCELLED:
-                            setStyle("-fx-text-fill: red; -fx-font-weight: bold;");
-                            break;
-                        case COMPLETED:
-                            setStyle("-fx-text-fill: blue; -fx-font-weight: bold;");
-                            break;
-                        default:
-                            setStyle("");
-                    }
-                }
-            }
-        });
+        // Only the status of a booking changes after it is created
+        TableColumn<Booking, String> bookingIdCol = Columns.constant("Booking ID", 100, Booking::getBookingId);
+        TableColumn<Booking, String> vehicleCol = Columns.constant("Vehicle Description", 200,
+            booking -> booking.getRentedItem().getDescription());
+        TableColumn<Booking, LocalDate> rentalDateCol = Columns.cachedText(
+            Columns.constant("Rental Date", 120, Booking::getRentalDate), LocalDate::toString, null);
+        TableColumn<Booking, LocalDate> returnDateCol = Columns.cachedText(
+            Columns.constant("Return Date", 120, Booking::getReturnDate), LocalDate::toString, null);
+        TableColumn<Booking, Money> costCol = Columns.cachedText(
+            Columns.constant("Total Cost", 100, Booking::getTotalCost), Money::toString, null);
+        TableColumn<Booking, Booking.BookingStatus> statusCol = Columns.text(
+            Columns.observable("Status", 120, FxProperties::status), Booking.BookingStatus::toString,
+            Columns::statusStyle);
         
         bookingTable.getColumns().addAll(bookingIdCol, vehicleCol, rentalDateCol, 
                                         returnDateCol, costCol, statusCol);
@@ -282,13 +243,14 @@ public class CustomerView extends BorderPane {
         return container;
     }
     
-    private void showCreateBookingDialog(Vehicle vehicle) {
+    // joinWaitlist: the vehicle is out of stock, so the dates go on its waitlist instead
+    private void showCreateBookingDialog(Vehicle vehicle, boolean joinWaitlist) {
         Dialog<Booking> dialog = new Dialog<>();
-        dialog.setTitle("Rent Vehicle");
-        dialog.setHeaderText("Create Booking for: " + vehicle.getDescription());
+        dialog.setTitle(joinWaitlist ? "Join Waitlist" : "Rent Vehicle");
+        dialog.setHeaderText((joinWaitlist ? "Wait for: " : "Create Booking for: ") + vehicle.getDescription());
         
         // Dialog buttons
-        ButtonType rentButtonType = new ButtonType("Rent", ButtonBar.ButtonData.OK_DONE);
+        ButtonType rentButtonType = new ButtonType(joinWaitlist ? "Join" : "Rent", ButtonBar.ButtonData.OK_DONE);
         dialog.getDialogPane().getButtonTypes().addAll(rentButtonType, ButtonType.CANCEL);
         
         // Dialog content
@@ -334,14 +296,26 @@ public class CustomerView extends BorderPane {
         priceLabel.setFont(Font.font("System", FontWeight.BOLD, 14));
         priceLabel.setStyle("-fx-text-fill: #2196F3;");
         
-        // Update price when dates change
+        Label availabilityLabel = new Label();
+        availabilityLabel.setFont(Font.font("System", 12));
+
+        // Update price and availability when dates change
         Runnable updatePrice = () -> {
             LocalDate rental = rentalDatePicker.getValue();
             LocalDate returnDate = returnDatePicker.getValue();
             if (rental != null && returnDate != null && !returnDate.isBefore(rental)) {
-                long days = java.time.temporal.ChronoUnit.DAYS.between(rental, returnDate);
-                double cost = vehicle.getRentalPrice((int) days);
-                priceLabel.setText(String.format("Estimated Cost: $%.2f", cost));
+                PricingEngine.Quote quote = DataManager.getPricingEngine().quote(vehicle, rental, returnDate);
+                String details = "";
+                if (quote.getSurcharge().isPositive()) {
+                    details += " (incl. " + quote.getSurcharge() + " high-demand surcharge";
+                }
+                if (quote.getDiscount().isPositive()) {
+                    details += (details.isEmpty() ? " (" : ", ") + quote.getDiscount() + " long-stay discount";
+                }
+                priceLabel.setText("Estimated Cost: " + quote.getTotal() + (details.isEmpty() ? "" : details + ")"));
+                int free = DataManager.getAvailabilityCache().getFreeUnits(vehicle, rental, returnDate);
+                availabilityLabel.setText(free == 0 ? "Fully booked for these dates"
+                                                    : free + " unit(s) free for these dates");
             }
         };
         
@@ -353,7 +327,8 @@ public class CustomerView extends BorderPane {
             rentalDateLabel, rentalDatePicker,
             returnDateLabel, returnDatePicker,
             new Separator(),
-            priceLabel
+            priceLabel,
+            availabilityLabel
         );
         
         dialog.getDialogPane().setContent(content);
@@ -377,6 +352,15 @@ public class CustomerView extends BorderPane {
                         return null;
                     }
                     
+                    if (joinWaitlist) {
+                        DataManager.getWaitlist().join(customer, vehicle, rentalDate, returnDate);
+                        showAlert(Alert.AlertType.INFORMATION, "Joined Waitlist",
+                                "You are number " + DataManager.getWaitlist().getPosition(customer, vehicle) +
+                                " in line for " + vehicle.getDescription() + ".\n" +
+                                "A booking request is sent for you as soon as a unit comes back.");
+                        return null;
+                    }
+                    
                     // Create booking using customer's requestVehicle method
                     Booking booking = customer.requestVehicle(vehicle, rentalDate, returnDate);
                     return booking;
@@ -393,13 +377,9 @@ public class CustomerView extends BorderPane {
         // Show dialog and handle result
         Optional<Booking> result = dialog.showAndWait();
         result.ifPresent(booking -> {
-            // Add booking to DataManager
+            // Add booking to DataManager (the filtered My Bookings table picks it up)
             DataManager.getBookingList().add(booking);
             
-            // Refresh tables
-            vehicleTable.refresh();
-            bookingTable.refresh();
-            
             // Show success message
             showAlert(Alert.AlertType.INFORMATION, "Booking Created", 
                     "Booking " + booking.getBookingId() + " has been created successfully!\n" +
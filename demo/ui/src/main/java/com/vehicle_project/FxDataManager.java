@@ -0,0 +1,102 @@
+package com.vehicle_project;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.TableView;
+
+// JavaFX side of DataManager: ObservableList mirrors of the core lists for tables and charts.
+// Each mirror follows its ChangeList by replaying the edits on the FX thread, one change
+// event per core change. Write through DataManager; the mirrors are read-only views
+// (wrap them in a SortedList for sortable tables).
+public class FxDataManager {
+
+    private static ObservableList<Vehicle> vehicleList;
+    private static ObservableList<Booking> bookingList;
+    private static ObservableList<Customer> customerList;
+    private static ObservableList<Admin> adminList;
+    private static ObservableList<Payment> paymentList;
+
+    private FxDataManager() {
+    }
+
+    // Mirrors are created on first use, so they only cost anything once a view asks
+    public static synchronized ObservableList<Vehicle> getVehicleList() {
+        if (vehicleList == null) {
+            vehicleList = mirror(DataManager.getVehicleList());
+        }
+        return vehicleList;
+    }
+
+    public static synchronized ObservableList<Booking> getBookingList() {
+        if (bookingList == null) {
+            bookingList = mirror(DataManager.getBookingList());
+        }
+        return bookingList;
+    }
+
+    public static synchronized ObservableList<Customer> getCustomerList() {
+        if (customerList == null) {
+            customerList = mirror(DataManager.getCustomerList());
+        }
+        return customerList;
+    }
+
+    public static synchronized ObservableList<Admin> getAdminList() {
+        if (adminList == null) {
+            adminList = mirror(DataManager.getAdminList());
+        }
+        return adminList;
+    }
+
+    public static synchronized ObservableList<Payment> getPaymentList() {
+        if (paymentList == null) {
+            paymentList = mirror(DataManager.getPaymentList());
+        }
+        return paymentList;
+    }
+
+    // Show rows in table; header clicks sort a SortedList view instead of the mirror itself
+    public static <S> void setSortedItems(TableView<S> table, ObservableList<S> rows) {
+        SortedList<S> sorted = new SortedList<>(rows);
+        sorted.comparatorProperty().bind(table.comparatorProperty());
+        table.setItems(sorted);
+    }
+
+    private static <E> ObservableList<E> mirror(ChangeList<E> source) {
+        Mirror<E> mirror = new Mirror<>();
+        source.addListenerAndReplay(mirror);
+        return mirror.view;
+    }
+
+    // Edits are queued in the order the core made them and replayed on the FX thread.
+    // A change made on the FX thread drains the queue at once, so the table is already
+    // up to date when the handler that made it returns.
+    private static final class Mirror<E> implements ChangeList.Listener<E> {
+        private final BatchedObservableList<E> target = new BatchedObservableList<>();
+        private final ObservableList<E> view = FXCollections.unmodifiableObservableList(target);
+        private final Queue<List<ChangeList.Edit<E>>> pending = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void onChanged(List<ChangeList.Edit<E>> edits) {
+            pending.add(edits);
+            if (Platform.isFxApplicationThread()) {
+                drain();
+            } else {
+                Platform.runLater(this::drain);
+            }
+        }
+
+        private void drain() {
+            List<ChangeList.Edit<E>> edits;
+            while ((edits = pending.poll()) != null) {
+                target.applyEdits(edits);
+            }
+        }
+    }
+}
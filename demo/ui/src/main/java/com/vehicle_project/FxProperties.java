@@ -0,0 +1,111 @@
+package com.vehicle_project;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+// Observable views of the mutable fields of vehicles and bookings, for table cells.
+// The core entities know nothing about JavaFX; these properties are created on first use,
+// kept in weak maps (they go away with their entity) and updated from the entities' change
+// listeners, on the FX thread. The properties have no bean: a value holding its own weak key
+// would keep the entry alive for good.
+public final class FxProperties {
+
+    private static final class VehicleProperties {
+        private final ReadOnlyObjectWrapper<Money> pricePerDay;
+        private final ReadOnlyIntegerWrapper quantity;
+        private final ReadOnlyBooleanWrapper available;
+
+        private VehicleProperties(Vehicle vehicle) {
+            pricePerDay = new ReadOnlyObjectWrapper<>(null, "pricePerDay", vehicle.getPricePerDay());
+            quantity = new ReadOnlyIntegerWrapper(null, "quantity", vehicle.getQuantity());
+            available = new ReadOnlyBooleanWrapper(null, "available", vehicle.isAvailable());
+        }
+
+        private void update(Vehicle vehicle) {
+            pricePerDay.set(vehicle.getPricePerDay());
+            quantity.set(vehicle.getQuantity());
+            available.set(vehicle.isAvailable());
+        }
+    }
+
+    private static final class BookingProperties {
+        private final ReadOnlyObjectWrapper<Booking.BookingStatus> status;
+        private final ReadOnlyBooleanWrapper paid;
+
+        private BookingProperties(Booking booking) {
+            status = new ReadOnlyObjectWrapper<>(null, "status", booking.getStatus());
+            paid = new ReadOnlyBooleanWrapper(null, "paid", booking.isPaid());
+        }
+
+        private void update(Booking booking) {
+            status.set(booking.getStatus());
+            paid.set(booking.isPaid());
+        }
+    }
+
+    // Only touched on the FX thread
+    private static final Map<Vehicle, VehicleProperties> vehicles = new WeakHashMap<>();
+    private static final Map<Booking, BookingProperties> bookings = new WeakHashMap<>();
+
+    static {
+        Vehicle.addChangeListener(vehicle -> onFxThread(() -> {
+            VehicleProperties properties = vehicles.get(vehicle);
+            if (properties != null) {
+                properties.update(vehicle);
+            }
+        }));
+        Booking.addChangeListener(booking -> onFxThread(() -> {
+            BookingProperties properties = bookings.get(booking);
+            if (properties != null) {
+                properties.update(booking);
+            }
+        }));
+    }
+
+    private FxProperties() {
+    }
+
+    public static ReadOnlyObjectProperty<Money> pricePerDay(Vehicle vehicle) {
+        return of(vehicle).pricePerDay.getReadOnlyProperty();
+    }
+
+    public static ReadOnlyIntegerProperty quantity(Vehicle vehicle) {
+        return of(vehicle).quantity.getReadOnlyProperty();
+    }
+
+    public static ReadOnlyBooleanProperty available(Vehicle vehicle) {
+        return of(vehicle).available.getReadOnlyProperty();
+    }
+
+    public static ReadOnlyObjectProperty<Booking.BookingStatus> status(Booking booking) {
+        return of(booking).status.getReadOnlyProperty();
+    }
+
+    public static ReadOnlyBooleanProperty paid(Booking booking) {
+        return of(booking).paid.getReadOnlyProperty();
+    }
+
+    private static VehicleProperties of(Vehicle vehicle) {
+        return vehicles.computeIfAbsent(vehicle, VehicleProperties::new);
+    }
+
+    private static BookingProperties of(Booking booking) {
+        return bookings.computeIfAbsent(booking, BookingProperties::new);
+    }
+
+    private static void onFxThread(Runnable update) {
+        if (Platform.isFxApplicationThread()) {
+            update.run();
+        } else {
+            Platform.runLater(update);
+        }
+    }
+}
@@ -26,7 +26,7 @@ import javafx.scene.text.FontWeight;
  * @author Vehicle Rental System
  * @version 1.0
  */
-public class LoginView extends VBox {
+public class LoginView extends VBox implements ViewCache.SessionView<Void> {
     
     // ============================================================
     // UI COMPONENTS - Form elements for user input
@@ -321,6 +321,24 @@ public class LoginView extends VBox {
         adminCheckBox.setSelected(false);
     }
     
+    /**
+     * Resets the form when the cached login view is shown again after a logout,
+     * so the previous user's name and email are not left behind.
+     *
+     * @param session unused; the login view has no session
+     */
+    @Override
+    public void rebind(Void session) {
+        clearFields();
+    }
+    
+    /**
+     * Nothing to release: the login view does not listen to the domain.
+     */
+    @Override
+    public void unbind() {
+    }
+    
     /**
      * Sets the initial focus to the name field.
      * This provides better user experience by allowing immediate typing.
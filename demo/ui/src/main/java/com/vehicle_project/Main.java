@@ -0,0 +1,82 @@
+package com.vehicle_project;
+
+import javafx.application.Application;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+public class Main extends Application {
+    
+    private static Stage primaryStage;
+    // Login, customer and admin scenes are built once and rebound on every switch
+    private static final ViewCache views = new ViewCache();
+    private static final String APP_TITLE = "Vehicle Rental Management System";
+    
+    @Override
+    public void start(Stage stage) {
+        primaryStage = stage;
+        primaryStage.setTitle(APP_TITLE);
+        primaryStage.setWidth(1000);
+        primaryStage.setHeight(600);
+        
+        // Keep a queryable copy of everything in the embedded database, written off the FX thread
+        DataManager.enablePersistence(JdbcRentalRepository.open(JdbcRentalRepository.defaultFile()));
+        DataManager.enableAuditLog(AuditLog.open(AuditLog.defaultDirectory()));
+
+        // Initialize sample data
+        DataManager.loadSampleData();
+        
+        // Overdue detection, automatic returns and waitlist hand-outs are handled on the FX thread
+        DataManager.getBookingScheduler().start(javafx.application.Platform::runLater);
+        DataManager.getWaitlist().start(javafx.application.Platform::runLater);
+        
+        // Show login view
+        showLoginView();
+        
+        primaryStage.show();
+    }
+    
+    @Override
+    public void stop() {
+        DataManager.getBookingScheduler().stop();
+        DataManager.getWaitlist().stop();
+        DataManager.disablePersistence();   // writes out anything still queued
+        DataManager.disableAuditLog();
+    }
+
+    public static void showLoginView() {
+        Scene scene = views.show(LoginView.class, LoginView::new, null, 400, 500);
+        setScene(scene, 400, 500, "Login");
+    }
+    
+    public static void showCustomerView(Customer customer) {
+        Scene scene = views.show(CustomerView.class, () -> new CustomerView(customer), customer, 1000, 600);
+        setScene(scene, 1000, 600, "Customer Portal");
+    }
+    
+    public static void showAdminView(Admin admin) {
+        Scene scene = views.show(AdminView.class, () -> new AdminView(admin), admin, 1100, 650);
+        setScene(scene, 1100, 650, "Admin Portal");
+    }
+
+    public static ViewCache getViewCache() {
+        return views;
+    }
+
+    private static void setScene(Scene scene, double width, double height, String name) {
+        primaryStage.setScene(scene);
+        primaryStage.setWidth(width);
+        primaryStage.setHeight(height);
+        primaryStage.centerOnScreen();
+        primaryStage.setTitle(APP_TITLE + " - " + name);
+        System.out.printf("Switched to %s in %.1f ms (views reused: %d, built: %d, evicted: %d)%n",
+            name, views.getLastSwitchNanos() / 1e6, views.getHits(), views.getMisses(), views.getEvictions());
+    }
+    
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
+
+
+
+
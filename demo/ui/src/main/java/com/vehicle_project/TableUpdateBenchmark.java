@@ -0,0 +1,129 @@
+package com.vehicle_project;
+
+import java.util.Arrays;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.stage.Stage;
+
+// Frame-time comparison for the fleet table under 10k visible updates per second:
+//   1. REFRESH    - plain value cells, every change followed by TableView.refresh() (old behaviour)
+//   2. PROPERTIES - Columns-built cells bound to FxProperties.quantity(vehicle), no refresh()
+// Needs a display. Run with the JavaFX modules on the path, e.g.
+//   java --module-path <javafx libs> --add-modules javafx.controls -cp ../core/target/classes:target/classes com.vehicle_project.TableUpdateBenchmark
+public class TableUpdateBenchmark extends Application {
+
+    private static final int ROWS = 10_000;
+    private static final int UPDATES_PER_SECOND = 10_000;
+    private static final long PHASE_NANOS = 5_000_000_000L;
+    private static final int VISIBLE_ROWS = 25;
+
+    private final ObservableList<Vehicle> vehicles = FXCollections.observableArrayList();
+    private TableView<Vehicle> table;
+    private boolean refreshMode = true;
+    private long[] frameNanos = new long[4096];
+    private int frames;
+    private long phaseStart;
+    private long lastFrame;
+    private double pendingUpdates;
+    private int nextRow;
+
+    @Override
+    public void start(Stage stage) {
+        for (int i = 0; i < ROWS; i++) {
+            vehicles.add(new Car("C" + i, "Toyota", "Camry", 2023, 50.0, i % 10, "Sedan"));
+        }
+        table = new TableView<>(vehicles);
+        buildColumns();
+
+        stage.setScene(new Scene(table, 800, 700));
+        stage.setTitle("Table update benchmark");
+        stage.show();
+
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now, this);
+            }
+        }.start();
+    }
+
+    private void buildColumns() {
+        if (!refreshMode) {
+            // The shipped binding layer: cached wrappers, property-bound cells
+            table.getColumns().setAll(Arrays.asList(
+                Columns.constant("ID", 80, Vehicle::getVehicleId),
+                Columns.observable("Quantity", 80, FxProperties::quantity),
+                Columns.text(Columns.observable("Available", 80, FxProperties::available),
+                    Columns::yesNo, Columns::yesNoStyle)));
+            return;
+        }
+        TableColumn<Vehicle, String> idCol = new TableColumn<>("ID");
+        idCol.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getVehicleId()));
+
+        TableColumn<Vehicle, Integer> quantityCol = new TableColumn<>("Quantity");
+        quantityCol.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getQuantity()));
+
+        TableColumn<Vehicle, Boolean> availCol = new TableColumn<>("Available");
+        availCol.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().isAvailable()));
+        table.getColumns().setAll(Arrays.asList(idCol, quantityCol, availCol));
+    }
+
+    private void onFrame(long now, AnimationTimer timer) {
+        if (phaseStart == 0) {
+            phaseStart = now;
+            lastFrame = now;
+            return;
+        }
+        if (frames == frameNanos.length) {
+            frameNanos = Arrays.copyOf(frameNanos, frames * 2);
+        }
+        frameNanos[frames++] = now - lastFrame;
+
+        // Spread the update rate over frames, always on rows that are on screen
+        pendingUpdates += UPDATES_PER_SECOND * (now - lastFrame) / 1e9;
+        lastFrame = now;
+        while (pendingUpdates >= 1) {
+            Vehicle vehicle = vehicles.get(nextRow);
+            vehicle.setQuantity((vehicle.getQuantity() + 1) % 10);
+            if (refreshMode) {
+                table.refresh();
+            }
+            nextRow = (nextRow + 1) % VISIBLE_ROWS;
+            pendingUpdates--;
+        }
+
+        if (now - phaseStart >= PHASE_NANOS) {
+            report(refreshMode ? "REFRESH   " : "PROPERTIES");
+            if (refreshMode) {
+                refreshMode = false;
+                buildColumns();
+                frames = 0;
+                phaseStart = 0;
+            } else {
+                timer.stop();
+                Platform.exit();
+            }
+        }
+    }
+
+    private void report(String mode) {
+        long[] sorted = Arrays.copyOf(frameNanos, frames);
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0) / 1e6;
+        double p50 = sorted[frames / 2] / 1e6;
+        double p99 = sorted[Math.min(frames - 1, (int) (frames * 0.99))] / 1e6;
+        System.out.printf("%s frames=%d  mean=%.2f ms  p50=%.2f ms  p99=%.2f ms%n", mode, frames, mean, p50, p99);
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
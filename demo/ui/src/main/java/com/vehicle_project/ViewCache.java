@@ -0,0 +1,91 @@
+package com.vehicle_project;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+// One Scene per kind of view (login, customer portal, admin portal), reused across logins.
+// Switching users rebinds the existing scene graph to the new session instead of rebuilding
+// every table, column, cell factory and form. A hidden view stops listening to the domain
+// (unbind), so nothing but this cache keeps it alive; it is held softly and the garbage
+// collector drops it when memory runs short. The next switch then builds it again.
+// FX thread only.
+public final class ViewCache {
+
+    // A view that can be handed to another session without being rebuilt
+    public interface SessionView<S> {
+        // Show session's data and start listening; called on every switch to an existing view
+        void rebind(S session);
+
+        // Stop listening and forget the session; called when another view is shown
+        void unbind();
+    }
+
+    private final Map<Class<?>, SoftReference<Scene>> scenes = new HashMap<>();
+    private SessionView<?> shown;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long lastSwitchNanos;
+
+    // The scene for a view of type, bound to session: the cached one if it is still around,
+    // otherwise a new one from factory (which builds the view already bound to session)
+    public <S, V extends Parent & SessionView<S>> Scene show(Class<V> type, Supplier<V> factory, S session,
+                                                           double width, double height) {
+        long start = System.nanoTime();
+        if (shown != null) {
+            shown.unbind();
+            shown = null;
+        }
+
+        SoftReference<Scene> reference = scenes.get(type);
+        Scene scene = reference == null ? null : reference.get();
+        V view;
+        if (scene != null) {
+            hits++;
+            view = type.cast(scene.getRoot());
+            view.rebind(session);
+        } else {
+            if (reference != null) {
+                evictions++;   // built before, collected since
+            }
+            misses++;
+            view = factory.get();
+            scene = new Scene(view, width, height);
+            scenes.put(type, new SoftReference<>(scene));
+        }
+        shown = view;
+
+        // Include CSS and layout, which the next pulse would otherwise do for a new graph
+        view.applyCss();
+        view.layout();
+        lastSwitchNanos = System.nanoTime() - start;
+        return scene;
+    }
+
+    // Drop every cached scene (the shown one stays on screen until the next switch)
+    public void clear() {
+        scenes.clear();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    // Views the garbage collector took back under memory pressure
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getLastSwitchNanos() {
+        return lastSwitchNanos;
+    }
+}